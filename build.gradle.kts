@@ -2,6 +2,7 @@ plugins {
     application
     java
     id("org.openjfx.javafxplugin") version "0.0.14"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories {
@@ -47,6 +48,94 @@ tasks.test {
     }
 }
 
+// JMH benchmarks live in src/jmh/java; run with ./gradlew jmh, optionally -PjmhIncludes=Parser
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
+// Synthetic data for performance testing, e.g. ./gradlew generateWorkload -PworkloadArgs="--tasks 1000000 --commands 5000"
+tasks.register<JavaExec>("generateWorkload") {
+    group = "benchmark"
+    description = "Generates a task file and command script under build/workload."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "rei.tools.WorkloadGenerator"
+    args = providers.gradleProperty("workloadArgs").map { it.trim().split(Regex("\\s+")) }.getOrElse(emptyList())
+}
+
+// In-process replay load test, e.g. ./gradlew replay -PreplayArgs="--tasks 0 --script text-ui-test/input.txt --golden text-ui-test/EXPECTED.TXT"
+tasks.register<JavaExec>("replay") {
+    group = "benchmark"
+    description = "Replays a command script against Rei and reports throughput and latency."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "rei.tools.ReplayHarness"
+    args = providers.gradleProperty("replayArgs").map { it.trim().split(Regex("\\s+")) }.getOrElse(emptyList())
+}
+
+// AppCDS archives of the classes loaded at startup, used by scripts/rei and scripts/rei.bat when present.
+// Each is trained on the jar by one run of Rei and must be rebuilt whenever the jar changes.
+val cdsDirectory = layout.buildDirectory.dir("cds")
+val cdsJar = tasks.jar.flatMap { it.archiveFile }
+val cdsTrainingScript = layout.projectDirectory.file("text-ui-test/input.txt").asFile
+
+tasks.register<JavaExec>("cdsArchiveCli") {
+    group = "distribution"
+    description = "Trains build/cds/rei-cli.jsa by replaying the text UI test on the console."
+    val archive = cdsDirectory.get().file("rei-cli.jsa").asFile
+    val trainingDirectory = cdsDirectory.get().dir("train-cli").asFile
+    val trainingScript = cdsTrainingScript
+    classpath(cdsJar)
+    mainClass = "rei.Rei"
+    jvmArgs("-XX:ArchiveClassesAtExit=${archive.absolutePath}")
+    workingDir = trainingDirectory
+    inputs.file(trainingScript)
+    outputs.file(archive)
+    doFirst {
+        // Train on an empty task list, like the text UI test
+        trainingDirectory.deleteRecursively()
+        trainingDirectory.mkdirs()
+        standardInput = trainingScript.inputStream()
+    }
+}
+
+tasks.register<JavaExec>("cdsArchiveGui") {
+    group = "distribution"
+    description = "Trains build/cds/rei-gui.jsa by opening the window until the tasks have loaded."
+    val archive = cdsDirectory.get().file("rei-gui.jsa").asFile
+    val trainingDirectory = cdsDirectory.get().dir("train-gui").asFile
+    classpath(cdsJar)
+    mainClass = "rei.Launcher"
+    jvmArgs("-XX:ArchiveClassesAtExit=${archive.absolutePath}", "-Drei.startup.report", "-Drei.startup.exit=true")
+    workingDir = trainingDirectory
+    outputs.file(archive)
+    doFirst {
+        trainingDirectory.deleteRecursively()
+        trainingDirectory.mkdirs()
+    }
+}
+
+tasks.register("cdsArchive") {
+    group = "distribution"
+    description = "Trains the AppCDS archives for both the console and the window."
+    dependsOn("cdsArchiveCli", "cdsArchiveGui")
+}
+
+// Time to first prompt without and with the archive, e.g. ./gradlew startupReport -PstartupArgs="--gui --archive build/cds/rei-gui.jsa"
+tasks.register<JavaExec>("startupReport") {
+    group = "benchmark"
+    description = "Launches Rei repeatedly and reports the time to first prompt with and without AppCDS."
+    dependsOn("cdsArchiveCli")
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "rei.tools.StartupBenchmark"
+    val defaultArgs = listOf(
+        "--jar", cdsJar.get().asFile.absolutePath,
+        "--archive", cdsDirectory.get().file("rei-cli.jsa").asFile.absolutePath,
+        "--work", layout.buildDirectory.dir("startup").get().asFile.absolutePath)
+    args = defaultArgs + providers.gradleProperty("startupArgs").map { it.trim().split(Regex("\\s+")) }.getOrElse(emptyList())
+}
+
 // Handle duplicate resources
 tasks.processResources {
     duplicatesStrategy = DuplicatesStrategy.EXCLUDE
@@ -0,0 +1,26 @@
+@ECHO OFF
+
+REM launches Rei from the jar built by gradlew jar, using the AppCDS archive from gradlew cdsArchive if present
+REM pass --cli for the console instead of the window
+SET ROOT=%~dp0..
+SET JAR=%ROOT%\build\libs\Rei.jar
+SET MODE=gui
+SET MAIN_CLASS=rei.Launcher
+
+IF "%1"=="--cli" (
+    SET MODE=cli
+    SET MAIN_CLASS=rei.Rei
+    SHIFT
+)
+
+IF NOT EXIST "%JAR%" (
+    ECHO Cannot find %JAR%, run gradlew jar first
+    EXIT /B 1
+)
+
+SET ARCHIVE=%ROOT%\build\cds\rei-%MODE%.jsa
+IF EXIST "%ARCHIVE%" (
+    java -XX:SharedArchiveFile="%ARCHIVE%" -Xshare:auto -cp "%JAR%" %MAIN_CLASS% %1 %2 %3 %4 %5 %6 %7 %8 %9
+) ELSE (
+    java -cp "%JAR%" %MAIN_CLASS% %1 %2 %3 %4 %5 %6 %7 %8 %9
+)
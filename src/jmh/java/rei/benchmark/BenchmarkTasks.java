@@ -0,0 +1,33 @@
+package rei.benchmark;
+
+import java.util.ArrayList;
+
+import rei.task.Task;
+import rei.tools.WorkloadGenerator;
+
+/**
+ * Builds reproducible task lists for the benchmarks.
+ * Tasks come from a {@link WorkloadGenerator} with a fixed seed, so results from
+ * different runs are comparable.
+ */
+final class BenchmarkTasks {
+    private static final long SEED = 42;
+
+    private BenchmarkTasks() {
+    }
+
+    /**
+     * Creates a list of tasks of mixed types.
+     *
+     * @param count the number of tasks
+     * @return the tasks
+     */
+    static ArrayList<Task> create(int count) {
+        WorkloadGenerator generator = new WorkloadGenerator(new WorkloadGenerator.Options().setSeed(SEED));
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(generator.nextTask());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,46 @@
+package rei.benchmark;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import rei.ui.UiInterface;
+
+/**
+ * A user interface that hands every message to a JMH blackhole.
+ * Output is consumed rather than stored, so commands can be benchmarked repeatedly
+ * without the output buffer growing between invocations.
+ */
+final class BlackholeUi implements UiInterface {
+    private final Blackhole blackhole;
+
+    /**
+     * Constructs a BlackholeUi.
+     *
+     * @param blackhole the blackhole consuming all output
+     */
+    BlackholeUi(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void showWelcome() {
+    }
+
+    @Override
+    public String readCommand() {
+        throw new UnsupportedOperationException("Benchmarks do not read input");
+    }
+
+    @Override
+    public void show(String message) {
+        blackhole.consume(message);
+    }
+
+    @Override
+    public void showLine() {
+    }
+
+    @Override
+    public void showError(String message) {
+        blackhole.consume(message);
+    }
+}
@@ -0,0 +1,71 @@
+package rei.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import rei.command.FindCommand;
+import rei.command.ListCommand;
+import rei.exceptions.ReiExceptions;
+import rei.list.TaskList;
+
+/**
+ * Measures the read-only commands that walk the whole task list.
+ * Output goes to a {@link BlackholeUi}, so the cost of formatting every task is included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandBenchmark {
+    @Param({"1000", "100000"})
+    public int taskCount;
+
+    @Param({"ka", "lomi"})
+    public String keyword;
+
+    private TaskList tasks;
+
+    /**
+     * Builds the task list.
+     */
+    @Setup
+    public void setUp() {
+        tasks = new TaskList(BenchmarkTasks.create(taskCount));
+    }
+
+    /**
+     * Searches every task description for the keyword.
+     *
+     * @param blackhole consumes the output
+     * @throws ReiExceptions if the search fails
+     */
+    @Benchmark
+    public void find(Blackhole blackhole) throws ReiExceptions {
+        new FindCommand(keyword).execute(tasks, new BlackholeUi(blackhole), null);
+    }
+
+    /**
+     * Lists every task.
+     *
+     * @param blackhole consumes the output
+     * @throws ReiExceptions if listing fails
+     */
+    @Benchmark
+    public void list(Blackhole blackhole) throws ReiExceptions {
+        new ListCommand().execute(tasks, new BlackholeUi(blackhole), null);
+    }
+}
@@ -0,0 +1,62 @@
+package rei.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rei.command.Command;
+import rei.exceptions.ReiExceptions;
+import rei.parser.Parser;
+
+/**
+ * Measures {@link Parser#parse(String)} for every command shape the parser accepts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+    @Param({
+        "list",
+        "bye",
+        "next",
+        "next 5",
+        "stats",
+        "todo read book #home !high",
+        "deadline return book /by 2024-06-01 18:00",
+        "event meeting /from 2024-06-01 14:00 /to 2024-06-01 16:00",
+        "recur standup /from 2024-06-03 09:00 /to 2024-06-03 09:15 /every week",
+        "recur rent /by 2024-06-01 09:00 /every month",
+        "mark 3",
+        "mark 2 /on 2024-06-10 09:00",
+        "unmark 3",
+        "delete 3",
+        "find book",
+        "filter #home",
+        "agenda 2024-06-01 /to 2024-06-08",
+        "priority 2 high"
+    })
+    public String input;
+
+    /**
+     * Parses one input line.
+     *
+     * @return the parsed command, so that parsing is not optimized away
+     * @throws ReiExceptions if the input is not a valid command
+     */
+    @Benchmark
+    public Command parse() throws ReiExceptions {
+        return Parser.parse(input);
+    }
+}
@@ -0,0 +1,98 @@
+package rei.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rei.exceptions.ReiExceptions;
+import rei.list.TaskList;
+import rei.storage.Storage;
+import rei.task.Task;
+
+/**
+ * Measures loading and saving the task file at several list sizes.
+ * Each run uses its own temporary file, written once during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    private Path directory;
+    private Storage loadStorage;
+    private Storage saveStorage;
+    private TaskList tasks;
+
+    /**
+     * Writes a task file of the requested size.
+     *
+     * @throws IOException if the temporary directory cannot be created
+     * @throws ReiExceptions if the task file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ReiExceptions {
+        directory = Files.createTempDirectory("rei-benchmark");
+        tasks = new TaskList(BenchmarkTasks.create(taskCount));
+        loadStorage = new Storage(directory.resolve("load.txt").toString());
+        loadStorage.save(tasks);
+        saveStorage = new Storage(directory.resolve("save.txt").toString());
+    }
+
+    /**
+     * Deletes the temporary directory along with everything saving left in it, such as lock files.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Loads every task from the file.
+     *
+     * @return the loaded tasks
+     * @throws ReiExceptions if the file cannot be read
+     */
+    @Benchmark
+    public ArrayList<Task> load() throws ReiExceptions {
+        return loadStorage.load();
+    }
+
+    /**
+     * Saves every task to the file.
+     *
+     * @throws ReiExceptions if the file cannot be written
+     */
+    @Benchmark
+    public void save() throws ReiExceptions {
+        saveStorage.save(tasks);
+    }
+}
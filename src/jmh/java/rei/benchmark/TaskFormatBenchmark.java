@@ -0,0 +1,71 @@
+package rei.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import rei.task.Task;
+
+/**
+ * Measures formatting tasks for display and for the data file.
+ * The tasks cycle through every task type, so each benchmark reports the average over the mix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskFormatBenchmark {
+    private static final int TASK_COUNT = 1024;
+
+    private ArrayList<Task> tasks;
+    private int next;
+
+    /**
+     * Builds the tasks to format.
+     */
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkTasks.create(TASK_COUNT);
+    }
+
+    /**
+     * Formats one task for display.
+     *
+     * @param blackhole consumes the formatted task
+     */
+    @Benchmark
+    public void formatForDisplay(Blackhole blackhole) {
+        blackhole.consume(nextTask().toString());
+    }
+
+    /**
+     * Formats one task for the data file.
+     *
+     * @param blackhole consumes the formatted task
+     */
+    @Benchmark
+    public void formatForFile(Blackhole blackhole) {
+        blackhole.consume(nextTask().toFileString());
+    }
+
+    /**
+     * Gets the next task in the cycle.
+     */
+    private Task nextTask() {
+        next = (next + 1) & (TASK_COUNT - 1);
+        return tasks.get(next);
+    }
+}
@@ -0,0 +1,98 @@
+package rei;
+
+import java.net.URL;
+import java.util.function.Supplier;
+
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * Process-wide cache of avatar images shown next to chat messages.
+ * The PNG avatars are decoded once, already scaled to the display size, on a background
+ * thread started at launch; generated fallback avatars are rendered to an image once
+ * per speaker. Building a message bubble therefore never reads or decodes an image.
+ */
+public final class AvatarCache {
+    // Avatar display configuration
+    public static final double AVATAR_SIZE = 40.0;
+    private static final String USER_IMAGE_PATH = "/images/user-avatar.png";
+    private static final String BOT_IMAGE_PATH = "/images/bot-avatar.png";
+
+    private static Image userImage;
+    private static Image botImage;
+    private static boolean isPreloaded;
+
+    // Rendered fallback avatars, only touched on the JavaFX application thread
+    private static Image userFallback;
+    private static Image botFallback;
+
+    private AvatarCache() {
+        // Utility class
+    }
+
+    /**
+     * Starts loading the avatar images in the background. Calling this more than once has no effect.
+     * Safe to call from any thread, typically during application initialization.
+     */
+    public static synchronized void preload() {
+        if (isPreloaded) {
+            return;
+        }
+        userImage = loadScaled(USER_IMAGE_PATH);
+        botImage = loadScaled(BOT_IMAGE_PATH);
+        isPreloaded = true;
+    }
+
+    /**
+     * Gets the cached avatar image for a speaker.
+     * The image may still be loading, in which case views showing it update once it is ready.
+     *
+     * @param isUser true for the user's avatar, false for the bot's
+     * @return the shared image, or null if the image is missing or failed to load
+     */
+    public static synchronized Image getImage(boolean isUser) {
+        preload();
+        Image image = isUser ? userImage : botImage;
+        return image == null || image.isError() ? null : image;
+    }
+
+    /**
+     * Gets the generated fallback avatar for a speaker, rendering it on first use.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param isUser true for the user's avatar, false for the bot's
+     * @param renderer creates the node to render if the avatar is not cached yet
+     * @return the shared rendered image
+     */
+    public static Image getGeneratedAvatar(boolean isUser, Supplier<Node> renderer) {
+        Image cached = isUser ? userFallback : botFallback;
+        if (cached != null) {
+            return cached;
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        Image rendered = renderer.get().snapshot(parameters, null);
+        if (isUser) {
+            userFallback = rendered;
+        } else {
+            botFallback = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * Starts a background load of an image resource, scaled to the avatar size while decoding.
+     *
+     * @return the loading image, or null if the resource does not exist
+     */
+    private static Image loadScaled(String path) {
+        URL resource = AvatarCache.class.getResource(path);
+        if (resource == null) {
+            return null;
+        }
+        return new Image(resource.toExternalForm(), AVATAR_SIZE, AVATAR_SIZE, false, true, true);
+    }
+}
@@ -0,0 +1,64 @@
+package rei;
+
+import javafx.application.Platform;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+
+import rei.metrics.FlightRecording;
+import rei.metrics.RenderEvent;
+import rei.ui.ChatMessage;
+
+/**
+ * A transcript row that renders a chat message with a single, reused DialogBox.
+ * The list view only creates enough cells to fill the viewport and rebinds them
+ * to different messages while scrolling.
+ */
+public class ChatCell extends ListCell<ChatMessage> {
+    private final Runnable onFirstRowShown;
+    private DialogBox dialogBox;
+
+    /**
+     * Constructs an empty ChatCell.
+     */
+    public ChatCell() {
+        this(null);
+    }
+
+    /**
+     * Constructs an empty ChatCell that reports when the first row of the list comes into view.
+     *
+     * @param onFirstRowShown run on the JavaFX application thread after the first row is shown,
+     *     or null to ignore it
+     */
+    public ChatCell(Runnable onFirstRowShown) {
+        this.onFirstRowShown = onFirstRowShown;
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        // Let the cell shrink to the list width so long messages wrap instead of scrolling sideways
+        setPrefWidth(0);
+    }
+
+    @Override
+    protected void updateItem(ChatMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        RenderEvent event = FlightRecording.isRecorderRunning() ? RenderEvent.start() : null;
+        if (dialogBox == null) {
+            dialogBox = DialogBox.getUserDialog(message.getText(), message.isFromUser());
+        } else {
+            dialogBox.update(message.getText(), message.isFromUser());
+        }
+        setGraphic(dialogBox);
+        if (event != null) {
+            event.finish(message.getText().length(), message.isFromUser());
+        }
+
+        if (getIndex() == 0 && onFirstRowShown != null) {
+            // The list cannot change during layout, so run the callback afterwards
+            Platform.runLater(onFirstRowShown);
+        }
+    }
+}
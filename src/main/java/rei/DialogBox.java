@@ -17,11 +17,18 @@ import javafx.scene.shape.Circle;
 
 /**
  * Represents a dialog box consisting of an avatar and a label containing text from the speaker.
- * Supports loading PNG images from resources/images/ folder.
+ * Avatars come from PNG images in resources/images/ folder, shared through {@link AvatarCache}.
  */
 public class DialogBox extends HBox {
+    private static final String USER_STYLE =
+            "-fx-background-color: #E6F3FF; -fx-background-radius: 10; -fx-text-fill: black;";
+    private static final String BOT_STYLE =
+            "-fx-background-color: #F0FFF0; -fx-background-radius: 10; -fx-text-fill: black;";
+
     private Label dialog;
-    private StackPane avatarContainer;
+    private Region spacer;
+    private StackPane userAvatar;
+    private StackPane botAvatar;
 
     private DialogBox(String text, boolean isUser) {
         // Create the text label
@@ -30,67 +37,69 @@ public class DialogBox extends HBox {
         dialog.setMaxWidth(300); // Limit width for better text wrapping
         dialog.setPadding(new Insets(10));
         dialog.setPrefWidth(Region.USE_COMPUTED_SIZE);
-        
-        // Create avatar (try image first, fallback to generated)
-        avatarContainer = createAvatar(isUser);
+
+        // Create spacer to push user messages to the right
+        spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
         
         // Make the HBox fill the full width
         this.setPrefWidth(Region.USE_COMPUTED_SIZE);
         this.setMaxWidth(Double.MAX_VALUE);
         this.setPadding(new Insets(5));
         this.setSpacing(10);
-        
+
+        update(text, isUser);
+    }
+
+    /**
+     * Shows a different message in this dialog box, so that one box can be recycled
+     * for many messages. Avatars are created once per speaker and reused.
+     *
+     * @param text the message content
+     * @param isUser true for a user message, false for a bot message
+     */
+    public void update(String text, boolean isUser) {
+        dialog.setText(text);
+
         if (isUser) {
-            dialog.setStyle("-fx-background-color: #E6F3FF; -fx-background-radius: 10; -fx-text-fill: black;");
-            
-            // Create spacer to push user messages to the right
-            Region spacer = new Region();
-            HBox.setHgrow(spacer, Priority.ALWAYS);
-            
+            if (userAvatar == null) {
+                userAvatar = createAvatar(true);
+            }
+            dialog.setStyle(USER_STYLE);
             // Add spacer first, then dialog and avatar
-            this.getChildren().addAll(spacer, dialog, avatarContainer);
+            this.getChildren().setAll(spacer, dialog, userAvatar);
             this.setAlignment(Pos.CENTER_RIGHT);
         } else {
-            dialog.setStyle("-fx-background-color: #F0FFF0; -fx-background-radius: 10; -fx-text-fill: black;");
-            this.getChildren().addAll(avatarContainer, dialog);
+            if (botAvatar == null) {
+                botAvatar = createAvatar(false);
+            }
+            dialog.setStyle(BOT_STYLE);
+            this.getChildren().setAll(botAvatar, dialog);
             this.setAlignment(Pos.CENTER_LEFT);
         }
     }
 
     /**
-     * Creates avatar - tries to load PNG image from /images/ folder first, 
-     * falls back to generated avatar if not found.
+     * Creates avatar - uses the cached PNG image from /images/ folder first,
+     * falls back to the cached rendering of the generated avatar if not found.
+     * No image is read or decoded here; both come from the shared {@link AvatarCache}.
      */
     private StackPane createAvatar(boolean isUser) {
-        StackPane avatar = new StackPane();
-        avatar.setMinSize(40, 40);
-        avatar.setMaxSize(40, 40);
-        
-        // Try to load image from resources/images/ folder
-        String imagePath = isUser ? "/images/user-avatar.png" : "/images/bot-avatar.png";
-        
-        try {
-            Image avatarImage = new Image(getClass().getResourceAsStream(imagePath));
-            if (!avatarImage.isError() && avatarImage.getWidth() > 0) {
-                ImageView imageView = new ImageView(avatarImage);
-                imageView.setFitWidth(40);
-                imageView.setFitHeight(40);
-                imageView.setPreserveRatio(false); // Fill the entire rectangle
-                imageView.setSmooth(true);
-                
-                // Add rounded corners for rectangle style
-                imageView.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
-                
-                avatar.getChildren().add(imageView);
-                avatar.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
-                return avatar;
-            }
-        } catch (Exception e) {
-            // Image not found, fall back to generated avatar
+        Image avatarImage = AvatarCache.getImage(isUser);
+        if (avatarImage == null) {
+            avatarImage = AvatarCache.getGeneratedAvatar(isUser, () -> createGeneratedAvatar(isUser));
         }
-        
-        // Fallback: Create generated avatar
-        return createGeneratedAvatar(isUser);
+
+        // The image is already scaled to the avatar size, so it is drawn as is
+        ImageView imageView = new ImageView(avatarImage);
+        imageView.setSmooth(true);
+
+        StackPane avatar = new StackPane(imageView);
+        avatar.setMinSize(AvatarCache.AVATAR_SIZE, AvatarCache.AVATAR_SIZE);
+        avatar.setMaxSize(AvatarCache.AVATAR_SIZE, AvatarCache.AVATAR_SIZE);
+        // Add rounded corners for rectangle style
+        avatar.setStyle("-fx-background-radius: 5; -fx-border-radius: 5;");
+        return avatar;
     }
 
     /**
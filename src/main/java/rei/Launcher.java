@@ -5,7 +5,16 @@ package rei;
  * This is a common practice to avoid issues with JavaFX module system.
  */
 public class Launcher {
+    /**
+     * Opens the window, or serves over HTTP without a window when started with {@code --serve}.
+     *
+     * @param args command line arguments
+     */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(Rei.SERVE_FLAG)) {
+            Rei.main(args);
+            return;
+        }
         ReiGui.main(args);
     }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package rei;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+
+import rei.list.LiveSearch;
+import rei.list.TaskList;
+import rei.parser.Parser;
+import rei.task.Task;
+
+/**
+ * A popup above the input field that lists matching tasks while the user types "find ...".
+ * Keystrokes are debounced, and each search runs on the command executor, the only thread
+ * allowed to read the task list. A newer keystroke cancels the search before it.
+ * Only the first few matches are shown.
+ */
+public class LiveSearchPopup extends ContextMenu {
+    // Popup configuration
+    public static final int MAX_ROWS = 8;
+    private static final double DEBOUNCE_MILLIS = 80.0;
+    private static final String NO_MATCHES_TEXT = "No matching tasks";
+
+    private final TextField input;
+    private final Executor executor;
+    private final TaskList tasks;
+    private final LiveSearch search;
+    private final PauseTransition debounce = new PauseTransition(Duration.millis(DEBOUNCE_MILLIS));
+    private String pendingKeyword;
+    private FutureTask<Results> pendingSearch;
+
+    /**
+     * The first few matches of a search and the total number of matches.
+     */
+    private static class Results {
+        private final List<String> rows;
+        private final int totalCount;
+
+        private Results(List<String> rows, int totalCount) {
+            this.rows = rows;
+            this.totalCount = totalCount;
+        }
+    }
+
+    /**
+     * Constructs a LiveSearchPopup that follows the text of the given input field.
+     * Must be called on the JavaFX application thread before commands start running.
+     *
+     * @param input the field the user types commands into
+     * @param executor the executor that runs commands, in order, on a single thread
+     * @param tasks the task list to search
+     */
+    public LiveSearchPopup(TextField input, Executor executor, TaskList tasks) {
+        this.input = input;
+        this.executor = executor;
+        this.tasks = tasks;
+        this.search = new LiveSearch(tasks);
+
+        debounce.setOnFinished(event -> startSearch());
+        input.textProperty().addListener((observable, oldText, newText) -> handleInputChanged(newText));
+    }
+
+    /**
+     * Stops any pending search and hides the popup.
+     */
+    public void cancel() {
+        debounce.stop();
+        cancelPendingSearch();
+        hide();
+    }
+
+    /**
+     * Restarts the debounce timer if the input is a find command, otherwise closes the popup.
+     */
+    private void handleInputChanged(String text) {
+        String keyword = Parser.extractFindKeyword(text);
+        if (keyword == null) {
+            cancel();
+            return;
+        }
+        pendingKeyword = keyword;
+        debounce.playFromStart();
+    }
+
+    /**
+     * Queues a search for the latest keyword, cancelling the previous one.
+     */
+    private void startSearch() {
+        cancelPendingSearch();
+        String keyword = pendingKeyword;
+        FutureTask<Results> task = new FutureTask<>(() -> runSearch(keyword)) {
+            @Override
+            protected void done() {
+                Platform.runLater(() -> showResults(this));
+            }
+        };
+        pendingSearch = task;
+        executor.execute(task);
+    }
+
+    /**
+     * Cancels the pending search, interrupting it if it is running.
+     */
+    private void cancelPendingSearch() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Searches the task list and formats the rows to show. Runs on the command executor thread.
+     */
+    private Results runSearch(String keyword) {
+        int[] matches = search.search(keyword);
+        List<Task> all = tasks.getAll();
+        List<String> rows = new ArrayList<>(Math.min(matches.length, MAX_ROWS));
+        for (int i = 0; i < matches.length && i < MAX_ROWS; i++) {
+            rows.add((matches[i] + 1) + ". " + all.get(matches[i]));
+        }
+        return new Results(rows, matches.length);
+    }
+
+    /**
+     * Displays the results of a finished search, unless a newer search replaced it.
+     */
+    private void showResults(FutureTask<Results> task) {
+        if (task != pendingSearch || task.isCancelled()) {
+            return;
+        }
+        pendingSearch = null;
+
+        Results results;
+        try {
+            results = task.get();
+        } catch (ExecutionException | InterruptedException e) {
+            hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>();
+        for (String row : results.rows) {
+            items.add(new MenuItem(row));
+        }
+        if (results.totalCount == 0) {
+            items.add(createNote(NO_MATCHES_TEXT));
+        } else if (results.totalCount > results.rows.size()) {
+            items.add(createNote("... and " + (results.totalCount - results.rows.size()) + " more"));
+        }
+        getItems().setAll(items);
+
+        if (!isShowing()) {
+            show(input, Side.TOP, 0, 0);
+        }
+    }
+
+    /**
+     * Creates a non-selectable line of text for the popup.
+     */
+    private static MenuItem createNote(String text) {
+        MenuItem note = new MenuItem(text);
+        note.setDisable(true);
+        return note;
+    }
+}
@@ -0,0 +1,89 @@
+package rei;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import rei.list.TaskList;
+import rei.list.TaskListListener;
+import rei.task.Task;
+import rei.ui.TaskRow;
+
+/**
+ * An observable mirror of a TaskList for JavaFX views.
+ * Each add, remove or update in the task list becomes a single change at the same index
+ * in the mirror, applied on the JavaFX application thread, so bound views update only
+ * the affected row instead of redrawing the whole list.
+ */
+public class ObservableTaskList implements TaskListListener {
+    private final ObservableList<TaskRow> rows = FXCollections.observableArrayList();
+
+    /**
+     * Constructs a mirror of the given task list and starts following its changes.
+     * Must be called on the JavaFX application thread before commands start running.
+     *
+     * @param tasks the task list to mirror
+     */
+    public ObservableTaskList(TaskList tasks) {
+        List<TaskRow> initialRows = new ArrayList<>(tasks.size());
+        for (Task task : tasks.getAll()) {
+            initialRows.add(TaskRow.of(task));
+        }
+        rows.setAll(initialRows);
+        tasks.addListener(this);
+    }
+
+    /**
+     * Gets the observable rows, in task list order.
+     * The list must only be read on the JavaFX application thread.
+     *
+     * @return the live list of task snapshots
+     */
+    public ObservableList<TaskRow> getRows() {
+        return rows;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        TaskRow row = TaskRow.of(task);
+        runOnFxThread(() -> rows.add(index, row));
+    }
+
+    @Override
+    public void tasksAdded(int fromIndex, List<Task> added) {
+        List<TaskRow> addedRows = new ArrayList<>(added.size());
+        for (Task task : added) {
+            addedRows.add(TaskRow.of(task));
+        }
+        runOnFxThread(() -> rows.addAll(fromIndex, addedRows));
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        runOnFxThread(() -> rows.remove(index));
+    }
+
+    @Override
+    public void taskUpdated(int index, Task task) {
+        TaskRow row = TaskRow.of(task);
+        runOnFxThread(() -> rows.set(index, row));
+    }
+
+    @Override
+    public void taskReplaced(int index, Task replaced, Task task) {
+        taskUpdated(index, task);
+    }
+
+    /**
+     * Queues a change for the JavaFX application thread. Changes are always queued, even when
+     * made on that thread, so that they are applied in the order they happened.
+     *
+     * @param change the change to apply
+     */
+    private void runOnFxThread(Runnable change) {
+        Platform.runLater(change);
+    }
+}
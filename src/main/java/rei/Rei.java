@@ -1,12 +1,23 @@
 package rei;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
 import rei.ui.Ui;
 import rei.ui.UiInterface;
+import rei.storage.FileWatcher;
+import rei.storage.LoadListener;
 import rei.storage.Storage;
 import rei.list.TaskList;
 import rei.exceptions.ReiExceptions;
 import rei.parser.Parser;
+import rei.metrics.FlightRecording;
+import rei.metrics.Metrics;
+import rei.metrics.StartupTimer;
 import rei.command.Command;
+import rei.reminder.ReminderScheduler;
+import rei.server.ApiServer;
 
 /**
  * The main class for the Rei task management application.
@@ -16,12 +27,16 @@ import rei.command.Command;
 public class Rei {
     
     // Constants for application configuration
-    private static final String DEFAULT_DATA_FILE_PATH = "./data/Rei.txt";
+    public static final String DEFAULT_DATA_FILE_PATH = "./data/Rei.txt";
+    private static final String STARTUP_MODE = "cli";
+    public static final String SERVE_FLAG = "--serve";
     
     // Core application components
     private final UiInterface ui;
     private final Storage storage;
     private final TaskList tasks;
+    // Held while a command or a reload of changes saved by another process uses the task list
+    private final Object taskLock = new Object();
 
     /**
      * Constructs a new Rei application instance with default configuration.
@@ -41,20 +56,66 @@ public class Rei {
      * @throws ReiExceptions if there's an error during initialization
      */
     public Rei(String dataFilePath) throws ReiExceptions {
-        ui = initializeUserInterface();
+        this(dataFilePath, false);
+    }
+    
+    /**
+     * Constructs a new Rei application instance, optionally leaving the task list empty
+     * so that the caller can show a window first and fill it later with {@link #loadTasks(LoadListener)}.
+     *
+     * @param dataFilePath the path to the data file for task storage
+     * @param isLoadDeferred true to skip loading tasks during construction
+     * @throws ReiExceptions if there's an error during initialization
+     */
+    public Rei(String dataFilePath, boolean isLoadDeferred) throws ReiExceptions {
+        this(dataFilePath, isLoadDeferred, initializeUserInterface());
+    }
+    
+    /**
+     * Constructs a new Rei application instance that talks through the given user interface,
+     * such as a scripted one that replays recorded commands.
+     *
+     * @param dataFilePath the path to the data file for task storage
+     * @param ui the user interface to read commands from and show output on
+     * @throws ReiExceptions if there's an error during initialization
+     */
+    public Rei(String dataFilePath, UiInterface ui) throws ReiExceptions {
+        this(dataFilePath, false, ui);
+    }
+    
+    /**
+     * Constructs a new Rei application instance from its user interface and storage location.
+     */
+    private Rei(String dataFilePath, boolean isLoadDeferred, UiInterface ui) throws ReiExceptions {
+        this.ui = ui;
         storage = initializeStorage(dataFilePath);
-        tasks = initializeTaskList();
+        tasks = isLoadDeferred ? new TaskList(new ArrayList<>()) : initializeTaskList();
         
         validateInitialization();
     }
     
+    /**
+     * Loads tasks from storage into the empty task list in chunks, so that views
+     * listening to the list fill in progressively.
+     *
+     * @param progress notified after each chunk has been added to the task list
+     * @throws ReiExceptions if the tasks cannot be loaded
+     */
+    public void loadTasks(LoadListener progress) throws ReiExceptions {
+        assert tasks.size() == 0 : "Tasks can only be loaded into an empty list";
+        storage.load(Storage.DEFAULT_CHUNK_SIZE, (chunk, charactersRead, totalCharacters) -> {
+            tasks.addAll(chunk);
+            progress.chunkLoaded(chunk, charactersRead, totalCharacters);
+        });
+    }
+    
     /**
      * Initializes the user interface component.
      * 
      * @return the initialized UI interface
      * @throws ReiExceptions if UI initialization fails
      */
-    private UiInterface initializeUserInterface() throws ReiExceptions {
+    private static UiInterface initializeUserInterface() throws ReiExceptions {
         try {
             return new Ui();
         } catch (Exception e) {
@@ -121,7 +182,15 @@ public class Rei {
         validateComponentsBeforeRun();
         
         displayWelcomeMessage();
+        Metrics.startDumpIfConfigured();
+        ReminderScheduler reminders = startReminders();
+        StartupTimer.firstPromptShown(STARTUP_MODE);
+        FileWatcher watcher = startWatching();
         executeCommandLoop();
+        if (watcher != null) {
+            watcher.close();
+        }
+        reminders.stop();
     }
     
     /**
@@ -142,6 +211,37 @@ public class Rei {
         ui.showWelcome();
     }
     
+    /**
+     * Schedules reminders for the loaded tasks and starts raising them on the console.
+     *
+     * @return the running reminder scheduler
+     */
+    private ReminderScheduler startReminders() {
+        ReminderScheduler reminders = new ReminderScheduler(ui);
+        reminders.track(tasks);
+        reminders.start();
+        return reminders;
+    }
+    
+    /**
+     * Starts applying changes that other Rei processes save to the data file.
+     * Reloads run on the watcher thread while holding the task lock, between commands.
+     *
+     * @return the running watcher, or null if the data file cannot be watched
+     */
+    private FileWatcher startWatching() {
+        try {
+            return storage.watch(tasks, reload -> {
+                synchronized (taskLock) {
+                    reload.run();
+                }
+            });
+        } catch (ReiExceptions e) {
+            ui.showError(e.getMessage());
+            return null;
+        }
+    }
+    
     /**
      * Executes the main command processing loop.
      * Continues until an exit command is received.
@@ -213,7 +313,9 @@ public class Rei {
      * @throws ReiExceptions if command execution fails
      */
     private void executeCommand(Command command) throws ReiExceptions {
-        command.execute(tasks, ui, storage);
+        synchronized (taskLock) {
+            command.run(tasks, ui, storage);
+        }
     }
     
     /**
@@ -258,10 +360,18 @@ public class Rei {
     /**
      * Entry point for the Rei application.
      * Creates and runs a new Rei instance with proper error handling.
+     * With {@code --serve [PORT]}, serves the tasks over HTTP instead of reading the console,
+     * see {@link ApiServer}.
      *
-     * @param args command line arguments (currently not used)
+     * @param args command line arguments, either empty or {@code --serve [PORT]}
      */
     public static void main(String[] args) {
+        // Started first so that the recording also covers loading the tasks
+        FlightRecording.startIfConfigured();
+        if (args.length > 0 && args[0].equals(SERVE_FLAG)) {
+            serve(args);
+            return;
+        }
         try {
             Rei application = new Rei();
             application.run();
@@ -270,4 +380,23 @@ public class Rei {
             System.exit(1);
         }
     }
+
+    /**
+     * Starts the HTTP server on the directory of the default data file, whose tasks are the
+     * {@value ApiServer#DEFAULT_WORKSPACE} workspace; the server keeps the JVM running.
+     *
+     * @param args the command line arguments, starting with {@value #SERVE_FLAG}
+     */
+    private static void serve(String[] args) {
+        try {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : ApiServer.DEFAULT_PORT;
+            ApiServer.serve(Paths.get(DEFAULT_DATA_FILE_PATH).getParent().toString(), port);
+        } catch (NumberFormatException e) {
+            System.err.println("Failed to start Rei server: the port must be a number");
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Failed to start Rei server: " + e.getMessage());
+            System.exit(1);
+        }
+    }
 }
@@ -1,21 +1,42 @@
 package rei;
 
 import javafx.application.Application;
-import javafx.geometry.Insets;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.SplitPane;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import rei.ui.ChatMessage;
 import rei.ui.GuiUi;
+import rei.ui.Transcript;
+import rei.storage.FileWatcher;
 import rei.storage.Storage;
+import rei.storage.TranscriptArchive;
+import rei.list.Autocomplete;
 import rei.list.TaskList;
 import rei.exceptions.ReiExceptions;
 import rei.parser.Parser;
 import rei.command.Command;
+import rei.metrics.FlightRecording;
+import rei.metrics.Metrics;
+import rei.metrics.StartupTimer;
+import rei.reminder.ReminderScheduler;
 
 /**
  * A GUI for the Rei chatbot using JavaFX.
@@ -24,29 +45,48 @@ import rei.command.Command;
 public class ReiGui extends Application {
     
     // Constants for window sizing
-    private static final double DEFAULT_WINDOW_WIDTH = 500.0;
+    private static final double DEFAULT_WINDOW_WIDTH = 950.0;
     private static final double DEFAULT_WINDOW_HEIGHT = 600.0;
     private static final double MINIMUM_WINDOW_WIDTH = 350.0;
     private static final double MINIMUM_WINDOW_HEIGHT = 400.0;
     
     // Constants for layout spacing and padding
     private static final double STANDARD_PADDING = 10.0;
-    private static final double DIALOG_SPACING = 5.0;
     private static final double INPUT_AREA_HEIGHT = 60.0;
     private static final double SEND_BUTTON_WIDTH = 80.0;
     private static final double INPUT_BUTTON_SPACING = 100.0;
+    private static final double PENDING_INDICATOR_SIZE = 24.0;
+    private static final double CHAT_DIVIDER_POSITION = 0.5;
     
-    // Constants for scroll behavior
-    private static final double SCROLL_TO_BOTTOM = 1.0;
+    // Constants for background command execution
+    private static final String COMMAND_THREAD_NAME = "rei-commands";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
     
     // UI component references
     private Rei rei;
-    private VBox dialogContainer;
-    private ScrollPane scrollPane;
+    private ReminderScheduler reminders;
+    private FileWatcher fileWatcher;
+    private final ObservableList<ChatMessage> messages = FXCollections.observableArrayList();
+    private ListView<ChatMessage> transcript;
+    private Transcript chatHistory;
     private TextField userInput;
     private Button sendButton;
+    private ProgressIndicator pendingIndicator;
+    private ProgressBar loadingBar;
+    private TaskPanel taskPanel;
+    private LiveSearchPopup liveSearchPopup;
+    private TabCompleter tabCompleter;
     private Scene scene;
     
+    // Command execution state, only touched on the JavaFX application thread
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, COMMAND_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+    private FutureTask<String> pendingQuery;
+    private int pendingCommands;
+    
     // Application messages
     private static final String WINDOW_TITLE = "Rei Chatbot";
     private static final String WELCOME_MESSAGE = "Hello! I'm Rei.\nWhat can I do for you?";
@@ -54,6 +94,8 @@ public class ReiGui extends Application {
     private static final String SEND_BUTTON_TEXT = "Send";
     private static final String ERROR_PREFIX = "Error: ";
     private static final String CSS_FILE_PATH = "/styles.css";
+    private static final String TRANSCRIPT_FILE_PATH = "./data/transcript.dat";
+    private static final String STARTUP_MODE = "gui";
 
     @Override
     public void init() throws Exception {
@@ -68,7 +110,11 @@ public class ReiGui extends Application {
      * @throws Exception if Rei initialization fails
      */
     private void initializeReiApplication() throws Exception {
-        rei = new Rei();
+        FlightRecording.startIfConfigured();
+        AvatarCache.preload();
+        Metrics.startDumpIfConfigured();
+        // Tasks are loaded after the window is shown, see startLoadingTasks
+        rei = new Rei(Rei.DEFAULT_DATA_FILE_PATH, true);
         
         if (rei == null) {
             throw new Exception("Failed to initialize Rei application");
@@ -82,6 +128,8 @@ public class ReiGui extends Application {
         setupEventHandlers();
         displayWelcomeMessage();
         applyStyling();
+        startReminders();
+        startLoadingTasks();
     }
     
     /**
@@ -89,28 +137,37 @@ public class ReiGui extends Application {
      * Separates UI creation from layout configuration.
      */
     private void initializeUserInterface() {
-        createScrollableDialogArea();
+        createTranscript();
         createInputComponents();
+        createTaskPanel();
         assembleMainLayout();
     }
     
     /**
-     * Creates the scrollable dialog container for chat messages.
+     * Creates the transcript of chat messages.
+     * The list view is virtualized: only the rows in view exist as nodes, and their cells
+     * are recycled as the user scrolls, so long sessions do not slow down layout.
+     * Only the latest messages are kept in memory; scrolling to the top pages in
+     * earlier ones, including those of previous sessions, from the archive on disk.
      */
-    private void createScrollableDialogArea() {
-        dialogContainer = new VBox();
-        dialogContainer.setPadding(new Insets(STANDARD_PADDING));
-        dialogContainer.setSpacing(DIALOG_SPACING);
-        
-        scrollPane = new ScrollPane();
-        scrollPane.setContent(dialogContainer);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
+    private void createTranscript() {
+        openChatHistory();
+        transcript = new ListView<>(messages);
+        transcript.setCellFactory(listView -> new ChatCell(this::loadEarlierMessages));
+        transcript.setFocusTraversable(false);
+        transcript.getStyleClass().add("transcript");
+    }
+    
+    /**
+     * Creates the side panel listing tasks, kept live by an observable mirror of the task list.
+     */
+    private void createTaskPanel() {
+        taskPanel = new TaskPanel(new ObservableTaskList(rei.getTaskList()));
     }
     
     /**
-     * Creates input field and send button with proper sizing.
+     * Creates input field and send button with proper sizing, the popup
+     * that shows matching tasks while a find command is typed, and Tab completion.
      */
     private void createInputComponents() {
         userInput = new TextField();
@@ -118,18 +175,33 @@ public class ReiGui extends Application {
         
         sendButton = new Button(SEND_BUTTON_TEXT);
         sendButton.setPrefWidth(SEND_BUTTON_WIDTH);
+        
+        pendingIndicator = new ProgressIndicator();
+        pendingIndicator.setPrefSize(PENDING_INDICATOR_SIZE, PENDING_INDICATOR_SIZE);
+        pendingIndicator.setMouseTransparent(true);
+        pendingIndicator.setVisible(false);
+        
+        loadingBar = new ProgressBar(0);
+        loadingBar.setMouseTransparent(true);
+        loadingBar.setVisible(false);
+        
+        liveSearchPopup = new LiveSearchPopup(userInput, commandExecutor, rei.getTaskList());
+        tabCompleter = new TabCompleter(userInput,
+                new Autocomplete(rei.getTaskList(), Parser.getCommandKeywords()));
     }
     
     /**
-     * Assembles the main layout and configures anchoring.
+     * Assembles the main layout and configures anchoring, with the chat beside the task panel.
      */
     private void assembleMainLayout() {
         AnchorPane mainLayout = new AnchorPane();
-        mainLayout.getChildren().addAll(scrollPane, userInput, sendButton);
+        mainLayout.getChildren().addAll(transcript, userInput, sendButton, pendingIndicator, loadingBar);
         
         configureLayoutAnchors(mainLayout);
         
-        scene = new Scene(mainLayout, DEFAULT_WINDOW_WIDTH, DEFAULT_WINDOW_HEIGHT);
+        SplitPane root = new SplitPane(mainLayout, taskPanel);
+        root.setDividerPositions(CHAT_DIVIDER_POSITION);
+        scene = new Scene(root, DEFAULT_WINDOW_WIDTH, DEFAULT_WINDOW_HEIGHT);
     }
     
     /**
@@ -138,11 +210,11 @@ public class ReiGui extends Application {
      * @param mainLayout the layout to configure
      */
     private void configureLayoutAnchors(AnchorPane mainLayout) {
-        // Configure scroll pane anchors (main chat area)
-        AnchorPane.setTopAnchor(scrollPane, STANDARD_PADDING);
-        AnchorPane.setLeftAnchor(scrollPane, STANDARD_PADDING);
-        AnchorPane.setRightAnchor(scrollPane, STANDARD_PADDING);
-        AnchorPane.setBottomAnchor(scrollPane, INPUT_AREA_HEIGHT);
+        // Configure transcript anchors (main chat area)
+        AnchorPane.setTopAnchor(transcript, STANDARD_PADDING);
+        AnchorPane.setLeftAnchor(transcript, STANDARD_PADDING);
+        AnchorPane.setRightAnchor(transcript, STANDARD_PADDING);
+        AnchorPane.setBottomAnchor(transcript, INPUT_AREA_HEIGHT);
         
         // Configure send button anchors (bottom right)
         AnchorPane.setBottomAnchor(sendButton, STANDARD_PADDING);
@@ -152,6 +224,15 @@ public class ReiGui extends Application {
         AnchorPane.setLeftAnchor(userInput, STANDARD_PADDING);
         AnchorPane.setBottomAnchor(userInput, STANDARD_PADDING);
         AnchorPane.setRightAnchor(userInput, INPUT_BUTTON_SPACING);
+        
+        // Configure pending indicator anchors (bottom right corner of the chat area)
+        AnchorPane.setBottomAnchor(pendingIndicator, INPUT_AREA_HEIGHT + STANDARD_PADDING);
+        AnchorPane.setRightAnchor(pendingIndicator, STANDARD_PADDING * 2);
+        
+        // Configure loading bar anchors (across the top of the chat area)
+        AnchorPane.setTopAnchor(loadingBar, STANDARD_PADDING);
+        AnchorPane.setLeftAnchor(loadingBar, STANDARD_PADDING);
+        AnchorPane.setRightAnchor(loadingBar, STANDARD_PADDING);
     }
     
     /**
@@ -185,12 +266,47 @@ public class ReiGui extends Application {
     }
     
     /**
-     * Sets up automatic scroll-to-bottom behavior.
+     * Sets up automatic scroll-to-bottom behavior whenever a message is appended.
+     * Earlier messages paged in at the top leave the scroll position alone.
      */
     private void setupScrollBehavior() {
-        dialogContainer.heightProperty().addListener(
-            observable -> scrollPane.setVvalue(SCROLL_TO_BOTTOM)
-        );
+        messages.addListener((ListChangeListener<ChatMessage>) change -> {
+            while (change.next()) {
+                if (change.wasAdded() && change.getTo() == messages.size()) {
+                    transcript.scrollTo(messages.size() - 1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Opens the chat history archive, falling back to a transcript without history.
+     */
+    private void openChatHistory() {
+        TranscriptArchive archive = null;
+        try {
+            archive = new TranscriptArchive(TRANSCRIPT_FILE_PATH);
+        } catch (ReiExceptions e) {
+            messages.add(new ChatMessage(ERROR_PREFIX + e.getMessage(), false));
+        }
+        chatHistory = new Transcript(archive, Transcript.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Pages in the block of archived messages before the first one shown,
+     * keeping the previously first message in view.
+     */
+    private void loadEarlierMessages() {
+        if (!chatHistory.hasOlder()) {
+            return;
+        }
+        try {
+            List<ChatMessage> earlier = chatHistory.loadOlder();
+            messages.addAll(0, earlier);
+            transcript.scrollTo(earlier.size());
+        } catch (ReiExceptions e) {
+            displayErrorResponse(e.getMessage());
+        }
     }
     
     /**
@@ -200,6 +316,92 @@ public class ReiGui extends Application {
         displayMessage(WELCOME_MESSAGE, false);
     }
     
+    /**
+     * Starts raising reminders as bot messages. Reminders arrive on the scheduler's
+     * thread and are handed over to the JavaFX application thread.
+     */
+    private void startReminders() {
+        GuiUi reminderUi = new GuiUi(message -> Platform.runLater(() -> displayBotResponse(message)));
+        reminders = new ReminderScheduler(reminderUi);
+        reminders.track(rei.getTaskList());
+        reminders.start();
+    }
+
+    /**
+     * Stops background work, letting queued commands and their saves finish first.
+     *
+     * @throws Exception if the application fails to stop
+     */
+    @Override
+    public void stop() throws Exception {
+        if (reminders != null) {
+            reminders.stop();
+        }
+        if (fileWatcher != null) {
+            fileWatcher.close();
+        }
+        commandExecutor.shutdown();
+        commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (chatHistory != null) {
+            chatHistory.close();
+        }
+        super.stop();
+    }
+    
+    /**
+     * Loads the saved tasks in the background after the window is shown.
+     * Loading is the first job on the command executor, so commands typed meanwhile
+     * queue behind it and run once every task is in the list. Tasks appear in the
+     * task panel chunk by chunk while the loading bar shows progress.
+     */
+    private void startLoadingTasks() {
+        loadingBar.setVisible(true);
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            rei.loadTasks((chunk, charactersRead, totalCharacters) -> {
+                double progress = Math.min(1.0, (double) charactersRead / Math.max(1, totalCharacters));
+                Platform.runLater(() -> loadingBar.setProgress(progress));
+            });
+            return null;
+        }) {
+            @Override
+            protected void done() {
+                Platform.runLater(() -> finishLoadingTasks(this));
+            }
+        };
+        commandExecutor.execute(task);
+    }
+
+    /**
+     * Hides the loading bar and reports a failed load. Runs on the JavaFX application thread.
+     * This is the point from which commands run without queueing, so it counts as the first prompt.
+     *
+     * @param task the finished loading task
+     */
+    private void finishLoadingTasks(FutureTask<Void> task) {
+        loadingBar.setVisible(false);
+        try {
+            task.get();
+            startWatchingDataFile();
+        } catch (ExecutionException e) {
+            displayErrorResponse(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        StartupTimer.firstPromptShown(STARTUP_MODE);
+    }
+    
+    /**
+     * Starts applying changes that other Rei processes save to the data file.
+     * Reloads are queued on the command executor like commands, so the task panel updates as usual.
+     */
+    private void startWatchingDataFile() {
+        try {
+            fileWatcher = rei.getStorage().watch(rei.getTaskList(), commandExecutor);
+        } catch (ReiExceptions e) {
+            displayErrorResponse(e.getMessage());
+        }
+    }
+    
     /**
      * Applies CSS styling if available, with graceful fallback.
      */
@@ -266,23 +468,88 @@ public class ReiGui extends Application {
     }
     
     /**
-     * Processes the user command and displays the appropriate response.
-     * Handles both successful execution and error cases.
+     * Parses the user command and queues it for execution off the JavaFX application thread.
+     * Parse errors are displayed straight away; results arrive once the command has run.
      * 
      * @param input the user's command input
      */
     private void processCommandAndShowResponse(String input) {
         try {
             Command command = parseUserCommand(input);
-            String response = executeCommand(command);
-            displayBotResponse(response);
-            
-            handlePotentialExit(command);
-            
+            submitCommand(command);
         } catch (ReiExceptions e) {
             displayErrorResponse(e.getMessage());
         }
     }
+
+    /**
+     * Queues a command on the command executor and shows the pending indicator.
+     * Commands run one at a time in submission order; a newer read-only command
+     * cancels an older read-only one that has not finished yet.
+     *
+     * @param command the command to run
+     */
+    private void submitCommand(Command command) {
+        if (command.isReadOnly()) {
+            cancelSupersededQuery();
+        }
+
+        FutureTask<String> task = new FutureTask<>(() -> executeCommand(command)) {
+            @Override
+            protected void done() {
+                Platform.runLater(() -> showCommandResult(this, command));
+            }
+        };
+        if (command.isReadOnly()) {
+            pendingQuery = task;
+        }
+        pendingCommands++;
+        updatePendingIndicator();
+        commandExecutor.execute(task);
+    }
+
+    /**
+     * Cancels the latest read-only command if it is still queued or running.
+     */
+    private void cancelSupersededQuery() {
+        if (pendingQuery != null) {
+            pendingQuery.cancel(true);
+            pendingQuery = null;
+        }
+    }
+
+    /**
+     * Displays the outcome of a finished command. Runs on the JavaFX application thread.
+     *
+     * @param task the finished task
+     * @param command the command the task ran
+     */
+    private void showCommandResult(FutureTask<String> task, Command command) {
+        pendingCommands--;
+        updatePendingIndicator();
+        if (task == pendingQuery) {
+            pendingQuery = null;
+        }
+        if (task.isCancelled()) {
+            return; // Superseded by a newer query
+        }
+
+        try {
+            displayBotResponse(task.get());
+            handlePotentialExit(command);
+        } catch (ExecutionException e) {
+            displayErrorResponse(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Shows the pending indicator while any command is queued or running.
+     */
+    private void updatePendingIndicator() {
+        pendingIndicator.setVisible(pendingCommands > 0);
+    }
     
     /**
      * Parses user input into a command object.
@@ -296,7 +563,7 @@ public class ReiGui extends Application {
     }
     
     /**
-     * Executes a command and returns the response.
+     * Executes a command and returns the response. Runs on the command executor thread.
      * 
      * @param command the command to execute
      * @return the response string from command execution
@@ -304,7 +571,7 @@ public class ReiGui extends Application {
      */
     private String executeCommand(Command command) throws ReiExceptions {
         GuiUi guiUi = new GuiUi();
-        command.execute(rei.getTaskList(), guiUi, rei.getStorage());
+        command.run(rei.getTaskList(), guiUi, rei.getStorage());
         return guiUi.getResponse();
     }
     
@@ -342,39 +609,29 @@ public class ReiGui extends Application {
      * Exits the JavaFX application gracefully.
      */
     private void exitApplication() {
-        javafx.application.Platform.exit();
+        Platform.exit();
     }
 
     /**
      * Displays a message in the chat interface with proper formatting.
-     * Creates and adds dialog boxes to the conversation area.
+     * Appends the message to the transcript model; the list view renders it when in view.
+     * Messages the bounded transcript drops from memory are removed from the model too.
      *
      * @param message the message content to display
      * @param isFromUser true if the message is from user, false if from bot
      */
     private void displayMessage(String message, boolean isFromUser) {
-        DialogBox dialogBox = createDialogBox(message, isFromUser);
-        addDialogToContainer(dialogBox);
-    }
-    
-    /**
-     * Creates a dialog box for the given message.
-     * 
-     * @param message the message content
-     * @param isFromUser true if from user, false if from bot
-     * @return the created DialogBox
-     */
-    private DialogBox createDialogBox(String message, boolean isFromUser) {
-        return DialogBox.getUserDialog(message, isFromUser);
-    }
-    
-    /**
-     * Adds a dialog box to the conversation container.
-     * 
-     * @param dialogBox the dialog box to add
-     */
-    private void addDialogToContainer(DialogBox dialogBox) {
-        dialogContainer.getChildren().add(dialogBox);
+        ChatMessage chatMessage = new ChatMessage(message, isFromUser);
+        messages.add(chatMessage);
+        try {
+            int dropped = chatHistory.append(chatMessage);
+            if (dropped > 0) {
+                messages.remove(0, dropped);
+            }
+        } catch (ReiExceptions e) {
+            // Shown directly, since the transcript now runs without its archive
+            messages.add(new ChatMessage(ERROR_PREFIX + e.getMessage(), false));
+        }
     }
 
     /**
@@ -0,0 +1,97 @@
+package rei;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+
+import rei.list.Autocomplete;
+
+/**
+ * Completes the word being typed in the input field when Tab is pressed.
+ * A single candidate is filled in directly; otherwise the word is extended to the prefix all
+ * candidates share, and pressing Tab again without progress lists them in a popup.
+ */
+public class TabCompleter extends ContextMenu {
+    private final TextField input;
+    private final Autocomplete autocomplete;
+
+    /**
+     * Constructs a TabCompleter for the given input field.
+     *
+     * @param input the field the user types commands into
+     * @param autocomplete the source of suggestions
+     */
+    public TabCompleter(TextField input, Autocomplete autocomplete) {
+        this.input = input;
+        this.autocomplete = autocomplete;
+        // Filter rather than handle, so Tab is consumed before it moves focus away from the field
+        input.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+    }
+
+    /**
+     * Completes on Tab and closes the suggestion list on any other key.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB) {
+            hide();
+            return;
+        }
+        event.consume();
+        completeInput();
+    }
+
+    /**
+     * Applies the best completion for the current input.
+     */
+    private void completeInput() {
+        String text = input.getText() == null ? "" : input.getText();
+        Autocomplete.Completion completion = autocomplete.complete(text);
+        List<String> candidates = completion.getCandidates();
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        String head = text.substring(0, completion.getWordStart());
+        if (candidates.size() == 1) {
+            replaceInput(head + candidates.get(0) + " ");
+            return;
+        }
+
+        String extended = head + completion.getCommonPrefix();
+        if (extended.length() > text.length()) {
+            replaceInput(extended);
+        } else {
+            showCandidates(head, candidates);
+        }
+    }
+
+    /**
+     * Lists the candidates in a popup; choosing one fills it in.
+     */
+    private void showCandidates(String head, List<String> candidates) {
+        List<MenuItem> items = new ArrayList<>();
+        for (String candidate : candidates) {
+            MenuItem item = new MenuItem(candidate);
+            item.setOnAction(event -> replaceInput(head + candidate + " "));
+            items.add(item);
+        }
+        getItems().setAll(items);
+        if (!isShowing()) {
+            show(input, Side.TOP, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the input text and moves the caret to its end.
+     */
+    private void replaceInput(String text) {
+        input.setText(text);
+        input.end();
+    }
+}
@@ -0,0 +1,165 @@
+package rei;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.geometry.Insets;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import rei.ui.TaskRow;
+
+/**
+ * A side panel showing the tasks in a sortable, filterable table.
+ * The table is bound to an {@link ObservableTaskList} through filtered and sorted views,
+ * so it reflects every change as it happens without copying the task list, and only the
+ * visible rows are rendered.
+ */
+public class TaskPanel extends VBox {
+    // Constants for layout
+    private static final double PANEL_SPACING = 5.0;
+    private static final double PANEL_PADDING = 10.0;
+    private static final double INDEX_COLUMN_WIDTH = 40.0;
+    private static final double STATUS_COLUMN_WIDTH = 40.0;
+    private static final double TYPE_COLUMN_WIDTH = 80.0;
+    private static final double DUE_COLUMN_WIDTH = 140.0;
+
+    // Panel messages
+    private static final String SEARCH_PROMPT = "Search, or #tag";
+    private static final String HIDE_DONE_TEXT = "Hide done";
+    private static final String EMPTY_TEXT = "No tasks to show";
+    private static final String DONE_MARK = "X";
+
+    private final FilteredList<TaskRow> filteredRows;
+    private final TableView<TaskRow> table;
+    private final TextField searchField;
+    private final CheckBox hideDoneBox;
+
+    /**
+     * Constructs a TaskPanel over the given observable task list.
+     *
+     * @param tasks the observable task list to display
+     */
+    public TaskPanel(ObservableTaskList tasks) {
+        filteredRows = new FilteredList<>(tasks.getRows());
+        SortedList<TaskRow> sortedRows = new SortedList<>(filteredRows);
+
+        table = new TableView<>(sortedRows);
+        table.setPlaceholder(new Label(EMPTY_TEXT));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        table.getColumns().add(createIndexColumn(sortedRows));
+        table.getColumns().add(createStatusColumn());
+        table.getColumns().add(createTypeColumn());
+        table.getColumns().add(createDescriptionColumn());
+        table.getColumns().add(createDueColumn());
+        // Sorting by column header reorders the sorted view only, never the task list
+        sortedRows.comparatorProperty().bind(table.comparatorProperty());
+
+        searchField = new TextField();
+        searchField.setPromptText(SEARCH_PROMPT);
+        searchField.textProperty().addListener((observable, oldText, newText) -> updateFilter());
+
+        hideDoneBox = new CheckBox(HIDE_DONE_TEXT);
+        hideDoneBox.selectedProperty().addListener((observable, wasSelected, isSelected) -> updateFilter());
+
+        HBox filterBar = new HBox(PANEL_SPACING, searchField, hideDoneBox);
+        HBox.setHgrow(searchField, Priority.ALWAYS);
+
+        setSpacing(PANEL_SPACING);
+        setPadding(new Insets(PANEL_PADDING));
+        getChildren().addAll(filterBar, table);
+        VBox.setVgrow(table, Priority.ALWAYS);
+    }
+
+    /**
+     * Applies the current search text and done filter to the filtered view.
+     */
+    private void updateFilter() {
+        String query = searchField.getText() == null ? "" : searchField.getText();
+        boolean isHidingDone = hideDoneBox.isSelected();
+        filteredRows.setPredicate(row -> !(isHidingDone && row.isDone()) && row.matches(query));
+    }
+
+    /**
+     * Creates the column showing each task's 1-based number in the task list,
+     * which is the number to use in commands such as "mark".
+     */
+    private TableColumn<TaskRow, TaskRow> createIndexColumn(SortedList<TaskRow> sortedRows) {
+        TableColumn<TaskRow, TaskRow> column = new TableColumn<>("#");
+        column.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue()));
+        column.setCellFactory(col -> new TableCell<>() {
+            @Override
+            protected void updateItem(TaskRow row, boolean isEmpty) {
+                super.updateItem(row, isEmpty);
+                if (isEmpty || row == null) {
+                    setText(null);
+                    return;
+                }
+                int taskIndex = filteredRows.getSourceIndex(sortedRows.getSourceIndex(getIndex()));
+                setText(String.valueOf(taskIndex + 1));
+            }
+        });
+        column.setSortable(false);
+        column.setPrefWidth(INDEX_COLUMN_WIDTH);
+        column.setMaxWidth(INDEX_COLUMN_WIDTH);
+        return column;
+    }
+
+    /**
+     * Creates the column showing whether each task is done.
+     */
+    private TableColumn<TaskRow, String> createStatusColumn() {
+        TableColumn<TaskRow, String> column = new TableColumn<>("Done");
+        column.setCellValueFactory(data ->
+                new ReadOnlyObjectWrapper<>(data.getValue().isDone() ? DONE_MARK : ""));
+        column.setPrefWidth(STATUS_COLUMN_WIDTH);
+        column.setMaxWidth(STATUS_COLUMN_WIDTH);
+        return column;
+    }
+
+    /**
+     * Creates the column showing the kind of each task.
+     */
+    private TableColumn<TaskRow, String> createTypeColumn() {
+        TableColumn<TaskRow, String> column = new TableColumn<>("Type");
+        column.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getType()));
+        column.setPrefWidth(TYPE_COLUMN_WIDTH);
+        column.setMaxWidth(TYPE_COLUMN_WIDTH);
+        return column;
+    }
+
+    /**
+     * Creates the column showing each task's description.
+     */
+    private TableColumn<TaskRow, String> createDescriptionColumn() {
+        TableColumn<TaskRow, String> column = new TableColumn<>("Task");
+        column.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().getDescription()));
+        return column;
+    }
+
+    /**
+     * Creates the column showing when each task is due, sorted chronologically
+     * with untimed tasks last.
+     */
+    private TableColumn<TaskRow, TaskRow> createDueColumn() {
+        TableColumn<TaskRow, TaskRow> column = new TableColumn<>("When");
+        column.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue()));
+        column.setCellFactory(col -> new TableCell<>() {
+            @Override
+            protected void updateItem(TaskRow row, boolean isEmpty) {
+                super.updateItem(row, isEmpty);
+                setText(isEmpty || row == null ? null : row.formatDue());
+            }
+        });
+        column.setComparator((first, second) -> Long.compare(first.getDueMinute(), second.getDueMinute()));
+        column.setPrefWidth(DUE_COLUMN_WIDTH);
+        return column;
+    }
+}
@@ -0,0 +1,95 @@
+package rei.command;
+
+import rei.task.*;
+import rei.list.TaskList;
+import rei.ui.UiInterface;
+import rei.storage.Storage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Command to display the tasks that fall within a date range.
+ * Recurring tasks are expanded into their individual occurrences, but only inside the range.
+ */
+public class AgendaCommand extends Command {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Constructs a new AgendaCommand for the given half-open range.
+     *
+     * @param from the inclusive start of the range
+     * @param to the exclusive end of the range
+     */
+    public AgendaCommand(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Represents one line of the agenda with its sort key.
+     */
+    private static class Entry {
+        private final long minute;
+        private final String text;
+
+        private Entry(long minute, String text) {
+            this.minute = minute;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Executes the agenda command by listing every task and occurrence within the range
+     * in chronological order, each prefixed with its task number in the list.
+     *
+     * @param tasks the TaskList to search through
+     * @param ui the Ui for displaying the agenda
+     * @param storage the Storage (not used in this command)
+     */
+    @Override
+    public void execute(TaskList tasks, UiInterface ui, Storage storage) {
+        long fromMinute = EpochMinutes.of(from);
+        long toMinute = EpochMinutes.of(to);
+        ArrayList<Entry> entries = new ArrayList<>();
+
+        ArrayList<Task> all = tasks.getAll();
+        for (int i = 0; i < all.size(); i++) {
+            Task task = all.get(i);
+            String number = (i + 1) + ". ";
+            if (task instanceof Recurring) {
+                for (Recurring.Occurrence occurrence
+                        : ((Recurring) task).getOccurrencesBetween(fromMinute, toMinute)) {
+                    entries.add(new Entry(occurrence.getStartMinute(), number + occurrence));
+                }
+            } else if (task.occursBetween(fromMinute, toMinute)) {
+                entries.add(new Entry(task.getSortMinute(), number + task));
+            }
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.minute));
+
+        ui.showLine();
+        if (entries.isEmpty()) {
+            ui.show("Nothing scheduled between " + EpochMinutes.format(fromMinute)
+                    + " and " + EpochMinutes.format(toMinute) + ".");
+        } else {
+            ui.show("Here is your agenda:");
+            for (Entry entry : entries) {
+                ui.show(entry.text);
+            }
+        }
+        ui.showLine();
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true, as this command never modifies tasks or storage
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -1,6 +1,9 @@
 package rei.command;
 
 import rei.list.TaskList;
+import rei.metrics.CommandEvent;
+import rei.metrics.FlightRecording;
+import rei.metrics.Metrics;
 import rei.ui.UiInterface;
 import rei.storage.Storage;
 import rei.exceptions.ReiExceptions;
@@ -21,6 +24,37 @@ public abstract class Command {
     public abstract void execute(TaskList tasks, UiInterface ui, Storage storage)
             throws ReiExceptions;
 
+    /**
+     * Executes the command, timing it in {@link Metrics} and in a Flight Recorder event.
+     * The changes it makes are published to subscribers of {@link TaskList#getChanges()} as one batch.
+     * Read-only commands open no batch, since they may run concurrently against a shared snapshot.
+     * Callers should use this rather than calling {@link #execute} directly.
+     *
+     * @param tasks the task list to operate on
+     * @param ui the user interface for displaying output
+     * @param storage the storage system for persisting tasks
+     * @throws ReiExceptions if there's an error executing the command
+     */
+    public final void run(TaskList tasks, UiInterface ui, Storage storage) throws ReiExceptions {
+        CommandEvent event = FlightRecording.isRecorderRunning() ? CommandEvent.start() : null;
+        long startNanos = System.nanoTime();
+        boolean isBatched = !isReadOnly();
+        if (isBatched) {
+            tasks.beginBatch();
+        }
+        try {
+            execute(tasks, ui, storage);
+        } finally {
+            if (isBatched) {
+                tasks.endBatch();
+            }
+            Metrics.getCommandLatency(getClass()).recordSince(startNanos);
+            if (event != null) {
+                event.finish(getClass(), tasks.size());
+            }
+        }
+    }
+
     /**
      * Checks if this command should terminate the application.
      *
@@ -29,5 +63,15 @@ public abstract class Command {
     public boolean isExit() {
         return false;
     }
-}
 
+    /**
+     * Checks if this command only reads the task list.
+     * Read-only commands change nothing, so a pending one may be cancelled
+     * when a newer query replaces it.
+     *
+     * @return true if this command never modifies tasks or storage, false otherwise
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+}
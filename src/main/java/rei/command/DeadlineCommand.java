@@ -7,6 +7,7 @@ import rei.storage.Storage;
 import rei.exceptions.ReiExceptions;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Command to create and add a new deadline task to the task list.
@@ -15,6 +16,8 @@ import java.time.LocalDateTime;
 public class DeadlineCommand extends Command {
     private final String description;
     private final LocalDateTime ddl;
+    private final List<String> tags;
+    private final Priority priority;
 
     /**
      * Constructs a new DeadlineCommand with the specified description and deadline.
@@ -23,8 +26,23 @@ public class DeadlineCommand extends Command {
      * @param ddl the deadline date and time when the task must be completed
      */
     public DeadlineCommand(String description, LocalDateTime ddl) {
+        this(description, ddl, List.of(), Priority.NORMAL);
+    }
+
+    /**
+     * Constructs a new DeadlineCommand with the specified description, deadline, tags and priority.
+     *
+     * @param description the description of the deadline task
+     * @param ddl the deadline date and time when the task must be completed
+     * @param tags the normalized tag names to attach to the task
+     * @param priority the priority of the task
+     */
+    public DeadlineCommand(String description, LocalDateTime ddl, List<String> tags,
+            Priority priority) {
         this.description = description;
         this.ddl = ddl;
+        this.tags = tags;
+        this.priority = priority;
     }
 
     /**
@@ -39,7 +57,10 @@ public class DeadlineCommand extends Command {
     @Override
     public void execute (TaskList tasks, UiInterface ui, Storage storage)
             throws ReiExceptions {
-        tasks.add(new Deadline(description, ddl));
+        Task deadline = new Deadline(description, ddl);
+        deadline.addTags(tags);
+        deadline.setPriority(priority);
+        tasks.add(deadline);
         storage.save(tasks);
 
         ui.showLine();
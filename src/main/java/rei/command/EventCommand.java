@@ -7,6 +7,7 @@ import rei.storage.Storage;
 import rei.exceptions.ReiExceptions;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Command to create and add a new event task to the task list.
@@ -17,6 +18,8 @@ public class EventCommand extends Command {
     private final String description;
     private final LocalDateTime start;
     private final LocalDateTime end;
+    private final List<String> tags;
+    private final Priority priority;
 
     /**
      * Constructs a new EventCommand with the specified description, start time, and end time.
@@ -26,9 +29,25 @@ public class EventCommand extends Command {
      * @param end the end date and time of the event
      */
     public EventCommand(String description, LocalDateTime start, LocalDateTime end) {
+        this(description, start, end, List.of(), Priority.NORMAL);
+    }
+
+    /**
+     * Constructs a new EventCommand with the specified description, time period, tags and priority.
+     *
+     * @param description the description of the event
+     * @param start the start date and time of the event
+     * @param end the end date and time of the event
+     * @param tags the normalized tag names to attach to the task
+     * @param priority the priority of the task
+     */
+    public EventCommand(String description, LocalDateTime start, LocalDateTime end,
+            List<String> tags, Priority priority) {
         this.description = description;
         this.start = start;
         this.end = end;
+        this.tags = tags;
+        this.priority = priority;
     }
 
     /**
@@ -43,7 +62,10 @@ public class EventCommand extends Command {
     @Override
     public void execute (TaskList tasks, UiInterface ui, Storage storage)
             throws ReiExceptions {
-        tasks.add(new Event(description, start, end));
+        Task event = new Event(description, start, end);
+        event.addTags(tags);
+        event.setPriority(priority);
+        tasks.add(event);
         storage.save(tasks);
 
         ui.showLine();
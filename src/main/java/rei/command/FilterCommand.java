@@ -0,0 +1,61 @@
+package rei.command;
+
+import rei.list.TaskList;
+import rei.ui.UiInterface;
+import rei.storage.Storage;
+import rei.exceptions.ReiExceptions;
+
+import java.util.BitSet;
+
+/**
+ * Command to display the tasks matching a tag expression such as "#work & !#done".
+ * Matching tasks keep their numbers from the full list so they can be marked or deleted directly.
+ */
+public class FilterCommand extends Command {
+    private final String expression;
+
+    /**
+     * Constructs a new FilterCommand with the specified tag expression.
+     *
+     * @param expression the tag expression to evaluate
+     */
+    public FilterCommand(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Executes the filter command by evaluating the tag expression against the task list.
+     * Displays all matching tasks or a message if no tasks match.
+     *
+     * @param tasks the TaskList to filter
+     * @param ui the Ui for displaying the matching tasks
+     * @param storage the Storage (not used in this command)
+     * @throws ReiExceptions if the expression is malformed
+     */
+    @Override
+    public void execute(TaskList tasks, UiInterface ui, Storage storage)
+            throws ReiExceptions {
+        BitSet matches = tasks.selectByTags(expression);
+
+        ui.showLine();
+        if (matches.isEmpty()) {
+            ui.show("No tasks match the filter: " + expression);
+        } else {
+            ui.show("Here are the tasks matching " + expression + ":");
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                ui.show((i + 1) + ". " + tasks.get(i));
+            }
+        }
+        ui.showLine();
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true, as this command never modifies tasks or storage
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
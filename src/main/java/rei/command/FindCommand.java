@@ -7,12 +7,16 @@ import rei.exceptions.ReiExceptions;
 import rei.task.Task;
 
 import java.util.ArrayList;
+import java.util.Locale;
 
 /**
  * Command to find and display tasks that contain a specific keyword.
  * Performs case-insensitive search through task descriptions.
  */
 public class FindCommand extends Command {
+    // Cancellation is checked once every 1024 tasks
+    private static final int INTERRUPT_CHECK_MASK = 1023;
+
     private final String keyword;
 
     /**
@@ -31,13 +35,20 @@ public class FindCommand extends Command {
      * @param tasks the TaskList to search through
      * @param ui the Ui for displaying search results
      * @param storage the Storage (not used in this command)
+     * @throws ReiExceptions if the search is cancelled by interrupting its thread
      */
     @Override
-    public void execute(TaskList tasks, UiInterface ui, Storage storage) {
+    public void execute(TaskList tasks, UiInterface ui, Storage storage) throws ReiExceptions {
         ArrayList<Task> matches = new ArrayList<>();
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        ArrayList<Task> allTasks = tasks.getAll();
 
-        for (Task task : tasks.getAll()) {
-            if (task.getDescription().toLowerCase().contains(keyword.toLowerCase())) {
+        for (int i = 0; i < allTasks.size(); i++) {
+            if ((i & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new ReiExceptions("OOPS!!! The search was cancelled.");
+            }
+            Task task = allTasks.get(i);
+            if (task.descriptionContains(lowerKeyword)) {
                 matches.add(task);
             }
         }
@@ -54,4 +65,13 @@ public class FindCommand extends Command {
         ui.showLine();
     }
 
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true, as this command never modifies tasks or storage
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -31,4 +31,14 @@ public class ListCommand extends Command {
         }
         ui.showLine();
     }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true, as this command never modifies tasks or storage
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
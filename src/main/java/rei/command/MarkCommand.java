@@ -6,12 +6,15 @@ import rei.ui.UiInterface;
 import rei.storage.Storage;
 import rei.exceptions.ReiExceptions;
 
+import java.time.LocalDateTime;
+
 /**
  * Command to mark a task as completed.
  * Updates the task's status and saves the changes to storage.
  */
 public class MarkCommand extends Command {
     private final int index;
+    private final LocalDateTime occurrence;
 
     /**
      * Constructs a new MarkCommand with the specified task index.
@@ -19,7 +22,18 @@ public class MarkCommand extends Command {
      * @param index the 0-based index of the task to mark as done
      */
     public MarkCommand(int index) {
+        this(index, null);
+    }
+
+    /**
+     * Constructs a new MarkCommand for a single occurrence of a recurring task.
+     *
+     * @param index the 0-based index of the recurring task
+     * @param occurrence the start date and time of the occurrence, or null for the whole task
+     */
+    public MarkCommand(int index, LocalDateTime occurrence) {
         this.index = index;
+        this.occurrence = occurrence;
     }
 
     /**
@@ -35,6 +49,17 @@ public class MarkCommand extends Command {
     public void execute(TaskList tasks, UiInterface ui, Storage storage)
             throws ReiExceptions {
 
+        if (occurrence != null) {
+            Recurring.Occurrence updated = tasks.markOccurrenceDone(index, occurrence);
+            storage.save(tasks);
+
+            ui.showLine();
+            ui.show("Nice! I've marked this occurrence as done:");
+            ui.show(updated.toString());
+            ui.showLine();
+            return;
+        }
+
         tasks.markDone(index);
         storage.save(tasks);
 
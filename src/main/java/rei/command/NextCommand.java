@@ -0,0 +1,103 @@
+package rei.command;
+
+import rei.task.*;
+import rei.list.TaskList;
+import rei.ui.UiInterface;
+import rei.storage.Storage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Command to display the most urgent tasks that are not yet done.
+ * Urgency combines each task's priority with the time left until it is due.
+ */
+public class NextCommand extends Command {
+    /** The number of tasks shown when no count is given. */
+    public static final int DEFAULT_COUNT = 5;
+
+    private static final long MINUTES_PER_HOUR = 60;
+    private static final long MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    private final int count;
+
+    /**
+     * Constructs a new NextCommand with the specified number of tasks to show.
+     *
+     * @param count the maximum number of tasks to show
+     */
+    public NextCommand(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Executes the next command by displaying the most urgent tasks with their time left.
+     *
+     * @param tasks the TaskList to read the most urgent tasks from
+     * @param ui the Ui for displaying the tasks
+     * @param storage the Storage (not used in this command)
+     */
+    @Override
+    public void execute(TaskList tasks, UiInterface ui, Storage storage) {
+        List<Task> urgent = tasks.getMostUrgent(count);
+        long nowMinute = EpochMinutes.of(LocalDateTime.now());
+
+        ui.showLine();
+        if (urgent.isEmpty()) {
+            ui.show("Nothing left to do. Well done!");
+        } else {
+            ui.show("Here is what to do next:");
+            for (int i = 0; i < urgent.size(); i++) {
+                Task task = urgent.get(i);
+                ui.show((i + 1) + ". " + task + describeTimeLeft(task, nowMinute));
+            }
+        }
+        ui.showLine();
+    }
+
+    /**
+     * Describes how long remains until a task is due.
+     *
+     * @param task the task to describe
+     * @param nowMinute the current time in epoch minutes
+     * @return a suffix such as " - due in 2d 3h", or an empty string for untimed tasks
+     */
+    private String describeTimeLeft(Task task, long nowMinute) {
+        long dueMinute = task.getSortMinute();
+        if (dueMinute == EpochMinutes.NONE) {
+            return "";
+        }
+
+        long minutesLeft = dueMinute - nowMinute;
+        String amount = formatDuration(Math.abs(minutesLeft));
+        return minutesLeft >= 0 ? " - due in " + amount : " - overdue by " + amount;
+    }
+
+    /**
+     * Formats a number of minutes as days, hours and minutes.
+     *
+     * @param minutes the number of minutes
+     * @return a compact string such as "2d 3h" or "45m"
+     */
+    private String formatDuration(long minutes) {
+        long days = minutes / MINUTES_PER_DAY;
+        long hours = (minutes % MINUTES_PER_DAY) / MINUTES_PER_HOUR;
+        if (days > 0) {
+            return days + "d " + hours + "h";
+        }
+        if (hours > 0) {
+            return hours + "h " + (minutes % MINUTES_PER_HOUR) + "m";
+        }
+        return minutes + "m";
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true, as this command never modifies tasks or storage
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package rei.command;
+
+import rei.task.*;
+import rei.list.TaskList;
+import rei.ui.UiInterface;
+import rei.storage.Storage;
+import rei.exceptions.ReiExceptions;
+
+/**
+ * Command to change the priority of a task.
+ * Updates the task's urgency and saves the changes to storage.
+ */
+public class PriorityCommand extends Command {
+    private final int index;
+    private final Priority priority;
+
+    /**
+     * Constructs a new PriorityCommand with the specified task index and priority.
+     *
+     * @param index the 0-based index of the task to change
+     * @param priority the new priority of the task
+     */
+    public PriorityCommand(int index, Priority priority) {
+        this.index = index;
+        this.priority = priority;
+    }
+
+    /**
+     * Executes the priority command by updating the priority of the specified task.
+     * Also saves the updated task list to storage and displays confirmation to the user.
+     *
+     * @param tasks the TaskList containing the task to change
+     * @param ui the Ui for displaying confirmation messages
+     * @param storage the Storage for persisting the updated task list
+     * @throws ReiExceptions if the task index is invalid or there's an error saving to storage
+     */
+    @Override
+    public void execute(TaskList tasks, UiInterface ui, Storage storage)
+            throws ReiExceptions {
+
+        tasks.setPriority(index, priority);
+        storage.save(tasks);
+
+        ui.showLine();
+        ui.show("OK, I've set the priority of this task to " + priority.getMarker().substring(1) + ":");
+        ui.show(tasks.get(index).toString());
+        ui.showLine();
+    }
+}
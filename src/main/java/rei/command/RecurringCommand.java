@@ -0,0 +1,68 @@
+package rei.command;
+
+import rei.task.*;
+import rei.list.TaskList;
+import rei.ui.UiInterface;
+import rei.storage.Storage;
+import rei.exceptions.ReiExceptions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Command to create and add a new recurring task to the task list.
+ * A recurring task repeats weekly or monthly and is stored as a single entry.
+ */
+public class RecurringCommand extends Command {
+    private final String description;
+    private final LocalDateTime start;
+    private final long durationMinutes;
+    private final RecurrenceRule rule;
+    private final List<String> tags;
+    private final Priority priority;
+
+    /**
+     * Constructs a new RecurringCommand.
+     *
+     * @param description the description of the recurring task
+     * @param start the date and time of the first occurrence
+     * @param durationMinutes the length of each occurrence, or 0 for deadline-style occurrences
+     * @param rule the rule describing how the task repeats
+     * @param tags the normalized tag names to attach to the task
+     * @param priority the priority of the task
+     */
+    public RecurringCommand(String description, LocalDateTime start, long durationMinutes,
+            RecurrenceRule rule, List<String> tags, Priority priority) {
+        this.description = description;
+        this.start = start;
+        this.durationMinutes = durationMinutes;
+        this.rule = rule;
+        this.tags = tags;
+        this.priority = priority;
+    }
+
+    /**
+     * Executes the recurring command by creating a new recurring task and adding it to the task list.
+     * Also saves the updated task list to storage and displays confirmation to the user.
+     *
+     * @param tasks the TaskList to add the new recurring task to
+     * @param ui the Ui for displaying confirmation messages
+     * @param storage the Storage for persisting the updated task list
+     * @throws ReiExceptions if there's an error saving to storage
+     */
+    @Override
+    public void execute(TaskList tasks, UiInterface ui, Storage storage)
+            throws ReiExceptions {
+        Task recurring = new Recurring(description, EpochMinutes.of(start), durationMinutes, rule);
+        recurring.addTags(tags);
+        recurring.setPriority(priority);
+        tasks.add(recurring);
+        storage.save(tasks);
+
+        ui.showLine();
+        ui.show("Got it. I've added this task:");
+        ui.show(tasks.getLast().toString());
+        ui.show("Now you have " + tasks.size() + " tasks in the list.");
+        ui.showLine();
+    }
+}
@@ -0,0 +1,50 @@
+package rei.command;
+
+import rei.list.TaskList;
+import rei.metrics.Metrics;
+import rei.ui.UiInterface;
+import rei.storage.Storage;
+import rei.exceptions.ReiExceptions;
+
+/**
+ * Command to display how long parsing, storage and each kind of command have taken.
+ * Shows the count, median, 99th percentile and maximum latency of each operation.
+ */
+public class StatsCommand extends Command {
+
+    /**
+     * Executes the stats command by displaying the latency report.
+     *
+     * @param tasks the TaskList (not used in this command)
+     * @param ui the Ui for displaying output to the user
+     * @param storage the Storage (not used in this command)
+     * @throws ReiExceptions if there's an error displaying the report
+     */
+    @Override
+    public void execute(TaskList tasks, UiInterface ui, Storage storage)
+            throws ReiExceptions {
+        String[] rows = Metrics.report();
+
+        ui.showLine();
+        if (rows.length == 0) {
+            ui.show("No operations have been timed yet.");
+        } else {
+            ui.show("Here is how long things have taken so far:");
+            ui.show(Metrics.getReportHeader());
+            for (String row : rows) {
+                ui.show(row);
+            }
+        }
+        ui.showLine();
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true, as this command never modifies tasks or storage
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
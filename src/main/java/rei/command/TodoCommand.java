@@ -6,12 +6,16 @@ import rei.ui.UiInterface;
 import rei.storage.Storage;
 import rei.exceptions.ReiExceptions;
 
+import java.util.List;
+
 /**
  * Command to create and add a new todo task to the task list.
  * A todo task is a simple task without any time constraints.
  */
 public class TodoCommand extends Command {
     private final String description;
+    private final List<String> tags;
+    private final Priority priority;
 
     /**
      * Constructs a new TodoCommand with the specified task description.
@@ -19,7 +23,20 @@ public class TodoCommand extends Command {
      * @param description the description of the todo task to create
      */
     public TodoCommand(String description) {
+        this(description, List.of(), Priority.NORMAL);
+    }
+
+    /**
+     * Constructs a new TodoCommand with the specified task description, tags and priority.
+     *
+     * @param description the description of the todo task to create
+     * @param tags the normalized tag names to attach to the task
+     * @param priority the priority of the task
+     */
+    public TodoCommand(String description, List<String> tags, Priority priority) {
         this.description = description;
+        this.tags = tags;
+        this.priority = priority;
     }
 
     /**
@@ -35,7 +52,10 @@ public class TodoCommand extends Command {
     public void execute(TaskList tasks, UiInterface ui, Storage storage)
             throws ReiExceptions {
 
-        tasks.add(new Todo(description));
+        Task todo = new Todo(description);
+        todo.addTags(tags);
+        todo.setPriority(priority);
+        tasks.add(todo);
         storage.save(tasks);
 
         ui.showLine();
@@ -6,12 +6,15 @@ import rei.ui.UiInterface;
 import rei.storage.Storage;
 import rei.exceptions.ReiExceptions;
 
+import java.time.LocalDateTime;
+
 /**
  * Command to mark a task as not completed.
  * Updates the task's status and saves the changes to storage.
  */
 public class UnmarkCommand extends Command {
     private final int index;
+    private final LocalDateTime occurrence;
 
     /**
      * Constructs a new UnmarkCommand with the specified task index.
@@ -19,7 +22,18 @@ public class UnmarkCommand extends Command {
      * @param index the 0-based index of the task to mark as not done
      */
     public UnmarkCommand(int index) {
+        this(index, null);
+    }
+
+    /**
+     * Constructs a new UnmarkCommand for a single occurrence of a recurring task.
+     *
+     * @param index the 0-based index of the recurring task
+     * @param occurrence the start date and time of the occurrence, or null for the whole task
+     */
+    public UnmarkCommand(int index, LocalDateTime occurrence) {
         this.index = index;
+        this.occurrence = occurrence;
     }
 
     /**
@@ -35,6 +49,17 @@ public class UnmarkCommand extends Command {
     public void execute(TaskList tasks, UiInterface ui, Storage storage)
             throws ReiExceptions {
 
+        if (occurrence != null) {
+            Recurring.Occurrence updated = tasks.markOccurrenceUndone(index, occurrence);
+            storage.save(tasks);
+
+            ui.showLine();
+            ui.show("OK, I've marked this occurrence as not done yet:");
+            ui.show(updated.toString());
+            ui.showLine();
+            return;
+        }
+
         tasks.markUndone(index);
         storage.save(tasks);
 
@@ -0,0 +1,134 @@
+package rei.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import rei.task.Task;
+
+/**
+ * Suggests completions for the word being typed: a command keyword for the first word,
+ * and a word from an existing task description for any later word.
+ * Description words are kept in a {@link PrefixIndex} that follows the task list,
+ * so suggestions never scan the tasks.
+ * Methods are synchronized so suggestions can be requested from the GUI thread while
+ * commands change the task list on another thread.
+ */
+public class Autocomplete implements TaskListListener {
+    // Suggestion configuration
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final String WORD_SEPARATOR_REGEX = "[^\\p{L}\\p{N}_-]+";
+    private static final int MINIMUM_WORD_LENGTH = 3;
+
+    private final PrefixIndex commandIndex;
+    private final PrefixIndex wordIndex;
+
+    /**
+     * The words that could complete the input, and where the word being completed starts.
+     */
+    public static class Completion {
+        private final int wordStart;
+        private final List<String> candidates;
+        private final String commonPrefix;
+
+        private Completion(int wordStart, List<String> candidates, String commonPrefix) {
+            this.wordStart = wordStart;
+            this.candidates = candidates;
+            this.commonPrefix = commonPrefix;
+        }
+
+        /**
+         * Gets the position in the input where the word being completed starts.
+         *
+         * @return the index of the first character of the word
+         */
+        public int getWordStart() {
+            return wordStart;
+        }
+
+        /**
+         * Gets the words that could replace the word being completed.
+         *
+         * @return the candidates in sorted order, possibly empty
+         */
+        public List<String> getCandidates() {
+            return candidates;
+        }
+
+        /**
+         * Gets the longest prefix shared by every word that completes the input, including
+         * those beyond the {@value Autocomplete#MAX_SUGGESTIONS} candidates returned.
+         *
+         * @return the shared prefix, or an empty string if there are no candidates
+         */
+        public String getCommonPrefix() {
+            return commonPrefix;
+        }
+    }
+
+    /**
+     * Constructs an Autocomplete over the words of the given tasks and starts following changes.
+     *
+     * @param tasks the task list whose descriptions supply words
+     * @param commandKeywords the keywords that start commands
+     */
+    public Autocomplete(TaskList tasks, List<String> commandKeywords) {
+        commandIndex = new PrefixIndex(commandKeywords);
+        List<String> words = new ArrayList<>();
+        for (Task task : tasks.getAll()) {
+            words.addAll(splitWords(task.getDescription()));
+        }
+        wordIndex = new PrefixIndex(words);
+        tasks.addListener(this);
+    }
+
+    /**
+     * Suggests completions for the last word of the input.
+     *
+     * @param input the text typed so far
+     * @return the completion, with no candidates if the last word is empty or unknown
+     */
+    public synchronized Completion complete(String input) {
+        int wordStart = input.lastIndexOf(' ') + 1;
+        String prefix = input.substring(wordStart).toLowerCase(Locale.ROOT);
+        if (prefix.isEmpty()) {
+            return new Completion(wordStart, List.of(), "");
+        }
+
+        boolean isFirstWord = input.substring(0, wordStart).isBlank();
+        PrefixIndex index = isFirstWord ? commandIndex : wordIndex;
+        return new Completion(wordStart, index.complete(prefix, MAX_SUGGESTIONS), index.commonPrefix(prefix));
+    }
+
+    @Override
+    public synchronized void taskAdded(int index, Task task) {
+        for (String word : splitWords(task.getDescription())) {
+            wordIndex.add(word);
+        }
+    }
+
+    @Override
+    public synchronized void taskRemoved(int index, Task task) {
+        for (String word : splitWords(task.getDescription())) {
+            wordIndex.remove(word);
+        }
+    }
+
+    @Override
+    public void taskUpdated(int index, Task task) {
+        // Descriptions never change, so the indexed words stay valid
+    }
+
+    /**
+     * Splits a description into lower-case words worth suggesting.
+     */
+    private static List<String> splitWords(String description) {
+        List<String> words = new ArrayList<>();
+        for (String word : description.toLowerCase(Locale.ROOT).split(WORD_SEPARATOR_REGEX)) {
+            if (word.length() >= MINIMUM_WORD_LENGTH) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
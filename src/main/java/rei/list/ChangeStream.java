@@ -0,0 +1,106 @@
+package rei.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Publishes the changes of one TaskList in batches to asynchronous subscribers.
+ * Changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are
+ * delivered as one list; changes outside a batch are delivered on their own.
+ *
+ * <p>Each subscriber has a buffer of {@value #BUFFER_CAPACITY} batches. When a subscriber
+ * falls that far behind, publishing blocks the thread changing the list until it catches up,
+ * so no change is ever dropped. The publisher is only created on the first subscription,
+ * and nothing is recorded while there are no subscribers.
+ */
+final class ChangeStream {
+    // Batches buffered per subscriber before publishing blocks
+    static final int BUFFER_CAPACITY = Flow.defaultBufferSize();
+
+    private final ArrayList<TaskChange> pending = new ArrayList<>();
+    private int batchDepth;
+    private volatile SubmissionPublisher<List<TaskChange>> publisher;
+
+    /**
+     * Subscribes to batches of changes, creating the publisher if needed.
+     */
+    void subscribe(Flow.Subscriber<? super List<TaskChange>> subscriber) {
+        getPublisher().subscribe(subscriber);
+    }
+
+    /**
+     * Checks if anyone is listening, so callers can skip creating change objects.
+     */
+    boolean isActive() {
+        SubmissionPublisher<List<TaskChange>> current = publisher;
+        return current != null && current.hasSubscribers();
+    }
+
+    /**
+     * Records a change, publishing it at once unless a batch is open.
+     */
+    void record(TaskChange change) {
+        pending.add(change);
+        if (batchDepth == 0) {
+            publishPending();
+        }
+    }
+
+    /**
+     * Opens a batch; batches may nest and are published when the outermost one ends.
+     */
+    void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Closes a batch, publishing its changes if it was the outermost one.
+     */
+    void endBatch() {
+        assert batchDepth > 0 : "endBatch called without beginBatch";
+        batchDepth--;
+        if (batchDepth == 0) {
+            publishPending();
+        }
+    }
+
+    /**
+     * Publishes what is pending and tells subscribers that no more changes will come.
+     */
+    void close() {
+        SubmissionPublisher<List<TaskChange>> current = publisher;
+        if (current != null) {
+            publishPending();
+            current.close();
+        }
+    }
+
+    private void publishPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<TaskChange> batch = List.copyOf(pending);
+        pending.clear();
+        SubmissionPublisher<List<TaskChange>> current = publisher;
+        if (current != null && !current.isClosed()) {
+            current.submit(batch);
+        }
+    }
+
+    private SubmissionPublisher<List<TaskChange>> getPublisher() {
+        SubmissionPublisher<List<TaskChange>> current = publisher;
+        if (current == null) {
+            synchronized (this) {
+                current = publisher;
+                if (current == null) {
+                    current = new SubmissionPublisher<>(ForkJoinPool.commonPool(), BUFFER_CAPACITY);
+                    publisher = current;
+                }
+            }
+        }
+        return current;
+    }
+}
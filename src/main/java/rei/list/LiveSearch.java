@@ -0,0 +1,118 @@
+package rei.list;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+
+import rei.task.Task;
+
+/**
+ * Answers keyword searches incrementally as the user types.
+ * The matches for the previous keyword are kept; when the new keyword extends it, only
+ * those matches are checked again instead of the whole list. Any change to the task list
+ * drops the kept matches, since task positions may have moved.
+ * A LiveSearch must only be used on the thread that modifies its task list.
+ */
+public class LiveSearch implements TaskListListener {
+    // Cancellation is checked once every 1024 tasks
+    private static final int INTERRUPT_CHECK_MASK = 1023;
+
+    private final TaskList tasks;
+    private String lastKeyword;
+    private int[] lastMatches;
+
+    /**
+     * Constructs a LiveSearch over the given task list and starts following its changes.
+     *
+     * @param tasks the task list to search
+     */
+    public LiveSearch(TaskList tasks) {
+        assert tasks != null : "Task list cannot be null";
+        this.tasks = tasks;
+        tasks.addListener(this);
+    }
+
+    /**
+     * Finds the tasks whose description contains the keyword, ignoring case.
+     * Refines the previous result when the keyword extends the previous keyword.
+     *
+     * @param keyword the keyword to search for
+     * @return the 0-based indices of matching tasks, in ascending order
+     * @throws CancellationException if the calling thread is interrupted during the search
+     */
+    public int[] search(String keyword) {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        int[] matches = lastKeyword != null && lowerKeyword.contains(lastKeyword)
+                ? refine(lastMatches, lowerKeyword)
+                : scanAll(lowerKeyword);
+
+        lastKeyword = lowerKeyword;
+        lastMatches = matches;
+        return matches;
+    }
+
+    @Override
+    public void taskAdded(int index, Task task) {
+        invalidate();
+    }
+
+    @Override
+    public void taskRemoved(int index, Task task) {
+        invalidate();
+    }
+
+    @Override
+    public void taskUpdated(int index, Task task) {
+        // Descriptions never change, so the kept matches stay valid
+    }
+
+    /**
+     * Checks every task in the list.
+     */
+    private int[] scanAll(String lowerKeyword) {
+        List<Task> all = tasks.getAll();
+        int[] matches = new int[all.size()];
+        int count = 0;
+        for (int i = 0; i < all.size(); i++) {
+            checkCancelled(i);
+            if (all.get(i).descriptionContains(lowerKeyword)) {
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Checks only the tasks that matched a shorter keyword.
+     */
+    private int[] refine(int[] candidates, String lowerKeyword) {
+        List<Task> all = tasks.getAll();
+        int[] matches = new int[candidates.length];
+        int count = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            checkCancelled(i);
+            if (all.get(candidates[i]).descriptionContains(lowerKeyword)) {
+                matches[count++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Drops the kept matches, which are stale after the list changes.
+     */
+    private void invalidate() {
+        lastKeyword = null;
+        lastMatches = null;
+    }
+
+    /**
+     * Throws if the search thread was interrupted, checking only every few iterations.
+     */
+    private static void checkCancelled(int iteration) {
+        if ((iteration & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Search superseded");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package rei.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A multiset of words kept in a sorted array, answering prefix queries by binary search.
+ * All words starting with a prefix form one contiguous run of the array, so a lookup costs
+ * O(log n) to find the run plus the number of words returned. Each word carries a count so
+ * that it can be added and removed once per occurrence, and disappears when its count drops to zero.
+ */
+public class PrefixIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] words;
+    private int[] counts;
+    private int size;
+
+    /**
+     * Constructs an empty PrefixIndex.
+     */
+    public PrefixIndex() {
+        this.words = new String[INITIAL_CAPACITY];
+        this.counts = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructs a PrefixIndex holding the given words, sorting them once.
+     *
+     * @param initialWords the words to index, possibly with repeats
+     */
+    public PrefixIndex(Collection<String> initialWords) {
+        String[] sorted = initialWords.toArray(new String[0]);
+        Arrays.sort(sorted);
+        this.words = new String[Math.max(INITIAL_CAPACITY, sorted.length)];
+        this.counts = new int[words.length];
+
+        for (String word : sorted) {
+            if (size > 0 && words[size - 1].equals(word)) {
+                counts[size - 1]++;
+            } else {
+                words[size] = word;
+                counts[size++] = 1;
+            }
+        }
+    }
+
+    /**
+     * Adds one occurrence of a word.
+     *
+     * @param word the word to add
+     */
+    public void add(String word) {
+        int slot = Arrays.binarySearch(words, 0, size, word);
+        if (slot >= 0) {
+            counts[slot]++;
+            return;
+        }
+
+        int insertAt = -(slot + 1);
+        ensureCapacity();
+        System.arraycopy(words, insertAt, words, insertAt + 1, size - insertAt);
+        System.arraycopy(counts, insertAt, counts, insertAt + 1, size - insertAt);
+        words[insertAt] = word;
+        counts[insertAt] = 1;
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of a word. Removing a word that is not present has no effect.
+     *
+     * @param word the word to remove
+     */
+    public void remove(String word) {
+        int slot = Arrays.binarySearch(words, 0, size, word);
+        if (slot < 0 || --counts[slot] > 0) {
+            return;
+        }
+
+        System.arraycopy(words, slot + 1, words, slot, size - slot - 1);
+        System.arraycopy(counts, slot + 1, counts, slot, size - slot - 1);
+        words[--size] = null;
+    }
+
+    /**
+     * Finds the words starting with a prefix.
+     *
+     * @param prefix the prefix to complete
+     * @param limit the maximum number of words to return
+     * @return up to limit distinct words, in sorted order
+     */
+    public List<String> complete(String prefix, int limit) {
+        int from = insertionPoint(prefix);
+
+        List<String> matches = new ArrayList<>();
+        for (int i = from; i < size && matches.size() < limit && words[i].startsWith(prefix); i++) {
+            matches.add(words[i]);
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the longest prefix shared by every word starting with a prefix, however many there are.
+     * The run of such words is sorted, so only its first and last words need comparing.
+     *
+     * @param prefix the prefix to complete
+     * @return the shared prefix, or an empty string if no word starts with the prefix
+     */
+    public String commonPrefix(String prefix) {
+        int from = insertionPoint(prefix);
+        if (from == size || !words[from].startsWith(prefix)) {
+            return "";
+        }
+        int to = insertionPoint(prefix + Character.MAX_VALUE);
+        while (to < size && words[to].startsWith(prefix)) {
+            to++;
+        }
+
+        String first = words[from];
+        String last = words[to - 1];
+        int length = prefix.length();
+        while (length < first.length() && length < last.length()
+                && first.charAt(length) == last.charAt(length)) {
+            length++;
+        }
+        return first.substring(0, length);
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     *
+     * @return the number of distinct words
+     */
+    public int size() {
+        return size;
+    }
+
+    private int insertionPoint(String word) {
+        int slot = Arrays.binarySearch(words, 0, size, word);
+        return slot >= 0 ? slot : -(slot + 1);
+    }
+
+    private void ensureCapacity() {
+        if (size == words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+            counts = Arrays.copyOf(counts, counts.length * 2);
+        }
+    }
+}
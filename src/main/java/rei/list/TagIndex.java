@@ -0,0 +1,197 @@
+package rei.list;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import rei.task.Task;
+
+/**
+ * Maintains one bitmap per tag over task positions in a TaskList.
+ * Bit i of a tag's bitmap is set when the task at index i carries that tag,
+ * so tag queries are answered with word-level bitwise operations over the whole list.
+ * A separate bitmap tracks completed tasks.
+ */
+class TagIndex {
+    // Lists at least this large are indexed in parallel when rebuilt
+    private static final int PARALLEL_THRESHOLD = 10_000;
+    private static final int BITS_PER_WORD = 64;
+
+    private Map<String, BitSet> tagBitmaps = new HashMap<>();
+    private BitSet doneBitmap = new BitSet();
+
+    /**
+     * Partial index built over a subset of positions, merged by bitwise OR.
+     */
+    private static class Partial {
+        private final Map<String, BitSet> tagBitmaps = new HashMap<>();
+        private final BitSet doneBitmap = new BitSet();
+
+        private void add(int position, Task task) {
+            for (String tag : task.getTags()) {
+                tagBitmaps.computeIfAbsent(tag, key -> new BitSet()).set(position);
+            }
+            doneBitmap.set(position, task.isDone());
+        }
+
+        private void merge(Partial other) {
+            other.tagBitmaps.forEach((tag, bits) ->
+                    tagBitmaps.merge(tag, bits, (mine, theirs) -> {
+                        mine.or(theirs);
+                        return mine;
+                    }));
+            doneBitmap.or(other.doneBitmap);
+        }
+    }
+
+    /**
+     * Rebuilds the index from scratch, splitting large lists across the common fork-join pool.
+     *
+     * @param tasks the tasks to index, in list order
+     */
+    void rebuild(List<Task> tasks) {
+        IntStream positions = IntStream.range(0, tasks.size());
+        if (tasks.size() >= PARALLEL_THRESHOLD) {
+            positions = positions.parallel();
+        }
+
+        Partial index = positions.collect(Partial::new,
+                (partial, position) -> partial.add(position, tasks.get(position)),
+                Partial::merge);
+        tagBitmaps = index.tagBitmaps;
+        doneBitmap = index.doneBitmap;
+    }
+
+    /**
+     * Records a task stored at the given position, which must be the end of the list.
+     *
+     * @param position the index of the task in the list
+     * @param task the task that was added
+     */
+    void append(int position, Task task) {
+        for (String tag : task.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, key -> new BitSet()).set(position);
+        }
+        doneBitmap.set(position, task.isDone());
+    }
+
+    /**
+     * Refreshes the completion bit of the task at the given position.
+     *
+     * @param position the index of the task in the list
+     * @param task the task whose state changed
+     */
+    void update(int position, Task task) {
+        doneBitmap.set(position, task.isDone());
+    }
+
+    /**
+     * Records a task inserted at the given position, shifting the bits of later tasks up by one.
+     *
+     * @param position the index of the new task in the list
+     * @param task the task that was inserted
+     */
+    void insert(int position, Task task) {
+        for (Map.Entry<String, BitSet> entry : tagBitmaps.entrySet()) {
+            entry.setValue(insertBit(entry.getValue(), position));
+        }
+        doneBitmap = insertBit(doneBitmap, position);
+        for (String tag : task.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, key -> new BitSet()).set(position);
+        }
+        doneBitmap.set(position, task.isDone());
+    }
+
+    /**
+     * Re-indexes the given position for a different task that took the place of the old one,
+     * clearing the old task's tags and setting the new task's tags and completion bit.
+     *
+     * @param position the index of the task in the list
+     * @param task the task now at that position
+     */
+    void replace(int position, Task task) {
+        for (BitSet bits : tagBitmaps.values()) {
+            bits.clear(position);
+        }
+        tagBitmaps.values().removeIf(BitSet::isEmpty);
+        for (String tag : task.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, key -> new BitSet()).set(position);
+        }
+        doneBitmap.set(position, task.isDone());
+    }
+
+    /**
+     * Removes the task at the given position, shifting the bits of later tasks down by one.
+     *
+     * @param position the index of the removed task
+     */
+    void remove(int position) {
+        for (Map.Entry<String, BitSet> entry : tagBitmaps.entrySet()) {
+            entry.setValue(removeBit(entry.getValue(), position));
+        }
+        tagBitmaps.values().removeIf(BitSet::isEmpty);
+        doneBitmap = removeBit(doneBitmap, position);
+    }
+
+    /**
+     * Gets the positions of tasks carrying the given tag.
+     * The reserved tag "done" refers to the completion status of tasks.
+     *
+     * @param tag the normalized tag name
+     * @return a fresh bitmap that the caller may modify
+     */
+    BitSet lookup(String tag) {
+        if (TaskList.DONE_TAG.equals(tag)) {
+            return (BitSet) doneBitmap.clone();
+        }
+        BitSet bits = tagBitmaps.get(tag);
+        return bits == null ? new BitSet() : (BitSet) bits.clone();
+    }
+
+    /**
+     * Opens a clear bit in a bitmap, moving every bit at or above the position up by one.
+     * Works on whole 64-bit words, like {@link #removeBit(BitSet, int)}.
+     */
+    private static BitSet insertBit(BitSet bits, int position) {
+        if (position >= bits.length()) {
+            return bits;
+        }
+
+        long[] words = Arrays.copyOf(bits.toLongArray(), bits.length() / BITS_PER_WORD + 1);
+        int firstWord = position / BITS_PER_WORD;
+        long keepMask = (1L << (position % BITS_PER_WORD)) - 1;
+
+        for (int i = words.length - 1; i > firstWord; i--) {
+            words[i] = (words[i] << 1) | (words[i - 1] >>> (BITS_PER_WORD - 1));
+        }
+        long openedBit = 1L << (position % BITS_PER_WORD);
+        words[firstWord] = (words[firstWord] & keepMask) | ((words[firstWord] << 1) & ~keepMask & ~openedBit);
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Deletes one bit from a bitmap, moving every higher bit down by one position.
+     * Works on whole 64-bit words so the cost is proportional to the bitmap length / 64.
+     */
+    private static BitSet removeBit(BitSet bits, int position) {
+        if (position >= bits.length()) {
+            return bits;
+        }
+
+        long[] words = bits.toLongArray();
+        int firstWord = position / BITS_PER_WORD;
+        long keepMask = (1L << (position % BITS_PER_WORD)) - 1;
+
+        for (int i = firstWord; i < words.length; i++) {
+            long shifted = i == firstWord
+                    ? (words[i] & keepMask) | ((words[i] >>> 1) & ~keepMask)
+                    : words[i] >>> 1;
+            long carry = i + 1 < words.length ? words[i + 1] << (BITS_PER_WORD - 1) : 0;
+            words[i] = shifted | carry;
+        }
+        return BitSet.valueOf(words);
+    }
+}
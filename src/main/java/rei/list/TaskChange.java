@@ -0,0 +1,77 @@
+package rei.list;
+
+import rei.task.Task;
+
+/**
+ * One change to a TaskList, as published to the subscribers of {@link TaskList#getChanges()}.
+ * The task is the live task, which may have changed again by the time a subscriber sees it.
+ */
+public final class TaskChange {
+
+    /**
+     * The kinds of change a task list can go through.
+     */
+    public enum Kind {
+        /** A task was added at the index. */
+        ADDED,
+        /** The task at the index was removed; later tasks moved up by one. */
+        REMOVED,
+        /** The task at the index was marked as done. */
+        MARKED,
+        /** The task at the index was marked as not done. */
+        UNMARKED,
+        /** The task at the index changed in another way, such as its priority or an occurrence. */
+        UPDATED
+    }
+
+    private final Kind kind;
+    private final int index;
+    private final Task task;
+
+    /**
+     * Constructs a TaskChange.
+     *
+     * @param kind what happened to the task
+     * @param index the 0-based index of the task when it changed
+     * @param task the task that changed
+     */
+    public TaskChange(Kind kind, int index, Task task) {
+        assert kind != null && task != null : "Kind and task are required";
+        assert index >= 0 : "Index cannot be negative";
+        this.kind = kind;
+        this.index = index;
+        this.task = task;
+    }
+
+    /**
+     * Gets what happened to the task.
+     *
+     * @return the kind of change
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the 0-based index the task had when it changed.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the task that changed.
+     *
+     * @return the task
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + index + " " + task;
+    }
+}
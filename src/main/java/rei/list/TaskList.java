@@ -1,6 +1,11 @@
 package rei.list;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import rei.task.*;
 import rei.exceptions.ReiExceptions;
 
@@ -9,7 +14,21 @@ import rei.exceptions.ReiExceptions;
  * Provides a wrapper around ArrayList with additional task-specific functionality.
  */
 public class TaskList {
+    /** The reserved tag that refers to the completion status of tasks in tag expressions. */
+    public static final String DONE_TAG = "done";
+
+    // Operators accepted in tag expressions
+    private static final String OR_OPERATOR_REGEX = "\\|";
+    private static final String AND_OPERATOR_REGEX = "&";
+    private static final char NOT_OPERATOR = '!';
+
     private final ArrayList<Task> tasks;
+    private final TagIndex tagIndex = new TagIndex();
+    private final UrgencyHeap urgencyHeap = new UrgencyHeap();
+    private final List<TaskListListener> listeners = new CopyOnWriteArrayList<>();
+    private final ChangeStream changes = new ChangeStream();
+    // The id given to the next task added without one
+    private long nextId = 1;
 
     /**
      * Constructs a new TaskList with the provided list of tasks.
@@ -19,6 +38,67 @@ public class TaskList {
     public TaskList(ArrayList<Task> tasks) {
         assert tasks != null : "Tasks list cannot be null";
         this.tasks = tasks;
+        for (Task task : tasks) {
+            nextId = Math.max(nextId, task.getId() + 1);
+        }
+        for (Task task : tasks) {
+            assignIdIfMissing(task);
+        }
+        tagIndex.rebuild(tasks);
+        urgencyHeap.rebuild(tasks);
+    }
+
+    /**
+     * Registers a listener to be notified of changes to this list.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(TaskListListener listener) {
+        assert listener != null : "Listener cannot be null";
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops notifying a previously registered listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Gets a publisher of the changes to this list, delivered asynchronously in batches.
+     * Changes made by one command arrive as one batch, see {@link #beginBatch()}.
+     * Each subscriber buffers a bounded number of batches; a subscriber that falls behind
+     * by more than that makes the thread changing the list wait.
+     *
+     * @return the publisher of change batches
+     */
+    public Flow.Publisher<List<TaskChange>> getChanges() {
+        return changes::subscribe;
+    }
+
+    /**
+     * Starts grouping changes into one batch for the subscribers of {@link #getChanges()}.
+     * Must be paired with {@link #endBatch()}; nested batches are published when the outermost one ends.
+     */
+    public void beginBatch() {
+        changes.beginBatch();
+    }
+
+    /**
+     * Ends a batch started with {@link #beginBatch()}, publishing it if it is the outermost one.
+     */
+    public void endBatch() {
+        changes.endBatch();
+    }
+
+    /**
+     * Publishes any pending changes and completes every subscriber of {@link #getChanges()}.
+     */
+    public void closeChanges() {
+        changes.close();
     }
 
     /**
@@ -29,7 +109,36 @@ public class TaskList {
     public void add(Task task) {
         assert task != null : "Cannot add null task to list";
         assert tasks != null : "Task list should be initialized";
+        assignIdIfMissing(task);
         tasks.add(task);
+        tagIndex.append(tasks.size() - 1, task);
+        urgencyHeap.update(task);
+        for (TaskListListener listener : listeners) {
+            listener.taskAdded(tasks.size() - 1, task);
+        }
+        publish(TaskChange.Kind.ADDED, tasks.size() - 1, task);
+    }
+
+    /**
+     * Inserts a task at the specified index, moving the task there and every later task down by one.
+     *
+     * @param index the 0-based index the new task will have, at most the size of the list
+     * @param task the task to insert
+     * @throws ReiExceptions if the index is out of bounds
+     */
+    public void add(int index, Task task) throws ReiExceptions {
+        assert task != null : "Cannot add null task to list";
+        if (index < 0 || index > tasks.size()) {
+            throw new ReiExceptions("OOPS!!! That task number is invalid.");
+        }
+        assignIdIfMissing(task);
+        tasks.add(index, task);
+        tagIndex.insert(index, task);
+        urgencyHeap.update(task);
+        for (TaskListListener listener : listeners) {
+            listener.taskAdded(index, task);
+        }
+        publish(TaskChange.Kind.ADDED, index, task);
     }
 
     /**
@@ -44,6 +153,28 @@ public class TaskList {
         return tasks.get(index);
     }
 
+    /**
+     * Appends several tasks to the end of the task list, notifying listeners once for the whole run.
+     *
+     * @param added the tasks to append, in order
+     */
+    public void addAll(List<Task> added) {
+        int fromIndex = tasks.size();
+        for (Task task : added) {
+            assert task != null : "Cannot add null task to list";
+            assignIdIfMissing(task);
+            tasks.add(task);
+            tagIndex.append(tasks.size() - 1, task);
+            urgencyHeap.update(task);
+        }
+        for (TaskListListener listener : listeners) {
+            listener.tasksAdded(fromIndex, added);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            publish(TaskChange.Kind.ADDED, fromIndex + i, added.get(i));
+        }
+    }
+
     /**
      * Removes and returns the task at the specified index.
      *
@@ -53,7 +184,59 @@ public class TaskList {
      */
     public Task remove(int index) throws ReiExceptions {
         checkIndex(index);
-        return tasks.remove(index);
+        Task removed = tasks.remove(index);
+        tagIndex.remove(index);
+        urgencyHeap.remove(removed);
+        for (TaskListListener listener : listeners) {
+            listener.taskRemoved(index, removed);
+        }
+        publish(TaskChange.Kind.REMOVED, index, removed);
+        return removed;
+    }
+
+    /**
+     * Replaces the task at the specified index, such as with a newer copy of it saved by another writer.
+     *
+     * @param index the 0-based index of the task to replace
+     * @param task the task to put in its place
+     * @return the task that was replaced
+     * @throws ReiExceptions if the index is out of bounds
+     */
+    public Task replace(int index, Task task) throws ReiExceptions {
+        assert task != null : "Cannot replace with a null task";
+        checkIndex(index);
+        assignIdIfMissing(task);
+        Task replaced = tasks.set(index, task);
+        tagIndex.replace(index, task);
+        urgencyHeap.remove(replaced);
+        urgencyHeap.update(task);
+        for (TaskListListener listener : listeners) {
+            listener.taskReplaced(index, replaced, task);
+        }
+        publish(TaskChange.Kind.UPDATED, index, task);
+        return replaced;
+    }
+
+    /**
+     * Makes sure tasks added from now on get ids above the given one.
+     * Used when ids may also have been given out by another writer of the same file.
+     *
+     * @param id an id already in use elsewhere
+     */
+    public void reserveIdsUpTo(long id) {
+        nextId = Math.max(nextId, id + 1);
+    }
+
+    /**
+     * Gives the task at the specified index a fresh id, keeping its version.
+     *
+     * @param index the 0-based index of the task
+     * @throws ReiExceptions if the index is out of bounds
+     */
+    public void reassignId(int index) throws ReiExceptions {
+        checkIndex(index);
+        Task task = tasks.get(index);
+        task.assignIdentity(nextId++, task.getVersion());
     }
 
     /**
@@ -65,6 +248,9 @@ public class TaskList {
     public void markDone(int index) throws ReiExceptions {
         checkIndex(index);
         tasks.get(index).markDone();
+        tagIndex.update(index, tasks.get(index));
+        urgencyHeap.update(tasks.get(index));
+        notifyUpdated(index, TaskChange.Kind.MARKED);
     }
 
     /**
@@ -76,6 +262,72 @@ public class TaskList {
     public void markUndone(int index) throws ReiExceptions {
         checkIndex(index);
         tasks.get(index).markUndone();
+        tagIndex.update(index, tasks.get(index));
+        urgencyHeap.update(tasks.get(index));
+        notifyUpdated(index, TaskChange.Kind.UNMARKED);
+    }
+
+    /**
+     * Marks a single occurrence of the recurring task at the specified index as completed.
+     *
+     * @param index the 0-based index of the recurring task
+     * @param occurrence the start date and time of the occurrence
+     * @return the updated occurrence
+     * @throws ReiExceptions if the index is invalid, the task is not recurring, or no occurrence starts then
+     */
+    public Recurring.Occurrence markOccurrenceDone(int index, LocalDateTime occurrence) throws ReiExceptions {
+        Recurring recurring = getRecurring(index);
+        long occurrenceMinute = EpochMinutes.of(occurrence);
+        if (!recurring.markOccurrenceDone(occurrenceMinute)) {
+            throw new ReiExceptions("OOPS!!! That task does not occur at that time.");
+        }
+        urgencyHeap.update(recurring);
+        notifyUpdated(index, TaskChange.Kind.UPDATED);
+        return recurring.getOccurrenceAt(occurrenceMinute);
+    }
+
+    /**
+     * Marks a single occurrence of the recurring task at the specified index as not completed.
+     *
+     * @param index the 0-based index of the recurring task
+     * @param occurrence the start date and time of the occurrence
+     * @return the updated occurrence
+     * @throws ReiExceptions if the index is invalid, the task is not recurring, or no occurrence starts then
+     */
+    public Recurring.Occurrence markOccurrenceUndone(int index, LocalDateTime occurrence) throws ReiExceptions {
+        Recurring recurring = getRecurring(index);
+        long occurrenceMinute = EpochMinutes.of(occurrence);
+        if (!recurring.markOccurrenceUndone(occurrenceMinute)) {
+            throw new ReiExceptions("OOPS!!! That task does not occur at that time.");
+        }
+        urgencyHeap.update(recurring);
+        notifyUpdated(index, TaskChange.Kind.UPDATED);
+        return recurring.getOccurrenceAt(occurrenceMinute);
+    }
+
+    /**
+     * Changes the priority of the task at the specified index.
+     *
+     * @param index the 0-based index of the task
+     * @param priority the new priority
+     * @throws ReiExceptions if the index is out of bounds
+     */
+    public void setPriority(int index, Priority priority) throws ReiExceptions {
+        checkIndex(index);
+        tasks.get(index).setPriority(priority);
+        urgencyHeap.update(tasks.get(index));
+        notifyUpdated(index, TaskChange.Kind.UPDATED);
+    }
+
+    /**
+     * Returns the most urgent actionable tasks, most urgent first.
+     * Reads from an indexed heap in O(k log k) rather than sorting the whole list.
+     *
+     * @param count the maximum number of tasks to return
+     * @return up to count tasks that are not yet done
+     */
+    public List<Task> getMostUrgent(int count) {
+        return urgencyHeap.peekMostUrgent(count);
     }
 
     /**
@@ -108,6 +360,106 @@ public class TaskList {
         return tasks;
     }
 
+    /**
+     * Selects the tasks matching a tag expression such as "#work & !#done | #urgent".
+     * Terms are tags, optionally negated with '!'; '&' binds tighter than '|'.
+     * The reserved tag "#done" matches completed tasks.
+     * Each term is evaluated as a bitmap over the whole list with word-level operations.
+     *
+     * @param expression the tag expression to evaluate
+     * @return a bitmap whose set bits are the 0-based indices of the matching tasks
+     * @throws ReiExceptions if the expression is malformed
+     */
+    public BitSet selectByTags(String expression) throws ReiExceptions {
+        assert expression != null : "Tag expression cannot be null";
+        BitSet result = new BitSet();
+
+        for (String conjunction : expression.split(OR_OPERATOR_REGEX)) {
+            BitSet matches = null;
+            for (String term : conjunction.split(AND_OPERATOR_REGEX)) {
+                BitSet termBits = evaluateTagTerm(term.trim());
+                if (matches == null) {
+                    matches = termBits;
+                } else {
+                    matches.and(termBits);
+                }
+            }
+            result.or(matches);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates a single, possibly negated, tag term.
+     *
+     * @param term the term, such as "#work" or "!#done"
+     * @return a fresh bitmap of the matching task indices
+     * @throws ReiExceptions if the term is not a tag
+     */
+    private BitSet evaluateTagTerm(String term) throws ReiExceptions {
+        boolean isNegated = !term.isEmpty() && term.charAt(0) == NOT_OPERATOR;
+        String tagToken = isNegated ? term.substring(1).trim() : term;
+
+        if (!Tags.isTag(tagToken)) {
+            throw new ReiExceptions("OOPS!!! Filter terms must be tags like #work or !#done.");
+        }
+
+        BitSet bits = tagIndex.lookup(Tags.normalize(tagToken.substring(1)));
+        if (isNegated) {
+            bits.flip(0, tasks.size());
+        }
+        return bits;
+    }
+
+    /**
+     * Notifies listeners that the task at the given index changed.
+     *
+     * @param index the 0-based index of the changed task
+     * @param kind how the task changed, for change subscribers
+     */
+    private void notifyUpdated(int index, TaskChange.Kind kind) {
+        Task task = tasks.get(index);
+        for (TaskListListener listener : listeners) {
+            listener.taskUpdated(index, task);
+        }
+        publish(kind, index, task);
+    }
+
+    /**
+     * Gives a task the next id and its first version if it does not have an id yet.
+     */
+    private void assignIdIfMissing(Task task) {
+        if (task.getId() == 0) {
+            task.assignIdentity(nextId++, Task.FIRST_VERSION);
+        } else {
+            nextId = Math.max(nextId, task.getId() + 1);
+        }
+    }
+
+    /**
+     * Records a change for the subscribers of {@link #getChanges()}, if there are any.
+     */
+    private void publish(TaskChange.Kind kind, int index, Task task) {
+        if (changes.isActive()) {
+            changes.record(new TaskChange(kind, index, task));
+        }
+    }
+
+    /**
+     * Retrieves the recurring task at the specified index.
+     *
+     * @param index the 0-based index of the task
+     * @return the recurring task
+     * @throws ReiExceptions if the index is invalid or the task is not recurring
+     */
+    private Recurring getRecurring(int index) throws ReiExceptions {
+        Task task = get(index);
+        if (!(task instanceof Recurring)) {
+            throw new ReiExceptions("OOPS!!! Only recurring tasks have occurrences.");
+        }
+        return (Recurring) task;
+    }
+
     /**
      * Validates that the given index is within the valid range of the task list.
      *
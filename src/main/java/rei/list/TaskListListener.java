@@ -0,0 +1,63 @@
+package rei.list;
+
+import java.util.List;
+
+import rei.task.Task;
+
+/**
+ * Receives notifications when the contents of a TaskList change.
+ * Listeners are called synchronously on the thread that changed the list.
+ */
+public interface TaskListListener {
+
+    /**
+     * Called after a task is added to the list.
+     *
+     * @param index the 0-based index of the new task
+     * @param task the task that was added
+     */
+    void taskAdded(int index, Task task);
+
+    /**
+     * Called after a run of tasks is appended to the list in one step, such as while loading.
+     * By default each task is reported through {@link #taskAdded(int, Task)}.
+     *
+     * @param fromIndex the 0-based index of the first new task
+     * @param added the tasks that were added, in list order
+     */
+    default void tasksAdded(int fromIndex, List<Task> added) {
+        for (int i = 0; i < added.size(); i++) {
+            taskAdded(fromIndex + i, added.get(i));
+        }
+    }
+
+    /**
+     * Called after a task is removed from the list.
+     *
+     * @param index the 0-based index the task had before it was removed
+     * @param task the task that was removed
+     */
+    void taskRemoved(int index, Task task);
+
+    /**
+     * Called after a task in the list changes, for example when it is marked or re-prioritized.
+     *
+     * @param index the 0-based index of the task
+     * @param task the task that changed
+     */
+    void taskUpdated(int index, Task task);
+
+    /**
+     * Called after the task at an index is swapped for a different object, such as a newer copy
+     * saved by another writer. By default this is reported as the old task being removed and the
+     * new one being added at the same index.
+     *
+     * @param index the 0-based index of the task
+     * @param replaced the task that is no longer in the list
+     * @param task the task now at that index
+     */
+    default void taskReplaced(int index, Task replaced, Task task) {
+        taskRemoved(index, replaced);
+        taskAdded(index, task);
+    }
+}
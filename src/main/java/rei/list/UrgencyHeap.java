@@ -0,0 +1,190 @@
+package rei.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import rei.task.Task;
+
+/**
+ * An indexed binary min-heap of actionable tasks ordered by urgency key.
+ * Each task's slot is tracked so that a task can be re-keyed or removed in O(log n)
+ * when it is marked, unmarked, re-prioritized or deleted, and the k most urgent tasks
+ * can be read in O(k log k) without disturbing the heap.
+ */
+class UrgencyHeap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Task[] heap = new Task[INITIAL_CAPACITY];
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int size;
+    private final IdentityHashMap<Task, Integer> slots = new IdentityHashMap<>();
+
+    /**
+     * Replaces the contents of the heap with the actionable tasks in the list, in O(n).
+     *
+     * @param tasks the tasks to consider
+     */
+    void rebuild(List<Task> tasks) {
+        slots.clear();
+        size = 0;
+        heap = new Task[Math.max(INITIAL_CAPACITY, tasks.size())];
+        keys = new long[heap.length];
+
+        for (Task task : tasks) {
+            if (task.isActionable()) {
+                place(size++, task, task.getUrgencyKey());
+            }
+        }
+        for (int slot = size / 2 - 1; slot >= 0; slot--) {
+            siftDown(slot);
+        }
+    }
+
+    /**
+     * Brings the heap in line with the current state of a task: inserts it if it became
+     * actionable, removes it if it no longer is, and otherwise re-keys it in place.
+     *
+     * @param task the task that was added or changed
+     */
+    void update(Task task) {
+        Integer slot = slots.get(task);
+        if (!task.isActionable()) {
+            if (slot != null) {
+                removeAt(slot);
+            }
+            return;
+        }
+
+        long key = task.getUrgencyKey();
+        if (slot == null) {
+            ensureCapacity();
+            place(size, task, key);
+            siftUp(size++);
+        } else if (key < keys[slot]) {
+            keys[slot] = key;
+            siftUp(slot);
+        } else if (key > keys[slot]) {
+            keys[slot] = key;
+            siftDown(slot);
+        }
+    }
+
+    /**
+     * Removes a task from the heap if it is present.
+     *
+     * @param task the task to remove
+     */
+    void remove(Task task) {
+        Integer slot = slots.get(task);
+        if (slot != null) {
+            removeAt(slot);
+        }
+    }
+
+    /**
+     * Returns the most urgent tasks without modifying the heap.
+     * Walks the heap with a small frontier queue of candidate slots, so only O(k) slots are visited.
+     *
+     * @param count the maximum number of tasks to return
+     * @return up to count tasks, most urgent first
+     */
+    List<Task> peekMostUrgent(int count) {
+        List<Task> result = new ArrayList<>(Math.min(count, size));
+        if (size == 0 || count <= 0) {
+            return result;
+        }
+
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((a, b) -> Long.compare(keys[a], keys[b]));
+        frontier.add(0);
+        while (!frontier.isEmpty() && result.size() < count) {
+            int slot = frontier.poll();
+            result.add(heap[slot]);
+
+            int left = 2 * slot + 1;
+            if (left < size) {
+                frontier.add(left);
+            }
+            if (left + 1 < size) {
+                frontier.add(left + 1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of actionable tasks in the heap.
+     *
+     * @return the heap size
+     */
+    int size() {
+        return size;
+    }
+
+    private void removeAt(int slot) {
+        Task removed = heap[slot];
+        slots.remove(removed);
+        size--;
+
+        if (slot != size) {
+            place(slot, heap[size], keys[size]);
+            heap[size] = null;
+            siftDown(slot);
+            siftUp(slot);
+        } else {
+            heap[size] = null;
+        }
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (keys[parent] <= keys[slot]) {
+                return;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int smallest = slot;
+            int left = 2 * slot + 1;
+            int right = left + 1;
+            if (left < size && keys[left] < keys[smallest]) {
+                smallest = left;
+            }
+            if (right < size && keys[right] < keys[smallest]) {
+                smallest = right;
+            }
+            if (smallest == slot) {
+                return;
+            }
+            swap(slot, smallest);
+            slot = smallest;
+        }
+    }
+
+    private void swap(int first, int second) {
+        Task firstTask = heap[first];
+        long firstKey = keys[first];
+        place(first, heap[second], keys[second]);
+        place(second, firstTask, firstKey);
+    }
+
+    private void place(int slot, Task task, long key) {
+        heap[slot] = task;
+        keys[slot] = key;
+        slots.put(task, slot);
+    }
+
+    private void ensureCapacity() {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package rei.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event spanning the execution of one command.
+ */
+@Name("rei.Command")
+@Label("Command")
+@Category({"Rei", "Commands"})
+@Description("Execution of one chatbot command, including any save it triggers")
+@StackTrace(false)
+public class CommandEvent extends Event {
+    @Label("Command Class")
+    private Class<?> commandClass;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the list after the command")
+    private int taskCount;
+
+    /**
+     * Creates an event and starts timing it.
+     *
+     * @return the started event
+     */
+    public static CommandEvent start() {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the event and records it if a recording wants it.
+     *
+     * @param commandClass the class of the command that ran
+     * @param taskCount the number of tasks in the list afterwards
+     */
+    public void finish(Class<?> commandClass, int taskCount) {
+        end();
+        if (shouldCommit()) {
+            this.commandClass = commandClass;
+            this.taskCount = taskCount;
+            commit();
+        }
+    }
+}
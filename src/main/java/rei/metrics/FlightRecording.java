@@ -0,0 +1,62 @@
+package rei.metrics;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ * Starts a Flight Recorder recording from a startup flag.
+ * Running with {@code -Drei.jfr=rei.jfr} records Rei's command, storage and render events
+ * together with the JDK's own GC, I/O and thread events, and writes them to that file on exit.
+ * The JDK settings used default to "default" and can be changed with {@value #SETTINGS_PROPERTY}.
+ */
+public final class FlightRecording {
+    // Startup flags
+    public static final String PATH_PROPERTY = "rei.jfr";
+    public static final String SETTINGS_PROPERTY = "rei.jfr.settings";
+    private static final String DEFAULT_SETTINGS = "default";
+    private static final String RECORDING_NAME = "Rei";
+
+    private static Recording recording;
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Checks if Flight Recorder is running, either from {@value #PATH_PROPERTY} or from JVM options.
+     * Loading the first event class sets up Flight Recorder's metadata, which takes longer than
+     * the rest of startup, so callers only create events once this returns true.
+     *
+     * @return true if events created now can be recorded, false otherwise
+     */
+    public static boolean isRecorderRunning() {
+        return FlightRecorder.isInitialized();
+    }
+
+    /**
+     * Starts recording if {@value #PATH_PROPERTY} is set. Calling this more than once has no effect.
+     * A recording that cannot be started is reported on standard error and otherwise ignored.
+     */
+    public static synchronized void startIfConfigured() {
+        String path = System.getProperty(PATH_PROPERTY);
+        if (path == null || path.isBlank() || recording != null) {
+            return;
+        }
+
+        try {
+            String settings = System.getProperty(SETTINGS_PROPERTY, DEFAULT_SETTINGS);
+            Recording started = new Recording(Configuration.getConfiguration(settings));
+            started.setName(RECORDING_NAME);
+            started.setDestination(Paths.get(path));
+            started.setDumpOnExit(true);
+            started.start();
+            recording = started;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            System.err.println("Unable to start the flight recording: " + e.getMessage());
+        }
+    }
+}
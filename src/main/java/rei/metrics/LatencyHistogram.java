@@ -0,0 +1,135 @@
+package rei.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with log-linear buckets.
+ * Each power of two is split into four buckets, so a reported percentile is the upper
+ * bound of its bucket and at most 25% above the true value. Recording a duration
+ * only increments counters and never allocates, so it is cheap enough for every command.
+ */
+public class LatencyHistogram {
+    // Bucket layout: four sub-buckets per power of two, covering every non-negative long
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Constructs a new, empty LatencyHistogram.
+     *
+     * @param name the name shown in reports
+     */
+    public LatencyHistogram(String name) {
+        assert name != null : "Histogram name cannot be null";
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of this histogram.
+     *
+     * @return the name shown in reports
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration in nanoseconds; negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketOf(value));
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Records the time elapsed since the given start.
+     *
+     * @param startNanos a value previously returned by {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Gets an upper estimate of the duration below which the given fraction of durations fall.
+     *
+     * @param quantile the fraction, between 0 and 1, such as 0.99 for the 99th percentile
+     * @return the percentile in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentileNanos(double quantile) {
+        assert quantile >= 0 && quantile <= 1 : "Quantile must be between 0 and 1";
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Finds the bucket holding a non-negative value.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest value that falls in a bucket.
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
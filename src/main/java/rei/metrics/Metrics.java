@@ -0,0 +1,139 @@
+package rei.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The process-wide registry of latency histograms.
+ * There is one histogram per command class, looked up through a {@link ClassValue} so that
+ * timing a command costs no hashing or allocation, plus fixed ones for parsing and storage.
+ * Setting the system property {@value #DUMP_PATH_PROPERTY} to a file path makes
+ * {@link #startDumpIfConfigured()} rewrite that file with a report periodically.
+ */
+public final class Metrics {
+    // Periodic dump configuration
+    public static final String DUMP_PATH_PROPERTY = "rei.metrics.dump";
+    public static final String DUMP_INTERVAL_PROPERTY = "rei.metrics.dumpIntervalSeconds";
+    private static final long DEFAULT_DUMP_INTERVAL_SECONDS = 60;
+    private static final String DUMP_THREAD_NAME = "rei-metrics";
+
+    // Report layout
+    private static final String REPORT_HEADER = String.format("%-24s %8s %10s %10s %10s",
+            "operation", "count", "p50 ms", "p99 ms", "max ms");
+    private static final String REPORT_ROW = "%-24s %8d %10.3f %10.3f %10.3f";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentSkipListMap<>();
+    private static final ClassValue<LatencyHistogram> COMMAND_HISTOGRAMS = new ClassValue<>() {
+        @Override
+        protected LatencyHistogram computeValue(Class<?> type) {
+            return register("command." + type.getSimpleName());
+        }
+    };
+
+    /** Time taken to turn user input into a command. */
+    public static final LatencyHistogram PARSE = register("parse");
+    /** Time taken to load the task file. */
+    public static final LatencyHistogram STORAGE_LOAD = register("storage.load");
+    /** Time taken to save the task file. */
+    public static final LatencyHistogram STORAGE_SAVE = register("storage.save");
+    /** Time taken to apply changes another process saved to the task file. */
+    public static final LatencyHistogram STORAGE_RELOAD = register("storage.reload");
+
+    private static ScheduledExecutorService dumper;
+
+    private Metrics() {
+    }
+
+    /**
+     * Gets the histogram timing the execution of one kind of command.
+     *
+     * @param commandClass the class of the command
+     * @return the histogram shared by every command of that class
+     */
+    public static LatencyHistogram getCommandLatency(Class<?> commandClass) {
+        return COMMAND_HISTOGRAMS.get(commandClass);
+    }
+
+    /**
+     * Formats the count, median, 99th percentile and maximum of every histogram in use.
+     *
+     * @return the report lines, one per operation, sorted by operation name
+     */
+    public static String[] report() {
+        return HISTOGRAMS.values().stream()
+                .filter(histogram -> histogram.getCount() > 0)
+                .map(Metrics::formatRow)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Gets the header line that goes above {@link #report()}.
+     *
+     * @return the column titles
+     */
+    public static String getReportHeader() {
+        return REPORT_HEADER;
+    }
+
+    /**
+     * Starts rewriting the report to the file named by {@value #DUMP_PATH_PROPERTY}, if it is set.
+     * The interval defaults to a minute and can be changed with {@value #DUMP_INTERVAL_PROPERTY}.
+     * Calling this more than once has no effect.
+     */
+    public static synchronized void startDumpIfConfigured() {
+        String path = System.getProperty(DUMP_PATH_PROPERTY);
+        if (path == null || path.isBlank() || dumper != null) {
+            return;
+        }
+        long interval = Long.getLong(DUMP_INTERVAL_PROPERTY, DEFAULT_DUMP_INTERVAL_SECONDS);
+        assert interval > 0 : "Dump interval must be positive";
+
+        Path dumpFile = Paths.get(path);
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, DUMP_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> dump(dumpFile), interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates and registers a named histogram.
+     */
+    private static LatencyHistogram register(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Formats one report row.
+     */
+    private static String formatRow(LatencyHistogram histogram) {
+        return String.format(REPORT_ROW, histogram.getName(), histogram.getCount(),
+                histogram.getPercentileNanos(0.5) / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(0.99) / NANOS_PER_MILLI,
+                histogram.getMaxNanos() / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Writes the current report to a file, replacing its previous contents.
+     */
+    private static void dump(Path dumpFile) {
+        StringBuilder text = new StringBuilder(REPORT_HEADER).append(System.lineSeparator());
+        for (String row : report()) {
+            text.append(row).append(System.lineSeparator());
+        }
+        try {
+            Files.writeString(dumpFile, text);
+        } catch (IOException e) {
+            // Metrics are best effort; try again at the next interval
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package rei.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event spanning the rendering of one chat message into a transcript row.
+ */
+@Name("rei.Render")
+@Label("Render Message")
+@Category({"Rei", "GUI"})
+@Description("Filling a transcript row with a chat message on the JavaFX application thread")
+@StackTrace(false)
+public class RenderEvent extends Event {
+    @Label("Message Length")
+    private int messageLength;
+
+    @Label("From User")
+    private boolean isFromUser;
+
+    /**
+     * Creates an event and starts timing it.
+     *
+     * @return the started event
+     */
+    public static RenderEvent start() {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the event and records it if a recording wants it.
+     *
+     * @param messageLength the number of characters in the message
+     * @param isFromUser true if the message is from the user, false if from the bot
+     */
+    public void finish(int messageLength, boolean isFromUser) {
+        end();
+        if (shouldCommit()) {
+            this.messageLength = messageLength;
+            this.isFromUser = isFromUser;
+            commit();
+        }
+    }
+}
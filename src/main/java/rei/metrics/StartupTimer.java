@@ -0,0 +1,44 @@
+package rei.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reports the time from JVM launch to the first prompt, for measuring startup work.
+ * Running with {@code -Drei.startup.report} prints one line such as "startup cli 182 ms"
+ * to standard error once Rei is ready for input; {@code -Drei.startup.exit} additionally
+ * exits right after, which is how archive training and startup benchmarks drive the GUI.
+ */
+public final class StartupTimer {
+    // Startup flags
+    public static final String REPORT_PROPERTY = "rei.startup.report";
+    public static final String EXIT_PROPERTY = "rei.startup.exit";
+
+    // Report line layout, read back by the startup benchmark
+    public static final String REPORT_PREFIX = "startup ";
+    public static final String REPORT_SUFFIX = " ms";
+
+    private static boolean isReported;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Reports the time to the first prompt if {@value #REPORT_PROPERTY} is set, and exits if
+     * {@value #EXIT_PROPERTY} is set. Only the first call has any effect.
+     *
+     * @param mode the user interface that became ready, such as "cli" or "gui"
+     */
+    public static synchronized void firstPromptShown(String mode) {
+        if (isReported || System.getProperty(REPORT_PROPERTY) == null) {
+            return;
+        }
+        isReported = true;
+
+        // The management classes are only loaded when reporting, so they do not add to the time
+        long startupMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.err.println(REPORT_PREFIX + mode + " " + startupMillis + REPORT_SUFFIX);
+        if (Boolean.getBoolean(EXIT_PROPERTY)) {
+            System.exit(0);
+        }
+    }
+}
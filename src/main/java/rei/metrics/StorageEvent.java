@@ -0,0 +1,66 @@
+package rei.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event spanning one load or save of the task file.
+ */
+@Name("rei.Storage")
+@Label("Storage")
+@Category({"Rei", "Storage"})
+@Description("Loading or saving the task file")
+@StackTrace(false)
+public class StorageEvent extends Event {
+    // Operation names
+    public static final String LOAD = "load";
+    public static final String SAVE = "save";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Line Count")
+    private int lineCount;
+
+    /**
+     * Creates an event and starts timing it.
+     *
+     * @param operation {@link #LOAD} or {@link #SAVE}
+     * @param path the path of the task file
+     * @return the started event
+     */
+    public static StorageEvent start(String operation, String path) {
+        StorageEvent event = new StorageEvent();
+        event.operation = operation;
+        event.path = path;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the event and records it if a recording wants it.
+     *
+     * @param bytes the size of the task file
+     * @param lineCount the number of lines read or written
+     */
+    public void finish(long bytes, int lineCount) {
+        end();
+        if (shouldCommit()) {
+            this.bytes = bytes;
+            this.lineCount = lineCount;
+            commit();
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package rei.parser;
 
 import rei.exceptions.ReiExceptions;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
 import rei.command.*;
+import rei.metrics.Metrics;
+import rei.task.EpochMinutes;
+import rei.task.Priority;
+import rei.task.RecurrenceRule;
+import rei.task.Tags;
 
 /**
  * Parses user input strings and converts them into appropriate Command objects.
@@ -11,9 +20,6 @@ import rei.command.*;
  */
 public class Parser {
 
-    private static final DateTimeFormatter INPUT_FORMAT =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-    
     // Constants for string parsing offsets to avoid magic numbers
     private static final int FIND_COMMAND_PREFIX_LENGTH = 5;
     private static final int TODO_COMMAND_PREFIX_LENGTH = 5;
@@ -21,15 +27,26 @@ public class Parser {
     private static final int MARK_COMMAND_PREFIX_LENGTH = 5;
     private static final int UNMARK_COMMAND_PREFIX_LENGTH = 7;
     private static final int DELETE_COMMAND_PREFIX_LENGTH = 7;
+    private static final int RECUR_COMMAND_PREFIX_LENGTH = 6;
+    private static final int AGENDA_COMMAND_PREFIX_LENGTH = 7;
+    private static final int FILTER_COMMAND_PREFIX_LENGTH = 7;
+    private static final int NEXT_COMMAND_PREFIX_LENGTH = 5;
+    private static final int PRIORITY_COMMAND_PREFIX_LENGTH = 9;
     
     // Constants for validation requirements
     private static final int MINIMUM_EVENT_PARTS = 3;
     private static final String DEADLINE_SEPARATOR = "/by";
     private static final String EVENT_SEPARATOR_REGEX = " /from | /to ";
+    private static final String RECUR_EVERY_SEPARATOR = " /every ";
+    private static final String RECUR_UNTIL_SEPARATOR = " /until ";
+    private static final String OCCURRENCE_SEPARATOR = " /on ";
+    private static final String AGENDA_END_SEPARATOR = "/to";
     
     // Command keywords
     private static final String BYE_COMMAND = "bye";
     private static final String LIST_COMMAND = "list";
+    private static final String NEXT_COMMAND = "next";
+    private static final String STATS_COMMAND = "stats";
     private static final String FIND_COMMAND_PREFIX = "find ";
     private static final String TODO_COMMAND_PREFIX = "todo";
     private static final String DEADLINE_COMMAND_PREFIX = "deadline";
@@ -37,6 +54,22 @@ public class Parser {
     private static final String MARK_COMMAND_PREFIX = "mark ";
     private static final String UNMARK_COMMAND_PREFIX = "unmark ";
     private static final String DELETE_COMMAND_PREFIX = "delete ";
+    private static final String RECUR_COMMAND_PREFIX = "recur ";
+    private static final String AGENDA_COMMAND_PREFIX = "agenda ";
+    private static final String FILTER_COMMAND_PREFIX = "filter ";
+    private static final String NEXT_COMMAND_PREFIX = "next ";
+    private static final String PRIORITY_COMMAND_PREFIX = "priority ";
+    private static final List<String> COMMAND_KEYWORDS = List.of(BYE_COMMAND, LIST_COMMAND, NEXT_COMMAND, STATS_COMMAND,
+            FIND_COMMAND_PREFIX, TODO_COMMAND_PREFIX, DEADLINE_COMMAND_PREFIX, EVENT_COMMAND_PREFIX,
+            MARK_COMMAND_PREFIX, UNMARK_COMMAND_PREFIX, DELETE_COMMAND_PREFIX, RECUR_COMMAND_PREFIX,
+            AGENDA_COMMAND_PREFIX, FILTER_COMMAND_PREFIX, PRIORITY_COMMAND_PREFIX);
+
+    /**
+     * Holds the date input format, so that it is only built the first time a date is typed.
+     */
+    private static final class InputFormat {
+        private static final DateTimeFormatter INSTANCE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    }
 
     /**
      * Parses the user input string and returns the corresponding Command object.
@@ -47,6 +80,18 @@ public class Parser {
      * @throws ReiExceptions if the input format is invalid or unrecognized
      */
     public static Command parse(String input) throws ReiExceptions {
+        long startNanos = System.nanoTime();
+        try {
+            return parseInput(input);
+        } finally {
+            Metrics.PARSE.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Parses the user input string without timing it.
+     */
+    private static Command parseInput(String input) throws ReiExceptions {
         String processedInput = validateAndCleanInput(input);
         
         // Handle simple commands first (happy path)
@@ -65,6 +110,31 @@ public class Parser {
         throw new ReiExceptions("OOPS!!! I'm sorry, but I don't know what that means :-(");
     }
     
+    /**
+     * Gets the keywords that start each command the parser recognizes.
+     *
+     * @return the distinct command keywords, without trailing spaces
+     */
+    public static List<String> getCommandKeywords() {
+        return COMMAND_KEYWORDS.stream().map(String::trim).distinct().collect(Collectors.toList());
+    }
+    
+    /**
+     * Extracts the keyword from partially typed input if it is a find command.
+     * Used to search while the user is still typing, so it never throws.
+     *
+     * @param input the text typed so far
+     * @return the keyword, or null if the input is not a find command with a keyword
+     */
+    public static String extractFindKeyword(String input) {
+        String trimmedInput = input == null ? "" : input.trim();
+        if (!trimmedInput.startsWith(FIND_COMMAND_PREFIX)) {
+            return null;
+        }
+        String keyword = extractSubstring(trimmedInput, FIND_COMMAND_PREFIX_LENGTH);
+        return keyword.isEmpty() ? null : keyword;
+    }
+    
     /**
      * Validates input and returns cleaned input string.
      * 
@@ -100,6 +170,14 @@ public class Parser {
             return new ListCommand();
         }
         
+        if (input.equals(NEXT_COMMAND)) {
+            return new NextCommand(NextCommand.DEFAULT_COUNT);
+        }
+        
+        if (input.equals(STATS_COMMAND)) {
+            return new StatsCommand();
+        }
+        
         return null; // No simple command matches
     }
     
@@ -139,6 +217,26 @@ public class Parser {
             return parseDeleteCommand(input);
         }
         
+        if (input.startsWith(RECUR_COMMAND_PREFIX)) {
+            return parseRecurCommand(input);
+        }
+        
+        if (input.startsWith(AGENDA_COMMAND_PREFIX)) {
+            return parseAgendaCommand(input);
+        }
+        
+        if (input.startsWith(FILTER_COMMAND_PREFIX)) {
+            return parseFilterCommand(input);
+        }
+        
+        if (input.startsWith(NEXT_COMMAND_PREFIX)) {
+            return parseNextCommand(input);
+        }
+        
+        if (input.startsWith(PRIORITY_COMMAND_PREFIX)) {
+            return parsePriorityCommand(input);
+        }
+        
         return null; // No parameterized command matches
     }
     
@@ -172,7 +270,8 @@ public class Parser {
         }
         
         String description = extractSubstring(input, TODO_COMMAND_PREFIX_LENGTH);
-        return new TodoCommand(description);
+        return new TodoCommand(stripMarkers(description), Tags.extract(description),
+                Priority.extract(description));
     }
     
     /**
@@ -193,10 +292,12 @@ public class Parser {
         if (description.isEmpty()) {
             throw new ReiExceptions("OOPS!!! The description cannot be empty.");
         }
+        String untaggedDescription = stripMarkers(description);
         
         try {
             LocalDateTime deadlineDateTime = parseDate(parts[1].trim());
-            return new DeadlineCommand(description, deadlineDateTime);
+            return new DeadlineCommand(untaggedDescription, deadlineDateTime,
+                    Tags.extract(description), Priority.extract(description));
         } catch (Exception e) {
             throw new ReiExceptions("OOPS!!! Please use yyyy-MM-dd HH:mm format.");
         }
@@ -220,7 +321,8 @@ public class Parser {
         LocalDateTime startDateTime = parseDate(parts[1].trim());
         LocalDateTime endDateTime = parseDate(parts[2].trim());
         
-        return new EventCommand(description, startDateTime, endDateTime);
+        return new EventCommand(stripMarkers(description), startDateTime, endDateTime,
+                Tags.extract(description), Priority.extract(description));
     }
     
     /**
@@ -231,7 +333,12 @@ public class Parser {
      * @throws ReiExceptions if index is invalid
      */
     private static Command parseMarkCommand(String input) throws ReiExceptions {
-        int taskIndex = parseIndex(input, MARK_COMMAND_PREFIX_LENGTH);
+        String[] parts = input.split(OCCURRENCE_SEPARATOR, 2);
+        int taskIndex = parseIndex(parts[0], MARK_COMMAND_PREFIX_LENGTH);
+        
+        if (parts.length == 2) {
+            return new MarkCommand(taskIndex, parseDate(parts[1]));
+        }
         return new MarkCommand(taskIndex);
     }
     
@@ -243,7 +350,12 @@ public class Parser {
      * @throws ReiExceptions if index is invalid
      */
     private static Command parseUnmarkCommand(String input) throws ReiExceptions {
-        int taskIndex = parseIndex(input, UNMARK_COMMAND_PREFIX_LENGTH);
+        String[] parts = input.split(OCCURRENCE_SEPARATOR, 2);
+        int taskIndex = parseIndex(parts[0], UNMARK_COMMAND_PREFIX_LENGTH);
+        
+        if (parts.length == 2) {
+            return new UnmarkCommand(taskIndex, parseDate(parts[1]));
+        }
         return new UnmarkCommand(taskIndex);
     }
     
@@ -259,6 +371,198 @@ public class Parser {
         return new DeleteCommand(taskIndex);
     }
     
+    /**
+     * Parses recur command from input string.
+     * Accepts "recur DESC /by DATE /every FREQ" for recurring deadlines and
+     * "recur DESC /from DATE /to DATE /every FREQ" for recurring events, where FREQ is
+     * "week", "month", "N weeks" or "N months", optionally followed by "/until DATE".
+     * 
+     * @param input the input string starting with "recur "
+     * @return RecurringCommand object
+     * @throws ReiExceptions if format is invalid
+     */
+    private static Command parseRecurCommand(String input) throws ReiExceptions {
+        String[] parts = input.split(RECUR_EVERY_SEPARATOR, 2);
+        if (parts.length < 2) {
+            throw new ReiExceptions("OOPS!!! A recurring task must have /every.");
+        }
+        
+        String[] ruleParts = parts[1].split(RECUR_UNTIL_SEPARATOR, 2);
+        long untilMinute = ruleParts.length == 2
+                ? EpochMinutes.of(parseDate(ruleParts[1]))
+                : EpochMinutes.NONE;
+        RecurrenceRule rule = parseRecurrenceRule(ruleParts[0].trim(), untilMinute);
+        
+        String schedule = extractSubstring(parts[0], RECUR_COMMAND_PREFIX_LENGTH);
+        String[] eventParts = (" " + schedule).split(EVENT_SEPARATOR_REGEX);
+        if (eventParts.length >= MINIMUM_EVENT_PARTS) {
+            String description = requireDescription(eventParts[0]);
+            LocalDateTime start = parseDate(eventParts[1]);
+            LocalDateTime end = parseDate(eventParts[2]);
+            if (start.isAfter(end)) {
+                throw new ReiExceptions("OOPS!!! Event start time cannot be after end time.");
+            }
+            return new RecurringCommand(stripMarkers(description), start,
+                    Duration.between(start, end).toMinutes(), rule,
+                    Tags.extract(description), Priority.extract(description));
+        }
+        
+        String[] deadlineParts = schedule.split(DEADLINE_SEPARATOR, 2);
+        if (deadlineParts.length < 2) {
+            throw new ReiExceptions("OOPS!!! A recurring task needs /by, or /from and /to.");
+        }
+        String description = requireDescription(deadlineParts[0]);
+        return new RecurringCommand(stripMarkers(description), parseDate(deadlineParts[1]), 0, rule,
+                Tags.extract(description), Priority.extract(description));
+    }
+    
+    /**
+     * Parses a frequency such as "week", "2 weeks" or "month" into a recurrence rule.
+     * 
+     * @param frequencyText the frequency text following /every
+     * @param untilMinute the end of the rule in epoch minutes, or EpochMinutes.NONE
+     * @return the parsed RecurrenceRule
+     * @throws ReiExceptions if the frequency is not recognised
+     */
+    private static RecurrenceRule parseRecurrenceRule(String frequencyText, long untilMinute)
+            throws ReiExceptions {
+        String[] words = frequencyText.split("\\s+");
+        int interval = 1;
+        String unit = words[0];
+        
+        if (words.length == 2) {
+            try {
+                interval = Integer.parseInt(words[0]);
+            } catch (NumberFormatException e) {
+                throw new ReiExceptions("OOPS!!! The interval must be a number.");
+            }
+            unit = words[1];
+        }
+        
+        if (interval < 1 || words.length > 2) {
+            throw new ReiExceptions("OOPS!!! Use /every week, /every month or /every N weeks.");
+        }
+        
+        if (unit.startsWith("week")) {
+            return new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, interval, untilMinute);
+        } else if (unit.startsWith("month")) {
+            return new RecurrenceRule(RecurrenceRule.Frequency.MONTHLY, interval, untilMinute);
+        }
+        throw new ReiExceptions("OOPS!!! Tasks can only recur weekly or monthly.");
+    }
+    
+    /**
+     * Parses agenda command from input string.
+     * Accepts "agenda DATE" for a single day or "agenda DATE /to DATE" for an inclusive range,
+     * with dates in yyyy-MM-dd format.
+     * 
+     * @param input the input string starting with "agenda "
+     * @return AgendaCommand object
+     * @throws ReiExceptions if the dates are invalid
+     */
+    private static Command parseAgendaCommand(String input) throws ReiExceptions {
+        String[] parts = extractSubstring(input, AGENDA_COMMAND_PREFIX_LENGTH)
+                .split(AGENDA_END_SEPARATOR, 2);
+        
+        LocalDate firstDay = parseDay(parts[0]);
+        LocalDate lastDay = parts.length == 2 ? parseDay(parts[1]) : firstDay;
+        if (lastDay.isBefore(firstDay)) {
+            throw new ReiExceptions("OOPS!!! The agenda cannot end before it starts.");
+        }
+        
+        return new AgendaCommand(firstDay.atStartOfDay(), lastDay.plusDays(1).atStartOfDay());
+    }
+    
+    /**
+     * Parses filter command from input string.
+     * 
+     * @param input the input string starting with "filter "
+     * @return FilterCommand object
+     * @throws ReiExceptions if the expression is missing
+     */
+    private static Command parseFilterCommand(String input) throws ReiExceptions {
+        String expression = extractSubstring(input, FILTER_COMMAND_PREFIX_LENGTH);
+        
+        if (expression.isEmpty()) {
+            throw new ReiExceptions("Filter command requires a tag expression.");
+        }
+        
+        return new FilterCommand(expression);
+    }
+    
+    /**
+     * Parses next command from input string.
+     * 
+     * @param input the input string starting with "next "
+     * @return NextCommand object
+     * @throws ReiExceptions if the count is not a positive number
+     */
+    private static Command parseNextCommand(String input) throws ReiExceptions {
+        String countString = extractSubstring(input, NEXT_COMMAND_PREFIX_LENGTH);
+        
+        try {
+            int count = Integer.parseInt(countString);
+            if (count <= 0) {
+                throw new ReiExceptions("OOPS!!! The number of tasks must be positive.");
+            }
+            return new NextCommand(count);
+        } catch (NumberFormatException e) {
+            throw new ReiExceptions("OOPS!!! The number of tasks must be a number.");
+        }
+    }
+    
+    /**
+     * Parses priority command from input string, such as "priority 2 high".
+     * 
+     * @param input the input string starting with "priority "
+     * @return PriorityCommand object
+     * @throws ReiExceptions if the index or priority level is invalid
+     */
+    private static Command parsePriorityCommand(String input) throws ReiExceptions {
+        String[] parts = extractSubstring(input, PRIORITY_COMMAND_PREFIX_LENGTH).split("\\s+");
+        if (parts.length != 2) {
+            throw new ReiExceptions("OOPS!!! Use priority TASK_NUMBER high|normal|low.");
+        }
+        
+        Priority priority = Priority.fromName(parts[1]);
+        if (priority == null) {
+            throw new ReiExceptions("OOPS!!! Priority must be high, normal or low.");
+        }
+        
+        int taskIndex = parseIndex(parts[0], 0);
+        return new PriorityCommand(taskIndex, priority);
+    }
+    
+    /**
+     * Removes "#tag" and "!priority" markers from a description, leaving the plain text.
+     * 
+     * @param description the description as typed, possibly containing markers
+     * @return the description without markers
+     * @throws ReiExceptions if nothing but markers remains
+     */
+    private static String stripMarkers(String description) throws ReiExceptions {
+        String plain = Priority.strip(Tags.strip(description));
+        if (plain.isEmpty()) {
+            throw new ReiExceptions("OOPS!!! The description cannot be only tags.");
+        }
+        return plain;
+    }
+    
+    /**
+     * Ensures a task description is present.
+     * 
+     * @param description the raw description text
+     * @return the trimmed description
+     * @throws ReiExceptions if the description is empty
+     */
+    private static String requireDescription(String description) throws ReiExceptions {
+        String trimmed = description.trim();
+        if (trimmed.isEmpty()) {
+            throw new ReiExceptions("OOPS!!! The description cannot be empty.");
+        }
+        return trimmed;
+    }
+    
     /**
      * Extracts substring starting from given position with proper trimming.
      * 
@@ -351,13 +655,30 @@ public class Parser {
         String cleanedDateString = dateString.trim();
         
         try {
-            LocalDateTime parsedDateTime = LocalDateTime.parse(cleanedDateString, INPUT_FORMAT);
+            LocalDateTime parsedDateTime = LocalDateTime.parse(cleanedDateString, InputFormat.INSTANCE);
             return parsedDateTime;
         } catch (Exception e) {
             throw new ReiExceptions("Please use yyyy-MM-dd HH:mm format!");
         }
     }
     
+    /**
+     * Parses a day string in "yyyy-MM-dd" format.
+     *
+     * @param dayString the day string to parse
+     * @return the parsed LocalDate
+     * @throws ReiExceptions if the string is not a valid day
+     */
+    private static LocalDate parseDay(String dayString) throws ReiExceptions {
+        validateDateInput(dayString);
+        
+        try {
+            return LocalDate.parse(dayString.trim());
+        } catch (Exception e) {
+            throw new ReiExceptions("Please use yyyy-MM-dd format!");
+        }
+    }
+    
     /**
      * Validates date string input before parsing.
      * 
@@ -0,0 +1,224 @@
+package rei.reminder;
+
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import rei.list.TaskList;
+import rei.list.TaskListListener;
+import rei.task.EpochMinutes;
+import rei.task.Recurring;
+import rei.task.Task;
+import rei.ui.UiInterface;
+
+/**
+ * Raises reminders shortly before deadlines are due and events start.
+ * Pending reminders live in a {@link TimingWheel} ticking once per minute, so adding or
+ * cancelling a reminder is O(1) and a single daemon thread serves every pending reminder.
+ * The scheduler listens to the task list it tracks, so deleting, marking or re-prioritizing
+ * a task reschedules or cancels its reminder straight away.
+ */
+public class ReminderScheduler implements TaskListListener {
+    // Reminder configuration
+    public static final long DEFAULT_LEAD_MINUTES = 60;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+    private static final String THREAD_NAME = "rei-reminders";
+
+    private final UiInterface ui;
+    private final long leadMinutes;
+    private final TimingWheel<Reminder> wheel;
+    private final Map<Task, TimingWheel.Entry<Reminder>> pending = new IdentityHashMap<>();
+    // Latest due minute already reminded for each task, so edits do not repeat a reminder
+    private final Map<Task, Long> remindedThrough = new IdentityHashMap<>();
+    private Thread ticker;
+
+    /**
+     * A pending reminder for one due time of a task.
+     */
+    private static class Reminder {
+        private final Task task;
+        private final long dueMinute;
+
+        private Reminder(Task task, long dueMinute) {
+            this.task = task;
+            this.dueMinute = dueMinute;
+        }
+    }
+
+    /**
+     * Constructs a ReminderScheduler that reminds an hour ahead, starting from the current time.
+     *
+     * @param ui the user interface that displays reminders
+     */
+    public ReminderScheduler(UiInterface ui) {
+        this(ui, DEFAULT_LEAD_MINUTES, currentMinute());
+    }
+
+    /**
+     * Constructs a ReminderScheduler with an explicit lead time and start time.
+     *
+     * @param ui the user interface that displays reminders
+     * @param leadMinutes how many minutes before a task is due to remind about it
+     * @param startMinute the current time in epoch minutes
+     */
+    public ReminderScheduler(UiInterface ui, long leadMinutes, long startMinute) {
+        assert ui != null : "UI cannot be null";
+        assert leadMinutes >= 0 : "Reminder lead cannot be negative";
+        this.ui = ui;
+        this.leadMinutes = leadMinutes;
+        this.wheel = new TimingWheel<>(startMinute);
+    }
+
+    /**
+     * Schedules reminders for every task in the list and keeps them in sync with later changes.
+     *
+     * @param tasks the task list to follow, typically just after it was loaded from storage
+     */
+    public synchronized void track(TaskList tasks) {
+        for (Task task : tasks.getAll()) {
+            schedule(task);
+        }
+        tasks.addListener(this);
+    }
+
+    /**
+     * Starts the daemon thread that advances the wheel at every minute boundary.
+     * Calling this more than once has no effect.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = new Thread(this::runTicker, THREAD_NAME);
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    /**
+     * Stops the daemon thread. Pending reminders are kept.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.interrupt();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Advances the scheduler to the given time, raising every reminder that falls due on the way.
+     *
+     * @param nowMinute the current time in epoch minutes
+     */
+    public synchronized void advanceTo(long nowMinute) {
+        wheel.advanceTo(nowMinute, this::fire);
+    }
+
+    /**
+     * Gets the number of reminders waiting to be raised.
+     *
+     * @return the number of pending reminders
+     */
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    @Override
+    public synchronized void taskAdded(int index, Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public synchronized void taskRemoved(int index, Task task) {
+        cancel(task);
+        remindedThrough.remove(task);
+    }
+
+    @Override
+    public synchronized void taskUpdated(int index, Task task) {
+        schedule(task);
+    }
+
+    @Override
+    public synchronized void taskReplaced(int index, Task replaced, Task task) {
+        cancel(replaced);
+        // The new object is a copy of the same task, so due times already reminded stay reminded
+        Long reminded = remindedThrough.remove(replaced);
+        if (reminded != null) {
+            remindedThrough.put(task, reminded);
+        }
+        schedule(task);
+    }
+
+    /**
+     * Sleeps until each minute boundary and advances the wheel, until interrupted.
+     */
+    private void runTicker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(MILLIS_PER_MINUTE - System.currentTimeMillis() % MILLIS_PER_MINUTE);
+            } catch (InterruptedException e) {
+                return;
+            }
+            advanceTo(currentMinute());
+        }
+    }
+
+    /**
+     * Replaces the reminder of a task with one for its next due time that was not yet reminded.
+     */
+    private void schedule(Task task) {
+        cancel(task);
+        long fromMinute = wheel.getCurrentTick();
+        Long reminded = remindedThrough.get(task);
+        if (reminded != null) {
+            fromMinute = Math.max(fromMinute, reminded + 1);
+        }
+
+        long dueMinute = task.getNextDueMinute(fromMinute);
+        if (dueMinute == EpochMinutes.NONE) {
+            return;
+        }
+        pending.put(task, wheel.schedule(dueMinute - leadMinutes, new Reminder(task, dueMinute)));
+    }
+
+    /**
+     * Cancels the pending reminder of a task, if any.
+     */
+    private void cancel(Task task) {
+        TimingWheel.Entry<Reminder> entry = pending.remove(task);
+        if (entry != null) {
+            wheel.cancel(entry);
+        }
+    }
+
+    /**
+     * Displays an expired reminder and schedules the next one for recurring tasks.
+     */
+    private void fire(Reminder reminder) {
+        Task task = reminder.task;
+        pending.remove(task);
+        remindedThrough.put(task, reminder.dueMinute);
+        ui.showReminder(formatReminder(reminder));
+        schedule(task);
+    }
+
+    /**
+     * Formats the message shown for a reminder.
+     */
+    private String formatReminder(Reminder reminder) {
+        Task task = reminder.task;
+        String description = task instanceof Recurring
+                ? ((Recurring) task).getOccurrenceAt(reminder.dueMinute).toString()
+                : task.toString();
+        long minutesLeft = reminder.dueMinute - wheel.getCurrentTick();
+        String when = minutesLeft > 0 ? "in " + minutesLeft + " min" : "now";
+        return "Reminder: coming up " + when + "\n  " + description;
+    }
+
+    /**
+     * Gets the current local time in epoch minutes.
+     */
+    private static long currentMinute() {
+        return EpochMinutes.of(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,227 @@
+package rei.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel with O(1) insert and cancel.
+ * Time advances in integer ticks. Level 0 has one slot per tick, and each higher level
+ * has slots that are 64 times wider; entries are moved down a level as their time
+ * approaches, so each entry is touched at most once per level.
+ * This class is not thread-safe; callers must synchronize access.
+ *
+ * @param <T> the type of payload carried by each entry
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+    private static final int LEVELS = 4;
+    // Entries further out than this are parked in the top level and re-placed when it cascades
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final Entry<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * A scheduled entry in the wheel, used as the handle for cancellation.
+     *
+     * @param <T> the type of payload carried by the entry
+     */
+    public static class Entry<T> {
+        private final long dueTick;
+        private final T payload;
+        private Entry<T> previous;
+        private Entry<T> next;
+        private int level = -1;
+        private int slot;
+
+        private Entry(long dueTick, T payload) {
+            this.dueTick = dueTick;
+            this.payload = payload;
+        }
+
+        /**
+         * Gets the tick at which this entry expires.
+         *
+         * @return the due tick
+         */
+        public long getDueTick() {
+            return dueTick;
+        }
+
+        /**
+         * Gets the payload of this entry.
+         *
+         * @return the payload
+         */
+        public T getPayload() {
+            return payload;
+        }
+
+        /**
+         * Checks if this entry is still waiting in a wheel.
+         *
+         * @return true if the entry has neither expired nor been cancelled
+         */
+        public boolean isPending() {
+            return level >= 0;
+        }
+    }
+
+    /**
+     * Constructs a new, empty TimingWheel.
+     *
+     * @param startTick the current tick
+     */
+    public TimingWheel(long startTick) {
+        // Generic arrays cannot be created directly; only Entry<T> instances are ever stored
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Entry<T>[][] emptySlots = new Entry[LEVELS][SLOTS_PER_LEVEL];
+        this.slots = emptySlots;
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules a payload to expire at the given tick.
+     * Entries due at or before the current tick expire on the next advance.
+     *
+     * @param dueTick the tick at which the payload expires
+     * @param payload the payload to deliver
+     * @return the entry, which can be passed to {@link #cancel(Entry)}
+     */
+    public Entry<T> schedule(long dueTick, T payload) {
+        Entry<T> entry = new Entry<>(dueTick, payload);
+        place(entry, currentTick + 1);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Cancels a pending entry. Cancelling an entry that already expired has no effect.
+     *
+     * @param entry the entry to cancel
+     * @return true if the entry was pending, false otherwise
+     */
+    public boolean cancel(Entry<T> entry) {
+        if (!entry.isPending()) {
+            return false;
+        }
+        unlink(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given tick, delivering every entry that expires on the way.
+     *
+     * @param targetTick the tick to advance to
+     * @param expired receives the payload of each expired entry, in tick order
+     */
+    public void advanceTo(long targetTick, Consumer<T> expired) {
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            int slot = (int) (currentTick & SLOT_MASK);
+            Entry<T> entry = slots[0][slot];
+            slots[0][slot] = null;
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.previous = null;
+                entry.next = null;
+                entry.level = -1;
+                size--;
+                expired.accept(entry.payload);
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Gets the current tick of the wheel.
+     *
+     * @return the current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the number of pending entries.
+     *
+     * @return the number of entries that have neither expired nor been cancelled
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves the entries of each higher-level slot whose window starts at the current tick
+     * down to lower levels, highest level first.
+     */
+    private void cascade() {
+        int topLevel = 0;
+        for (int level = 1; level < LEVELS; level++) {
+            long levelMask = (1L << (SLOT_BITS * level)) - 1;
+            if ((currentTick & levelMask) != 0) {
+                break;
+            }
+            topLevel = level;
+        }
+
+        for (int level = topLevel; level >= 1; level--) {
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Entry<T> entry = slots[level][slot];
+            slots[level][slot] = null;
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.previous = null;
+                entry.next = null;
+                place(entry, currentTick);
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Links an entry into the slot that covers its due tick, or the earliest tick if it is overdue.
+     * Cascaded entries may land on the current tick, whose level 0 slot is expired right after.
+     */
+    private void place(Entry<T> entry, long earliestTick) {
+        long dueTick = Math.max(entry.dueTick, earliestTick);
+        long delta = Math.min(dueTick - currentTick, MAX_SPAN - 1);
+        long placementTick = currentTick + delta;
+
+        int level = 0;
+        while (delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((placementTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        entry.level = level;
+        entry.slot = slot;
+        entry.next = slots[level][slot];
+        if (entry.next != null) {
+            entry.next.previous = entry;
+        }
+        slots[level][slot] = entry;
+    }
+
+    /**
+     * Unlinks a pending entry from its slot.
+     */
+    private void unlink(Entry<T> entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.level = -1;
+    }
+}
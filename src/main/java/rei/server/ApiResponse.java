@@ -0,0 +1,56 @@
+package rei.server;
+
+/**
+ * An HTTP status code together with the JSON body to send.
+ */
+public class ApiResponse {
+    // Status codes used by the API
+    public static final int OK = 200;
+    public static final int BAD_REQUEST = 400;
+    public static final int NOT_FOUND = 404;
+    public static final int METHOD_NOT_ALLOWED = 405;
+    public static final int INTERNAL_ERROR = 500;
+
+    private final int status;
+    private final String body;
+
+    /**
+     * Constructs a new ApiResponse.
+     *
+     * @param status the HTTP status code
+     * @param body the JSON body
+     */
+    public ApiResponse(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    /**
+     * Creates a response reporting a failed request.
+     *
+     * @param status the HTTP status code
+     * @param message the error message shown to the caller
+     * @return a response with body {"ok":false,"error":message}
+     */
+    public static ApiResponse error(int status, String message) {
+        return new ApiResponse(status, "{\"ok\":false,\"error\":" + Json.quote(message) + "}");
+    }
+
+    /**
+     * Gets the HTTP status code.
+     *
+     * @return the status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the JSON body.
+     *
+     * @return the body
+     */
+    public String getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,287 @@
+package rei.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import rei.command.Command;
+import rei.command.DeadlineCommand;
+import rei.command.EventCommand;
+import rei.command.RecurringCommand;
+import rei.command.TodoCommand;
+import rei.exceptions.ReiExceptions;
+import rei.parser.Parser;
+
+/**
+ * Serves task lists over HTTP with JSON bodies, for scripts and other tools on the same machine.
+ * Requests are turned into the same command strings a user would type and run through
+ * {@link Parser} and the existing commands, so validation and messages match the console.
+ * Each task list is a workspace from a {@link WorkspaceRegistry}. Reads run concurrently against
+ * snapshots; writes to a workspace go through its single {@link TaskWriter}.
+ *
+ * <p>Routes, all answering {"ok":true,"lines":[...]} or {"ok":false,"error":"..."}. Each can also be
+ * prefixed with a workspace name, as in {@code /alice/tasks}; without one, the
+ * {@value #DEFAULT_WORKSPACE} workspace is used:
+ * <ul>
+ * <li>{@code GET /tasks} lists every task</li>
+ * <li>{@code GET /tasks?find=KEYWORD} finds tasks by keyword</li>
+ * <li>{@code POST /tasks} with {"input": "todo read book"} adds a todo, deadline, event or recurring task</li>
+ * <li>{@code POST /tasks/N/mark} and {@code POST /tasks/N/unmark} mark the Nth task</li>
+ * <li>{@code DELETE /tasks/N} deletes the Nth task</li>
+ * </ul>
+ */
+public class ApiServer implements AutoCloseable {
+    // Server configuration
+    public static final int DEFAULT_PORT = 8321;
+    private static final int BACKLOG = 256;
+    private static final int MINIMUM_WORKER_THREADS = 8;
+    private static final String THREAD_NAME = "rei-http";
+    private static final int STOP_DELAY_SECONDS = 1;
+    // Read once by the JDK server when it is first used
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    // Routes
+    public static final String DEFAULT_WORKSPACE = "Rei";
+    private static final String TASKS_SEGMENT = "tasks";
+    private static final String FIND_PARAMETER = "find=";
+    private static final String INPUT_FIELD = "input";
+    private static final String MARK_ACTION = "mark";
+    private static final String UNMARK_ACTION = "unmark";
+
+    // HTTP methods
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String DELETE = "DELETE";
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final WorkspaceRegistry workspaces;
+    private final HttpServer server;
+    private final ExecutorService workers;
+
+    /**
+     * Constructs an ApiServer listening on the loopback address. Call {@link #start()} to accept requests.
+     *
+     * @param workspaces the task lists to serve, which are closed with the server
+     * @param port the port to listen on, or 0 to pick a free one
+     * @throws IOException if the port cannot be bound
+     */
+    public ApiServer(WorkspaceRegistry workspaces, int port) throws IOException {
+        assert workspaces != null : "Workspaces cannot be null";
+        this.workspaces = workspaces;
+        // Without TCP_NODELAY, small responses on kept-alive connections wait for delayed ACKs, about 40 ms each
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        int threadCount = Math.max(MINIMUM_WORKER_THREADS, 2 * Runtime.getRuntime().availableProcessors());
+        this.workers = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(workers);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Serves the task files in a directory until the JVM is shut down, for example with Ctrl-C.
+     * Each file is loaded on its first request. Pending writes are saved on shutdown.
+     *
+     * @param dataDirectory the directory holding one task file per workspace
+     * @param port the port to listen on
+     * @throws IOException if the port cannot be bound
+     */
+    public static void serve(String dataDirectory, int port) throws IOException {
+        ApiServer server = new ApiServer(WorkspaceRegistry.withConfiguredBounds(Paths.get(dataDirectory)), port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        System.out.println("Rei is serving " + dataDirectory + " on http://localhost:" + server.getPort()
+                + "/" + TASKS_SEGMENT);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, lets running ones finish briefly, and saves every workspace.
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        workers.shutdown();
+        try {
+            workers.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workspaces.close();
+    }
+
+    /**
+     * Answers one request, turning failures into JSON error responses.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        ApiResponse response;
+        try {
+            response = route(exchange);
+        } catch (ReiExceptions e) {
+            response = ApiResponse.error(ApiResponse.BAD_REQUEST, e.getMessage());
+        } catch (RuntimeException e) {
+            response = ApiResponse.error(ApiResponse.INTERNAL_ERROR, "OOPS!!! " + e);
+        }
+        send(exchange, response);
+    }
+
+    /**
+     * Finds the workspace a request is for and holds it while the request runs.
+     */
+    private ApiResponse route(HttpExchange exchange) throws ReiExceptions, IOException {
+        // segments[0] is empty: the path is "/tasks..." or "/WORKSPACE/tasks..."
+        String[] segments = exchange.getRequestURI().getPath().split("/");
+        int tasksIndex = segments.length > 1 && segments[1].equals(TASKS_SEGMENT) ? 1 : 2;
+        if (segments.length <= tasksIndex || !segments[tasksIndex].equals(TASKS_SEGMENT)) {
+            return notFound(exchange);
+        }
+        String workspace = tasksIndex == 1 ? DEFAULT_WORKSPACE : segments[1];
+        if (!WorkspaceRegistry.isValidName(workspace)) {
+            return notFound(exchange);
+        }
+
+        String[] taskSegments = Arrays.copyOfRange(segments, tasksIndex + 1, segments.length);
+        try (WorkspaceRegistry.Lease lease = workspaces.acquire(workspace)) {
+            return routeTasks(exchange, lease.getWriter(), taskSegments);
+        }
+    }
+
+    /**
+     * Picks the command for a request from its method and the path after "tasks", and runs it.
+     */
+    private ApiResponse routeTasks(HttpExchange exchange, TaskWriter writer, String[] segments)
+            throws ReiExceptions, IOException {
+        String method = exchange.getRequestMethod();
+        // segments is empty, [N] or [N, action]
+        if (segments.length == 0) {
+            if (GET.equals(method)) {
+                return writer.read(readCommandFor(exchange.getRequestURI().getRawQuery()));
+            }
+            if (POST.equals(method)) {
+                return write(writer, addCommandFor(readBody(exchange)));
+            }
+            return methodNotAllowed(method);
+        }
+
+        String taskNumber = segments[0];
+        if (segments.length == 1) {
+            return DELETE.equals(method)
+                    ? write(writer, Parser.parse("delete " + taskNumber))
+                    : methodNotAllowed(method);
+        }
+        if (segments.length == 2 && (segments[1].equals(MARK_ACTION) || segments[1].equals(UNMARK_ACTION))) {
+            return POST.equals(method)
+                    ? write(writer, Parser.parse(segments[1] + " " + taskNumber))
+                    : methodNotAllowed(method);
+        }
+        return notFound(exchange);
+    }
+
+    /**
+     * Picks list or find depending on the query string.
+     */
+    private Command readCommandFor(String rawQuery) throws ReiExceptions {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Parser.parse("list");
+        }
+        if (!rawQuery.startsWith(FIND_PARAMETER)) {
+            throw new ReiExceptions("OOPS!!! The only query supported is ?find=KEYWORD.");
+        }
+        String keyword = URLDecoder.decode(rawQuery.substring(FIND_PARAMETER.length()), StandardCharsets.UTF_8);
+        return Parser.parse("find " + keyword);
+    }
+
+    /**
+     * Parses the input of a POST to /tasks, which must add a task.
+     */
+    private Command addCommandFor(String body) throws ReiExceptions {
+        Map<String, String> fields = Json.parseObject(body);
+        String input = fields.get(INPUT_FIELD);
+        if (input == null) {
+            throw new ReiExceptions("OOPS!!! The request body needs an \"input\" field.");
+        }
+
+        Command command = Parser.parse(input);
+        boolean isAdd = command instanceof TodoCommand || command instanceof DeadlineCommand
+                || command instanceof EventCommand || command instanceof RecurringCommand;
+        if (!isAdd) {
+            throw new ReiExceptions("OOPS!!! Only todo, deadline, event and recur can be posted to /tasks.");
+        }
+        return command;
+    }
+
+    /**
+     * Submits a command to the writer and waits until its batch has been saved.
+     */
+    private static ApiResponse write(TaskWriter writer, Command command) throws ReiExceptions {
+        try {
+            return writer.submit(command).get();
+        } catch (ExecutionException e) {
+            throw new ReiExceptions("OOPS!!! " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReiExceptions("OOPS!!! Interrupted while saving.");
+        }
+    }
+
+    private static ApiResponse notFound(HttpExchange exchange) {
+        return ApiResponse.error(ApiResponse.NOT_FOUND, "OOPS!!! There is nothing at " + exchange.getRequestURI());
+    }
+
+    private static ApiResponse methodNotAllowed(String method) {
+        return ApiResponse.error(ApiResponse.METHOD_NOT_ALLOWED, "OOPS!!! " + method + " is not supported here.");
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            in.transferTo(bytes);
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, ApiResponse response) throws IOException {
+        byte[] body = response.getBody().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(response.getStatus(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
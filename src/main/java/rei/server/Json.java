@@ -0,0 +1,205 @@
+package rei.server;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import rei.exceptions.ReiExceptions;
+
+/**
+ * The small subset of JSON the API server needs: writing strings and string arrays,
+ * and reading request bodies that are flat objects with string values.
+ */
+public final class Json {
+    // Characters below this are control characters and must be escaped
+    private static final char FIRST_PRINTABLE = 0x20;
+    private static final int UNICODE_ESCAPE_LENGTH = 4;
+    private static final int HEX_RADIX = 16;
+
+    private Json() {
+    }
+
+    /**
+     * Writes a string as a JSON string literal, including the surrounding quotes.
+     *
+     * @param text the string to write
+     * @return the quoted and escaped string
+     */
+    public static String quote(String text) {
+        StringBuilder builder = new StringBuilder(text.length() + 2);
+        appendQuoted(builder, text);
+        return builder.toString();
+    }
+
+    /**
+     * Appends a string to a builder as a JSON string literal, including the surrounding quotes.
+     *
+     * @param builder the builder to append to
+     * @param text the string to write
+     */
+    public static void appendQuoted(StringBuilder builder, String text) {
+        builder.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '"':
+                builder.append("\\\"");
+                break;
+            case '\\':
+                builder.append("\\\\");
+                break;
+            case '\n':
+                builder.append("\\n");
+                break;
+            case '\r':
+                builder.append("\\r");
+                break;
+            case '\t':
+                builder.append("\\t");
+                break;
+            default:
+                if (c < FIRST_PRINTABLE) {
+                    builder.append(String.format("\\u%04x", (int) c));
+                } else {
+                    builder.append(c);
+                }
+                break;
+            }
+        }
+        builder.append('"');
+    }
+
+    /**
+     * Appends a list of strings to a builder as a JSON array.
+     *
+     * @param builder the builder to append to
+     * @param items the strings to write
+     */
+    public static void appendArray(StringBuilder builder, List<String> items) {
+        builder.append('[');
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            appendQuoted(builder, items.get(i));
+        }
+        builder.append(']');
+    }
+
+    /**
+     * Reads a JSON object whose values are all strings, such as {"input": "todo read book"}.
+     *
+     * @param text the JSON text
+     * @return the fields of the object
+     * @throws ReiExceptions if the text is not such an object
+     */
+    public static Map<String, String> parseObject(String text) throws ReiExceptions {
+        Reader reader = new Reader(text);
+        Map<String, String> fields = new HashMap<>();
+        reader.expect('{');
+        if (!reader.consumeIf('}')) {
+            do {
+                String name = reader.readString();
+                reader.expect(':');
+                fields.put(name, reader.readString());
+            } while (reader.consumeIf(','));
+            reader.expect('}');
+        }
+        reader.expectEnd();
+        return fields;
+    }
+
+    /**
+     * Reads JSON tokens from a string, skipping whitespace between them.
+     */
+    private static class Reader {
+        private final String text;
+        private int position;
+
+        private Reader(String text) {
+            this.text = text;
+        }
+
+        private void expect(char expected) throws ReiExceptions {
+            if (!consumeIf(expected)) {
+                throw new ReiExceptions("OOPS!!! Expected '" + expected + "' in the request body.");
+            }
+        }
+
+        private boolean consumeIf(char expected) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expectEnd() throws ReiExceptions {
+            skipWhitespace();
+            if (position != text.length()) {
+                throw new ReiExceptions("OOPS!!! Unexpected text after the request body.");
+            }
+        }
+
+        private String readString() throws ReiExceptions {
+            expect('"');
+            StringBuilder builder = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return builder.toString();
+                }
+                builder.append(c == '\\' ? readEscape() : c);
+            }
+            throw new ReiExceptions("OOPS!!! A string in the request body is not closed.");
+        }
+
+        private char readEscape() throws ReiExceptions {
+            if (position >= text.length()) {
+                throw new ReiExceptions("OOPS!!! A string in the request body is not closed.");
+            }
+            char c = text.charAt(position++);
+            switch (c) {
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'u':
+                return readUnicodeEscape();
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            default:
+                throw new ReiExceptions("OOPS!!! Unknown escape \\" + c + " in the request body.");
+            }
+        }
+
+        private char readUnicodeEscape() throws ReiExceptions {
+            if (position + UNICODE_ESCAPE_LENGTH > text.length()) {
+                throw new ReiExceptions("OOPS!!! Incomplete \\u escape in the request body.");
+            }
+            try {
+                char c = (char) Integer.parseInt(text.substring(position, position + UNICODE_ESCAPE_LENGTH),
+                        HEX_RADIX);
+                position += UNICODE_ESCAPE_LENGTH;
+                return c;
+            } catch (NumberFormatException e) {
+                throw new ReiExceptions("OOPS!!! Invalid \\u escape in the request body.");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package rei.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import rei.ui.UiInterface;
+
+/**
+ * A user interface that collects the output of one command and turns it into a JSON response.
+ * Each message becomes one entry of the "lines" array, so {@code list} yields one line per task
+ * after the heading. Separator lines carry no information in JSON and are dropped.
+ */
+public class JsonUi implements UiInterface {
+    private final List<String> lines = new ArrayList<>();
+    private String error;
+
+    /**
+     * Adds a message as one or more lines of the response.
+     *
+     * @param message the message to add
+     */
+    @Override
+    public void show(String message) {
+        for (String line : message.split("\n", -1)) {
+            lines.add(line);
+        }
+    }
+
+    /**
+     * Ignores separators, which only structure console output.
+     */
+    @Override
+    public void showLine() {
+    }
+
+    /**
+     * Records an error, which turns the response into an error response.
+     *
+     * @param message the error message
+     */
+    @Override
+    public void showError(String message) {
+        error = message;
+    }
+
+    /**
+     * Not used; requests arrive over HTTP rather than through the user interface.
+     *
+     * @return an empty string
+     */
+    @Override
+    public String readCommand() {
+        return "";
+    }
+
+    /**
+     * Adds the welcome message to the response.
+     */
+    @Override
+    public void showWelcome() {
+        show("Hello! I'm Rei.");
+        show("What can I do for you?");
+    }
+
+    /**
+     * Gets the lines shown so far.
+     *
+     * @return the lines, in the order they were shown
+     */
+    public List<String> getLines() {
+        return lines;
+    }
+
+    /**
+     * Builds the response for the collected output.
+     *
+     * @return {"ok":true,"lines":[...]}, or an error response if an error was shown
+     */
+    public ApiResponse toResponse() {
+        if (error != null) {
+            return ApiResponse.error(ApiResponse.BAD_REQUEST, error);
+        }
+        StringBuilder body = new StringBuilder("{\"ok\":true,\"lines\":");
+        Json.appendArray(body, lines);
+        return new ApiResponse(ApiResponse.OK, body.append('}').toString());
+    }
+}
@@ -0,0 +1,334 @@
+package rei.server;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import rei.command.Command;
+import rei.exceptions.ReiExceptions;
+import rei.list.TaskList;
+import rei.storage.DeferredStorage;
+import rei.task.Task;
+
+/**
+ * Owns a task list that is changed by one writer thread and read concurrently from snapshots.
+ * Commands that change tasks are queued and run one at a time on the writer thread. Whatever
+ * queued up while a command ran is taken as one batch, and the file is written once per batch,
+ * so saves stay cheap under load. A write is only acknowledged after the batch was saved.
+ *
+ * <p>Read-only commands run on the caller's thread against an immutable copy of the list.
+ * The copy is rebuilt on the writer thread the first time it is needed after a write,
+ * so readers always see every write acknowledged before they started. Snapshots share the
+ * copies of tasks that did not change since the previous snapshot, so only the changed tasks
+ * are copied again.
+ */
+public class TaskWriter implements AutoCloseable {
+    // Writer configuration
+    public static final int MAX_BATCH_SIZE = 256;
+    private static final String THREAD_NAME = "rei-writer";
+    // Copies of deleted tasks are dropped once there are this many times more copies than tasks
+    private static final int STALE_COPY_FACTOR = 2;
+
+    private final TaskList tasks;
+    private final DeferredStorage storage;
+    private final BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private final Object snapshotLock = new Object();
+
+    // Written only by the writer thread
+    private volatile long version;
+    private volatile Snapshot snapshot;
+    private CompletableFuture<Snapshot> pendingSnapshot;
+    // The snapshot copy of each live task, reused while the task keeps its id and version
+    private final IdentityHashMap<Task, Task> copies = new IdentityHashMap<>();
+    private volatile long batchCount;
+    private volatile boolean isClosed;
+
+    /**
+     * Work for the writer thread: a command to run, or a request for a fresh snapshot.
+     */
+    private static class Job {
+        private static final Job SNAPSHOT = new Job(null, null);
+        private static final Job STOP = new Job(null, null);
+
+        private final Command command;
+        private final CompletableFuture<ApiResponse> response;
+
+        private Job(Command command, CompletableFuture<ApiResponse> response) {
+            this.command = command;
+            this.response = response;
+        }
+    }
+
+    /**
+     * An immutable copy of the task list as of a given version.
+     */
+    private static class Snapshot {
+        private final long version;
+        private final TaskList tasks;
+
+        private Snapshot(long version, TaskList tasks) {
+            this.version = version;
+            this.tasks = tasks;
+        }
+    }
+
+    /**
+     * Constructs a TaskWriter and starts its writer thread.
+     *
+     * @param tasks the live task list, which must not be used by anyone else from now on
+     * @param storage the storage the task list was loaded from
+     * @throws ReiExceptions if the initial snapshot cannot be taken
+     */
+    public TaskWriter(TaskList tasks, DeferredStorage storage) throws ReiExceptions {
+        assert tasks != null && storage != null : "Tasks and storage are required";
+        this.tasks = tasks;
+        this.storage = storage;
+        this.snapshot = new Snapshot(0, copyTasks());
+        this.thread = new Thread(this::runWriter, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues a command that changes tasks.
+     *
+     * @param command the command to run on the writer thread
+     * @return completes with the command's response once its batch has been saved,
+     *         or with an error if the writer was closed
+     */
+    public CompletableFuture<ApiResponse> submit(Command command) {
+        assert !command.isReadOnly() : "Read-only commands should be run with read";
+        CompletableFuture<ApiResponse> response = new CompletableFuture<>();
+        if (isClosed) {
+            response.complete(ApiResponse.error(ApiResponse.INTERNAL_ERROR, "OOPS!!! Rei is shutting down."));
+            return response;
+        }
+        queue.add(new Job(command, response));
+        return response;
+    }
+
+    /**
+     * Runs a read-only command on the calling thread against a snapshot of the tasks.
+     *
+     * @param command the read-only command to run
+     * @return the command's response
+     * @throws ReiExceptions if no snapshot could be taken
+     */
+    public ApiResponse read(Command command) throws ReiExceptions {
+        assert command.isReadOnly() : "Commands that change tasks must be submitted";
+        JsonUi ui = new JsonUi();
+        try {
+            command.run(getSnapshot(), ui, storage);
+        } catch (ReiExceptions e) {
+            ui.showError(e.getMessage());
+        }
+        return ui.toResponse();
+    }
+
+    /**
+     * Gets an immutable copy of the tasks that includes every acknowledged write.
+     *
+     * @return the snapshot, which must not be modified
+     * @throws ReiExceptions if the snapshot could not be taken
+     */
+    public TaskList getSnapshot() throws ReiExceptions {
+        Snapshot current = snapshot;
+        if (current.version == version) {
+            return current.tasks;
+        }
+
+        CompletableFuture<Snapshot> request;
+        synchronized (snapshotLock) {
+            if (pendingSnapshot == null) {
+                pendingSnapshot = new CompletableFuture<>();
+                queue.add(Job.SNAPSHOT);
+            }
+            request = pendingSnapshot;
+        }
+        try {
+            return request.get().tasks;
+        } catch (ExecutionException e) {
+            throw new ReiExceptions("OOPS!!! Unable to read the tasks: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReiExceptions("OOPS!!! Interrupted while reading the tasks.");
+        }
+    }
+
+    /**
+     * Gets the number of batches the writer has run.
+     *
+     * @return the number of batches so far
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Gets the storage written by this writer.
+     *
+     * @return the storage
+     */
+    public DeferredStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Runs the writes already queued, saves them and stops the writer thread.
+     * Subscribers to the changes of the task list are completed.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        queue.add(Job.STOP);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // Answer readers that asked for a snapshot after the writer had already stopped
+        publishSnapshot();
+        tasks.closeChanges();
+    }
+
+    /**
+     * Takes batches off the queue until stopped.
+     */
+    private void runWriter() {
+        List<Job> batch = new ArrayList<>();
+        boolean isStopping = false;
+        while (!isStopping) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            isStopping = runBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Runs the commands of a batch in order, saves once, then answers the commands and any snapshot request.
+     *
+     * @return true if the batch asked the writer to stop
+     */
+    private boolean runBatch(List<Job> batch) {
+        List<JsonUi> outputs = new ArrayList<>(batch.size());
+        boolean isSnapshotRequested = false;
+        boolean isStopping = false;
+        for (Job job : batch) {
+            if (job == Job.SNAPSHOT) {
+                isSnapshotRequested = true;
+            } else if (job == Job.STOP) {
+                isStopping = true;
+            }
+            outputs.add(job.command == null ? null : runCommand(job.command));
+        }
+        batchCount++;
+
+        String saveError = flush();
+        for (int i = 0; i < batch.size(); i++) {
+            Job job = batch.get(i);
+            if (job.response != null) {
+                job.response.complete(saveError == null
+                        ? outputs.get(i).toResponse()
+                        : ApiResponse.error(ApiResponse.INTERNAL_ERROR, saveError));
+            }
+        }
+        if (isSnapshotRequested) {
+            publishSnapshot();
+        }
+        return isStopping;
+    }
+
+    /**
+     * Runs one command against the live list.
+     */
+    private JsonUi runCommand(Command command) {
+        JsonUi ui = new JsonUi();
+        try {
+            command.run(tasks, ui, storage);
+        } catch (ReiExceptions | RuntimeException e) {
+            ui.showError(e.getMessage());
+        }
+        version++;
+        return ui;
+    }
+
+    /**
+     * Writes the batch to the file. Saving may merge in changes another process made to the file,
+     * so the snapshot is treated as stale afterwards.
+     *
+     * @return null if the save succeeded or was not needed, otherwise the error message
+     */
+    private String flush() {
+        try {
+            if (storage.isDirty()) {
+                storage.flush();
+                version++;
+            }
+            return null;
+        } catch (ReiExceptions e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Copies the live list if it changed since the last snapshot and completes the pending request, if any.
+     */
+    private void publishSnapshot() {
+        CompletableFuture<Snapshot> request;
+        synchronized (snapshotLock) {
+            request = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+        if (request == null) {
+            return;
+        }
+        try {
+            if (snapshot.version != version) {
+                snapshot = new Snapshot(version, copyTasks());
+            }
+            request.complete(snapshot);
+        } catch (ReiExceptions | RuntimeException e) {
+            request.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Builds a snapshot list from the copies of the live tasks. Every change to a task raises its
+     * version, so a copy stays valid while its task keeps the same id and version; snapshots never
+     * modify their tasks, so they can share such copies. Only new and changed tasks are copied,
+     * through their file format, which is what storage guarantees to round-trip.
+     */
+    private TaskList copyTasks() throws ReiExceptions {
+        ArrayList<Task> liveTasks = tasks.getAll();
+        ArrayList<Task> snapshotTasks = new ArrayList<>(liveTasks.size());
+        for (Task task : liveTasks) {
+            Task copy = copies.get(task);
+            if (copy == null || copy.getId() != task.getId() || copy.getVersion() != task.getVersion()) {
+                copy = storage.parseTaskFromLine(storage.formatTaskLine(task));
+                copies.put(task, copy);
+            }
+            snapshotTasks.add(copy);
+        }
+
+        if (copies.size() > STALE_COPY_FACTOR * Math.max(1, liveTasks.size())) {
+            IdentityHashMap<Task, Task> kept = new IdentityHashMap<>(liveTasks.size());
+            for (Task task : liveTasks) {
+                kept.put(task, copies.get(task));
+            }
+            copies.clear();
+            copies.putAll(kept);
+        }
+        return new TaskList(snapshotTasks);
+    }
+}
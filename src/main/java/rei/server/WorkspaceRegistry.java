@@ -0,0 +1,321 @@
+package rei.server;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+
+import rei.exceptions.ReiExceptions;
+import rei.list.TaskList;
+import rei.storage.DeferredStorage;
+
+/**
+ * Maps workspace names, such as one per user, to their own task files under a common directory.
+ * A workspace is loaded the first time it is used and then kept in an LRU cache bounded both by
+ * the number of workspaces and by their estimated memory. When either bound is exceeded, the
+ * least recently used idle workspaces are saved and dropped; a workspace in use by a request
+ * is never dropped, so the bounds may be exceeded briefly under load.
+ *
+ * <p>Callers hold a {@link Lease} for as long as they use a workspace, typically in a
+ * try-with-resources block around one request.
+ */
+public class WorkspaceRegistry implements AutoCloseable {
+    // Cache bounds used by withConfiguredBounds
+    public static final String MAX_WORKSPACES_PROPERTY = "rei.workspaces.max";
+    public static final String MAX_MEMORY_PROPERTY = "rei.workspaces.maxMemoryMb";
+    private static final int DEFAULT_MAX_WORKSPACES = 256;
+    private static final int DEFAULT_HEAP_FRACTION = 4;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    // Workspace names are used as file names, so only plain characters are allowed
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String FILE_EXTENSION = ".txt";
+
+    // Memory estimate: a live list and its read snapshot measured about 9 heap bytes per byte of
+    // task file on 20,000 tasks; rounded up for headroom, plus a fixed cost per loaded workspace
+    private static final long MEMORY_PER_FILE_BYTE = 12;
+    private static final long MEMORY_PER_WORKSPACE = 16 * 1024;
+
+    private final Path directory;
+    private final int maxWorkspaces;
+    private final long maxMemoryBytes;
+    // Iterates from least to most recently used
+    private final LinkedHashMap<String, Workspace> workspaces = new LinkedHashMap<>(16, 0.75f, true);
+    private long estimatedMemoryBytes;
+    private long loadCount;
+    private long evictionCount;
+
+    /**
+     * A loaded or loading workspace.
+     */
+    private static class Workspace {
+        private final String name;
+        private final CompletableFuture<TaskWriter> writer = new CompletableFuture<>();
+        private int leaseCount;
+        private long estimatedBytes;
+
+        private Workspace(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * A claim on a workspace that keeps it loaded until closed.
+     */
+    public class Lease implements AutoCloseable {
+        private final Workspace workspace;
+        private final TaskWriter writer;
+        private boolean isClosed;
+
+        private Lease(Workspace workspace, TaskWriter writer) {
+            this.workspace = workspace;
+            this.writer = writer;
+        }
+
+        /**
+         * Gets the writer owning the workspace's tasks.
+         *
+         * @return the writer, valid until this lease is closed
+         */
+        public TaskWriter getWriter() {
+            return writer;
+        }
+
+        /**
+         * Releases the workspace, which may then be saved and dropped if the cache is over its bounds.
+         */
+        @Override
+        public void close() {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            release(workspace);
+        }
+    }
+
+    /**
+     * Constructs a WorkspaceRegistry. Nothing is loaded until a workspace is first acquired.
+     *
+     * @param directory the directory holding one task file per workspace
+     * @param maxWorkspaces the most idle workspaces to keep loaded
+     * @param maxMemoryBytes the most estimated memory for idle workspaces to take up
+     */
+    public WorkspaceRegistry(Path directory, int maxWorkspaces, long maxMemoryBytes) {
+        assert directory != null : "Directory cannot be null";
+        assert maxWorkspaces > 0 : "At least one workspace must fit";
+        assert maxMemoryBytes > 0 : "Memory bound must be positive";
+        this.directory = directory;
+        this.maxWorkspaces = maxWorkspaces;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    /**
+     * Constructs a WorkspaceRegistry whose bounds come from system properties: at most
+     * {@value #MAX_WORKSPACES_PROPERTY} workspaces, 256 by default, taking up at most
+     * {@value #MAX_MEMORY_PROPERTY} megabytes, a quarter of the maximum heap by default.
+     *
+     * @param directory the directory holding one task file per workspace
+     * @return the registry
+     */
+    public static WorkspaceRegistry withConfiguredBounds(Path directory) {
+        int maxWorkspaces = Integer.getInteger(MAX_WORKSPACES_PROPERTY, DEFAULT_MAX_WORKSPACES);
+        long defaultMaxMemoryMb = Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_FRACTION / BYTES_PER_MEGABYTE;
+        long maxMemoryMb = Long.getLong(MAX_MEMORY_PROPERTY, defaultMaxMemoryMb);
+        return new WorkspaceRegistry(directory, maxWorkspaces, maxMemoryMb * BYTES_PER_MEGABYTE);
+    }
+
+    /**
+     * Checks if a string can name a workspace.
+     *
+     * @param name the candidate name
+     * @return true if the name has 1 to 64 letters, digits, '-' or '_'
+     */
+    public static boolean isValidName(String name) {
+        return name != null && NAME_PATTERN.matcher(name).matches();
+    }
+
+    /**
+     * Claims a workspace, loading its task file first if it is not loaded.
+     * Concurrent callers asking for the same workspace share one load.
+     *
+     * @param name the workspace name
+     * @return a lease that must be closed when the caller is done with the workspace
+     * @throws ReiExceptions if the name is invalid or the task file cannot be loaded
+     */
+    public Lease acquire(String name) throws ReiExceptions {
+        if (!isValidName(name)) {
+            throw new ReiExceptions("OOPS!!! Workspace names may only use letters, digits, '-' and '_'.");
+        }
+
+        Workspace workspace;
+        boolean isLoader;
+        synchronized (this) {
+            workspace = workspaces.get(name);
+            isLoader = workspace == null;
+            if (isLoader) {
+                workspace = new Workspace(name);
+                workspaces.put(name, workspace);
+            }
+            workspace.leaseCount++;
+        }
+
+        if (isLoader) {
+            load(workspace);
+        }
+        try {
+            return new Lease(workspace, workspace.writer.get());
+        } catch (ExecutionException e) {
+            release(workspace);
+            throw new ReiExceptions("OOPS!!! Unable to load workspace " + name + ": " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            release(workspace);
+            Thread.currentThread().interrupt();
+            throw new ReiExceptions("OOPS!!! Interrupted while loading workspace " + name + ".");
+        }
+    }
+
+    /**
+     * Gets the number of workspaces currently loaded or loading.
+     *
+     * @return the number of cached workspaces
+     */
+    public synchronized int size() {
+        return workspaces.size();
+    }
+
+    /**
+     * Gets the estimated memory taken by the loaded workspaces.
+     *
+     * @return the estimate in bytes
+     */
+    public synchronized long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+
+    /**
+     * Gets the number of times a workspace was loaded from its file.
+     *
+     * @return the number of loads so far
+     */
+    public synchronized long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Gets the number of times a workspace was saved and dropped from the cache.
+     *
+     * @return the number of evictions so far
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Saves and drops every loaded workspace.
+     */
+    @Override
+    public void close() {
+        List<Workspace> closing;
+        synchronized (this) {
+            closing = new ArrayList<>(workspaces.values());
+            workspaces.clear();
+            estimatedMemoryBytes = 0;
+        }
+        closeAll(closing);
+    }
+
+    /**
+     * Loads a workspace outside the registry lock and completes its writer.
+     */
+    private void load(Workspace workspace) {
+        File file = fileOf(workspace.name);
+        try {
+            DeferredStorage storage = new DeferredStorage(file.getPath());
+            workspace.writer.complete(new TaskWriter(new TaskList(storage.load()), storage));
+        } catch (ReiExceptions | RuntimeException e) {
+            synchronized (this) {
+                workspaces.remove(workspace.name, workspace);
+            }
+            workspace.writer.completeExceptionally(e);
+            return;
+        }
+
+        synchronized (this) {
+            loadCount++;
+            updateEstimate(workspace, file);
+        }
+    }
+
+    /**
+     * Drops a lease, re-estimates the workspace now that its file may have grown,
+     * and evicts idle workspaces if the cache is over its bounds.
+     */
+    private void release(Workspace workspace) {
+        List<Workspace> evicted;
+        synchronized (this) {
+            assert workspace.leaseCount > 0 : "Workspace released more often than acquired";
+            workspace.leaseCount--;
+            if (workspaces.get(workspace.name) == workspace && workspace.writer.isDone()) {
+                updateEstimate(workspace, fileOf(workspace.name));
+            }
+            evicted = evictIdleWorkspaces();
+        }
+        closeAll(evicted);
+    }
+
+    /**
+     * Removes least recently used idle workspaces until the cache is within its bounds.
+     * Must be called while holding the registry lock; the caller closes the returned workspaces.
+     */
+    private List<Workspace> evictIdleWorkspaces() {
+        List<Workspace> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Workspace>> iterator = workspaces.entrySet().iterator();
+        while (isOverBounds() && iterator.hasNext()) {
+            Workspace candidate = iterator.next().getValue();
+            if (candidate.leaseCount > 0 || !candidate.writer.isDone()) {
+                continue;
+            }
+            iterator.remove();
+            estimatedMemoryBytes -= candidate.estimatedBytes;
+            evictionCount++;
+            evicted.add(candidate);
+        }
+        return evicted;
+    }
+
+    private boolean isOverBounds() {
+        return workspaces.size() > maxWorkspaces || estimatedMemoryBytes > maxMemoryBytes;
+    }
+
+    /**
+     * Replaces the memory estimate of a workspace with one based on its current file size.
+     */
+    private void updateEstimate(Workspace workspace, File file) {
+        long estimate = MEMORY_PER_WORKSPACE + MEMORY_PER_FILE_BYTE * file.length();
+        estimatedMemoryBytes += estimate - workspace.estimatedBytes;
+        workspace.estimatedBytes = estimate;
+    }
+
+    /**
+     * Saves pending writes and stops the writer of each workspace, outside the registry lock.
+     */
+    private static void closeAll(List<Workspace> closing) {
+        for (Workspace workspace : closing) {
+            TaskWriter writer = workspace.writer.getNow(null);
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    private File fileOf(String name) {
+        return directory.resolve(name + FILE_EXTENSION).toFile();
+    }
+}
@@ -0,0 +1,68 @@
+package rei.storage;
+
+import rei.exceptions.ReiExceptions;
+import rei.list.TaskList;
+
+/**
+ * A storage whose saves only take effect when it is flushed.
+ * Commands call {@link #save(TaskList)} after every change as usual; a writer running
+ * several commands in a row flushes once afterwards, so the file is rewritten once per
+ * batch instead of once per command. Not thread-safe; meant to be used by a single writer.
+ */
+public class DeferredStorage extends Storage {
+    private TaskList pendingTasks;
+    private long flushCount;
+
+    /**
+     * Constructs a new DeferredStorage for the given file.
+     *
+     * @param filePath the path to the file used for storing tasks
+     * @throws ReiExceptions if filePath is null or empty
+     */
+    public DeferredStorage(String filePath) throws ReiExceptions {
+        super(filePath);
+    }
+
+    /**
+     * Remembers that the task list needs saving, without writing anything yet.
+     *
+     * @param tasks the TaskList to save on the next flush
+     */
+    @Override
+    public void save(TaskList tasks) {
+        assert tasks != null : "Task list cannot be null";
+        pendingTasks = tasks;
+    }
+
+    /**
+     * Checks if a save is waiting for the next flush.
+     *
+     * @return true if the file is behind the task list, false otherwise
+     */
+    public boolean isDirty() {
+        return pendingTasks != null;
+    }
+
+    /**
+     * Writes the task list if it was saved since the last flush.
+     *
+     * @throws ReiExceptions if the file cannot be written; the save stays pending
+     */
+    public void flush() throws ReiExceptions {
+        if (pendingTasks == null) {
+            return;
+        }
+        super.save(pendingTasks);
+        pendingTasks = null;
+        flushCount++;
+    }
+
+    /**
+     * Gets the number of times the file was actually written.
+     *
+     * @return the number of flushes that wrote the file
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+}
@@ -0,0 +1,134 @@
+package rei.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import rei.exceptions.ReiExceptions;
+import rei.list.TaskList;
+
+/**
+ * Watches a task file for saves by other processes and applies them to a live task list.
+ * The file's directory is watched, since saves replace the file rather than write into it.
+ * A burst of events becomes a single reload queued on the thread that owns the task list;
+ * when nothing changed, as after this process's own saves, a reload only reads the version line.
+ */
+public class FileWatcher implements AutoCloseable {
+    private static final String THREAD_NAME = "rei-file-watcher";
+
+    private final Storage storage;
+    private final Path fileName;
+    private final TaskList tasks;
+    private final Executor listThread;
+    private final WatchService watchService;
+    private final AtomicBoolean isReloadQueued = new AtomicBoolean();
+    private volatile long reloadCount;
+
+    /**
+     * Constructs a FileWatcher and starts its daemon thread.
+     *
+     * @param storage the storage the task list was loaded from
+     * @param file the absolute path of the task file
+     * @param tasks the live task list
+     * @param listThread runs reloads where the task list may be changed
+     * @throws IOException if the directory cannot be watched
+     */
+    FileWatcher(Storage storage, Path file, TaskList tasks, Executor listThread) throws IOException {
+        assert file.isAbsolute() : "The watched file needs a parent directory";
+        this.storage = storage;
+        this.fileName = file.getFileName();
+        this.tasks = tasks;
+        this.listThread = listThread;
+        this.watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread thread = new Thread(this::runWatcher, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Gets the number of reloads that found and applied changes from another process.
+     *
+     * @return the number of applied reloads so far
+     */
+    public long getReloadCount() {
+        return reloadCount;
+    }
+
+    /**
+     * Stops watching the file. A reload already queued still runs.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // The watcher thread stops either way once the service is unusable
+        }
+    }
+
+    /**
+     * Waits for events on the directory until the watch service is closed.
+     */
+    private void runWatcher() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            boolean isFileChanged = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                isFileChanged |= event.kind() == OVERFLOW || fileName.equals(event.context());
+            }
+            if (isFileChanged) {
+                queueReload();
+            }
+            if (!key.reset()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Queues a reload unless one is already waiting to run.
+     */
+    private void queueReload() {
+        if (!isReloadQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            listThread.execute(this::reload);
+        } catch (RejectedExecutionException e) {
+            // The owner of the list is shutting down
+            isReloadQueued.set(false);
+        }
+    }
+
+    /**
+     * Applies the file's changes to the task list. Runs on the list's thread.
+     */
+    private void reload() {
+        // Cleared first, so that a save landing during this reload queues another one
+        isReloadQueued.set(false);
+        try {
+            if (storage.reloadChanges(tasks)) {
+                reloadCount++;
+            }
+        } catch (ReiExceptions e) {
+            // The file may be mid-write by an older version without locking; try again at the next change
+        }
+    }
+}
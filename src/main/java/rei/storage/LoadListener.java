@@ -0,0 +1,22 @@
+package rei.storage;
+
+import java.util.List;
+
+import rei.exceptions.ReiExceptions;
+import rei.task.Task;
+
+/**
+ * Receives tasks in chunks while Storage reads the data file.
+ */
+public interface LoadListener {
+
+    /**
+     * Called after each chunk of tasks has been parsed, in file order.
+     *
+     * @param chunk the tasks parsed since the previous chunk
+     * @param charactersRead how much of the file has been read so far, in characters
+     * @param totalCharacters the approximate size of the file, used to report progress
+     * @throws ReiExceptions if the listener cannot accept the tasks
+     */
+    void chunkLoaded(List<Task> chunk, long charactersRead, long totalCharacters) throws ReiExceptions;
+}
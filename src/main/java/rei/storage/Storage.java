@@ -1,21 +1,58 @@
 package rei.storage;
 
 import java.io.*;
-import java.time.LocalDateTime;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import rei.task.*;
 import rei.list.TaskList;
 import rei.exceptions.ReiExceptions;
+import rei.metrics.Metrics;
+import rei.metrics.FlightRecording;
+import rei.metrics.StorageEvent;
 
 /**
  * Handles file operations for storing and loading tasks.
  * Manages persistence of task data to and from the file system.
+ *
+ * <p>The file starts with the version of the list, which grows with every save, and each task
+ * line starts with the task's id and version, as in "3:2 | T | 0 | read book". Lines without
+ * them, as written by older versions, are still read. Several writers, such as the console and
+ * the GUI, may share a file: a save only overwrites the file if it is still at the version this
+ * storage last loaded or saved. Otherwise the other writer's changes are first merged into the
+ * task list task by task, so edits to different tasks never overwrite each other.
  */
 public class Storage {
+    /** The number of tasks handed to a LoadListener at a time. */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
     private final String filePath;
+    // Total size of every file written by save, for load testing
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    // What the file held when this storage last loaded or saved it, the base of three-way merges
+    private boolean hasBase;
+    private long baseVersion;
+    private final Map<Long, Long> baseTaskVersions = new HashMap<>();
+    private long mergeCount;
+    private long conflictCount;
     
     // Constants for file format and validation
     private static final String FIELD_SEPARATOR = " \\| ";
+    private static final String FIELD_SEPARATOR_TEXT = " | ";
+    private static final String VERSION_HEADER = "# version ";
+    private static final String COMMENT_PREFIX = "#";
+    private static final char IDENTITY_SEPARATOR = ':';
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int DECIMAL_RADIX = 10;
     private static final String DONE_FLAG_TRUE = "1";
     private static final String DONE_FLAG_FALSE = "0";
     
@@ -23,12 +60,14 @@ public class Storage {
     private static final String TODO_TYPE_IDENTIFIER = "T";
     private static final String DEADLINE_TYPE_IDENTIFIER = "D";
     private static final String EVENT_TYPE_IDENTIFIER = "E";
+    private static final String RECURRING_TYPE_IDENTIFIER = "R";
     
     // Constants for minimum required parts for each task type
     private static final int MINIMUM_TASK_PARTS = 3;
     private static final int MINIMUM_TODO_PARTS = 3;
     private static final int MINIMUM_DEADLINE_PARTS = 4;
     private static final int MINIMUM_EVENT_PARTS = 5;
+    private static final int MINIMUM_RECURRING_PARTS = 7;
     
     // Array indices for task parts
     private static final int TYPE_INDEX = 0;
@@ -37,6 +76,10 @@ public class Storage {
     private static final int DEADLINE_DATE_INDEX = 3;
     private static final int EVENT_START_INDEX = 3;
     private static final int EVENT_END_INDEX = 4;
+    private static final int RECURRING_ANCHOR_INDEX = 3;
+    private static final int RECURRING_DURATION_INDEX = 4;
+    private static final int RECURRING_RULE_INDEX = 5;
+    private static final int RECURRING_COMPLETED_INDEX = 6;
 
     /**
      * Constructs a new Storage instance with the specified file path.
@@ -76,21 +119,48 @@ public class Storage {
      */
     public ArrayList<Task> load() throws ReiExceptions {
         ArrayList<Task> tasks = new ArrayList<>();
+        load(DEFAULT_CHUNK_SIZE, (chunk, charactersRead, totalCharacters) -> tasks.addAll(chunk));
+        return tasks;
+    }
+
+    /**
+     * Loads tasks from the storage file, handing them to the listener in chunks as they are parsed
+     * so that a caller can show them before the whole file has been read.
+     * Creates the file and parent directories if they don't exist.
+     *
+     * @param chunkSize the maximum number of tasks in each chunk
+     * @param listener the listener receiving each chunk
+     * @throws ReiExceptions if there's an error reading from the file or the listener fails
+     */
+    public void load(int chunkSize, LoadListener listener) throws ReiExceptions {
+        assert chunkSize > 0 : "Chunk size must be positive";
         File file = new File(filePath);
+        StorageEvent event = FlightRecording.isRecorderRunning()
+                ? StorageEvent.start(StorageEvent.LOAD, filePath)
+                : null;
+        long startNanos = System.nanoTime();
+        int lineCount = 0;
 
         try {
             ensureFileExists(file);
             
-            // If file was just created, return empty list
+            // If file was just created, there is nothing to load
             if (isFileEmpty(file)) {
-                return tasks;
+                rememberBase(0, new HashMap<>());
+                return;
             }
             
-            loadTasksFromFile(file, tasks);
-            return tasks;
+            FileRead read = loadTasksFromFile(file, chunkSize, listener);
+            lineCount = read.lineCount;
+            rememberBase(read.version, read.taskVersions);
             
         } catch (IOException e) {
             throw new ReiExceptions("OOPS!!! Unable to load tasks from file.");
+        } finally {
+            Metrics.STORAGE_LOAD.recordSince(startNanos);
+            if (event != null) {
+                event.finish(file.length(), lineCount);
+            }
         }
     }
     
@@ -129,49 +199,450 @@ public class Storage {
     }
     
     /**
-     * Loads tasks from the file into the provided list.
+     * What one read of the task file found besides the tasks themselves.
+     */
+    private static class FileRead {
+        private long version;
+        private int lineCount;
+        // In file order
+        private final Map<Long, Long> taskVersions = new LinkedHashMap<>();
+        // Only filled when reading changes since the base
+        private final Map<Long, Task> changedTasks = new HashMap<>();
+    }
+
+    /**
+     * Loads tasks from the file, passing them to the listener in chunks.
+     * Tasks from lines without an id get ids after the highest id seen so far, in file order,
+     * so every writer reading the same file gives them the same ids.
      * 
      * @param file the file to read from
-     * @param tasks the list to add tasks to
+     * @param chunkSize the maximum number of tasks in each chunk
+     * @param listener the listener receiving each chunk
+     * @return the version of the file, the number of lines and the version of each task
      * @throws IOException if file reading fails
      * @throws ReiExceptions if task parsing fails
      */
-    private void loadTasksFromFile(File file, ArrayList<Task> tasks) throws IOException, ReiExceptions {
+    private FileRead loadTasksFromFile(File file, int chunkSize, LoadListener listener)
+            throws IOException, ReiExceptions {
+        FileRead read = new FileRead();
+        long totalCharacters = file.length();
+        long charactersRead = 0;
+        long highestId = 0;
+        List<Task> chunk = new ArrayList<>(chunkSize);
+
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
             String line;
             
             while ((line = reader.readLine()) != null) {
+                charactersRead += line.length() + 1;
+                read.lineCount++;
+                if (read.lineCount == 1 && line.startsWith(VERSION_HEADER)) {
+                    read.version = parseVersionHeader(line);
+                    continue;
+                }
                 Task task = parseTaskFromLine(line);
                 
                 if (task != null) {
-                    tasks.add(task);
+                    if (task.getId() == 0) {
+                        task.assignIdentity(highestId + 1, Task.FIRST_VERSION);
+                    }
+                    highestId = Math.max(highestId, task.getId());
+                    read.taskVersions.put(task.getId(), task.getVersion());
+                    chunk.add(task);
+                }
+                if (chunk.size() == chunkSize) {
+                    listener.chunkLoaded(chunk, charactersRead, totalCharacters);
+                    chunk = new ArrayList<>(chunkSize);
                 }
             }
         }
+        if (!chunk.isEmpty()) {
+            listener.chunkLoaded(chunk, charactersRead, totalCharacters);
+        }
+        return read;
+    }
+
+    /**
+     * Reads the version of the list from the first line of the file.
+     *
+     * @param file the file to read
+     * @return the version, or 0 if the file is missing or has no version
+     * @throws IOException if the file cannot be read
+     * @throws ReiExceptions if the version is not a number
+     */
+    private long readFileVersion(File file) throws IOException, ReiExceptions {
+        if (!file.exists()) {
+            return 0;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String firstLine = reader.readLine();
+            return firstLine != null && firstLine.startsWith(VERSION_HEADER) ? parseVersionHeader(firstLine) : 0;
+        }
+    }
+
+    private long parseVersionHeader(String line) throws ReiExceptions {
+        try {
+            return Long.parseLong(line, VERSION_HEADER.length(), line.length(), DECIMAL_RADIX);
+        } catch (NumberFormatException e) {
+            throw new ReiExceptions("OOPS!!! Corrupted data file - invalid version.");
+        }
     }
 
     /**
      * Saves the current task list to the storage file.
-     * Uses try-with-resources for proper resource management.
+     * If another writer saved the file since this storage last loaded or saved it, the other
+     * writer's changes are merged into the task list first; see {@link #getConflictCount()}.
+     * Writers take an advisory lock on a file next to the storage file while they check and
+     * write, and the file is replaced in one step, so readers never see a partly written file.
      *
      * @param tasks the TaskList containing all tasks to save
      * @throws ReiExceptions if there's an error writing to the file
      */
     public void save(TaskList tasks) throws ReiExceptions {
         validateTaskListForSaving(tasks);
+        StorageEvent event = FlightRecording.isRecorderRunning()
+                ? StorageEvent.start(StorageEvent.SAVE, filePath)
+                : null;
+        long startNanos = System.nanoTime();
+        File file = new File(filePath);
+        long savedBytes = 0;
         
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            ArrayList<Task> taskList = tasks.getAll();
-            
-            for (Task task : taskList) {
-                String taskFileString = task.toFileString();
-                writer.write(taskFileString);
-                writer.newLine();
+        try {
+            WriteLock lock = WriteLock.acquire(file);
+            try {
+                long fileVersion = readFileVersion(file);
+                // A file deleted or renamed since the base has nothing to merge; the list is written afresh
+                if (hasBase && file.exists() && fileVersion != baseVersion) {
+                    fileVersion = mergeFromFile(tasks, file).version;
+                }
+                long savedVersion = Math.max(fileVersion, baseVersion) + 1;
+                savedBytes = writeTasks(file, tasks, savedVersion);
+                bytesWritten.addAndGet(savedBytes);
+                rememberBase(savedVersion, tasks);
+            } finally {
+                lock.release();
             }
-            
         } catch (IOException e) {
             throw new ReiExceptions("OOPS!!! Unable to save tasks to file.");
+        } finally {
+            Metrics.STORAGE_SAVE.recordSince(startNanos);
+            if (event != null) {
+                event.finish(savedBytes, tasks.size());
+            }
+        }
+    }
+
+    /**
+     * Applies the changes another writer saved to the file since this storage last loaded or saved it,
+     * without touching the tasks that did not change. Only the ids and versions of unchanged tasks
+     * are read; just the added and changed lines are parsed. Changes not yet saved here are kept,
+     * as they would be when saving.
+     *
+     * @param tasks the task list loaded from this storage
+     * @return true if the file had changed and was merged, false if it was as this storage left it
+     * @throws ReiExceptions if the file cannot be read or is corrupted
+     */
+    public boolean reloadChanges(TaskList tasks) throws ReiExceptions {
+        assert tasks != null : "Task list cannot be null";
+        if (!hasBase) {
+            return false;
+        }
+        long startNanos = System.nanoTime();
+        File file = new File(filePath);
+        try {
+            if (!file.exists() || readFileVersion(file) == baseVersion) {
+                return false;
+            }
+            FileRead read = mergeFromFile(tasks, file);
+            // The file is the new base; changes not yet saved here stay newer than it
+            rememberBase(read.version, read.taskVersions);
+            return true;
+        } catch (IOException e) {
+            throw new ReiExceptions("OOPS!!! Unable to reload tasks from file.");
+        } finally {
+            Metrics.STORAGE_RELOAD.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Starts watching the storage file for saves by other processes and applying them to the
+     * task list with {@link #reloadChanges(TaskList)}.
+     *
+     * @param tasks the task list loaded from this storage
+     * @param listThread runs each reload on the thread, or under the lock, that owns the task list
+     * @return the watcher, which must be closed to stop watching
+     * @throws ReiExceptions if the file system cannot watch the file's directory
+     */
+    public FileWatcher watch(TaskList tasks, Executor listThread) throws ReiExceptions {
+        try {
+            return new FileWatcher(this, new File(filePath).getAbsoluteFile().toPath(), tasks, listThread);
+        } catch (IOException e) {
+            throw new ReiExceptions("OOPS!!! Unable to watch the data file for changes.");
+        }
+    }
+
+    /**
+     * Writes the tasks to a temporary file next to the storage file, then moves it into place.
+     *
+     * @param file the storage file
+     * @param tasks the tasks to write
+     * @param version the version of the list to write
+     * @return the number of bytes written
+     * @throws IOException if writing or moving fails
+     */
+    private long writeTasks(File file, TaskList tasks, long version) throws IOException {
+        File temporaryFile = new File(file.getPath() + TEMPORARY_FILE_SUFFIX);
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(temporaryFile))) {
+            writer.write(VERSION_HEADER + version);
+            writer.newLine();
+            for (Task task : tasks.getAll()) {
+                writer.write(formatTaskLine(task));
+                writer.newLine();
+            }
+        }
+
+        long writtenBytes = temporaryFile.length();
+        Path source = temporaryFile.toPath();
+        Path target = file.toPath();
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return writtenBytes;
+    }
+
+    /**
+     * Merges the changes another writer saved since the base into the task list.
+     * For each task, whichever side changed it since the base wins. Tasks added on either side
+     * are kept, those from the file at their file position, and tasks deleted on one side are dropped unless the other side changed them.
+     * When both sides changed a task differently, this side's version is kept and counted as a conflict.
+     *
+     * @param tasks the task list to merge into
+     * @param file the storage file
+     * @return what was read from the file
+     * @throws IOException if the file cannot be read
+     * @throws ReiExceptions if the file is corrupted
+     */
+    private FileRead mergeFromFile(TaskList tasks, File file) throws IOException, ReiExceptions {
+        FileRead read = readChangesSinceBase(file);
+        // Ids present in the file, in file order, removed as the tasks here are matched with them
+        Map<Long, Long> unmatched = new LinkedHashMap<>(read.taskVersions);
+        for (long id : unmatched.keySet()) {
+            tasks.reserveIdsUpTo(id);
+        }
+
+        tasks.beginBatch();
+        try {
+            // Backwards, so that removing a task does not move the ones still to be merged
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                mergeTask(tasks, i, unmatched, read.changedTasks);
+            }
+            insertTheirTasks(tasks, read, unmatched);
+        } finally {
+            tasks.endBatch();
+        }
+        mergeCount++;
+        return read;
+    }
+
+    /**
+     * Inserts the tasks only the other writer has at their position in the file, ahead of the tasks
+     * added here and not saved yet, so that every writer of the file ends up with the same order.
+     * The tasks here that are also in the file are already in file order, since neither side
+     * reorders tasks, so one forward scan finds every insertion point.
+     */
+    private void insertTheirTasks(TaskList tasks, FileRead read, Map<Long, Long> unmatched)
+            throws ReiExceptions {
+        Map<Long, Integer> filePositions = new HashMap<>();
+        for (long id : read.taskVersions.keySet()) {
+            filePositions.put(id, filePositions.size());
+        }
+
+        int scanned = 0;
+        int insertAt = 0;
+        for (Map.Entry<Long, Long> their : unmatched.entrySet()) {
+            Long baseTaskVersion = baseTaskVersions.get(their.getKey());
+            if (baseTaskVersion != null && their.getValue().equals(baseTaskVersion)) {
+                // Deleted here and unchanged there: stays deleted
+                continue;
+            }
+            if (baseTaskVersion != null) {
+                // Deleted here but changed there: keep the change
+                conflictCount++;
+            }
+
+            // Goes right after the last task here that comes before it in the file
+            int position = filePositions.get(their.getKey());
+            while (scanned < tasks.size()) {
+                Integer scannedPosition = filePositions.get(tasks.get(scanned).getId());
+                if (scannedPosition != null && scannedPosition > position) {
+                    break;
+                }
+                scanned++;
+                if (scannedPosition != null) {
+                    insertAt = scanned;
+                }
+            }
+            tasks.add(insertAt, read.changedTasks.get(their.getKey()));
+            insertAt++;
+            scanned++;
+        }
+    }
+
+    /**
+     * Merges one task of the list with the other writer's copy, removing its id from the unmatched ones.
+     */
+    private void mergeTask(TaskList tasks, int index, Map<Long, Long> unmatched, Map<Long, Task> changed)
+            throws ReiExceptions {
+        Task ours = tasks.get(index);
+        Long baseTaskVersion = baseTaskVersions.get(ours.getId());
+        if (baseTaskVersion == null) {
+            // Added here; the other writer may have given the same id to a task it added
+            if (unmatched.containsKey(ours.getId())) {
+                tasks.reassignId(index);
+            }
+            return;
+        }
+
+        Long theirVersion = unmatched.remove(ours.getId());
+        boolean isChangedHere = ours.getVersion() != baseTaskVersion;
+        if (theirVersion == null) {
+            if (isChangedHere) {
+                // Deleted there but changed here: keep the change
+                conflictCount++;
+            } else {
+                tasks.remove(index);
+            }
+            return;
+        }
+
+        if (theirVersion.equals(baseTaskVersion)) {
+            return;
+        }
+        Task their = changed.get(ours.getId());
+        if (!isChangedHere) {
+            tasks.replace(index, their);
+        } else if (!their.toFileString().equals(ours.toFileString())) {
+            conflictCount++;
+            ours.assignIdentity(ours.getId(), Math.max(ours.getVersion(), their.getVersion()) + 1);
+        }
+    }
+
+    /**
+     * Reads the ids and versions of every task in the file, parsing only the tasks that were
+     * added or changed since the base.
+     *
+     * @param file the file to read
+     * @return the version of the file, the version of each task and the changed tasks
+     * @throws IOException if file reading fails
+     * @throws ReiExceptions if a line is corrupted
+     */
+    private FileRead readChangesSinceBase(File file) throws IOException, ReiExceptions {
+        FileRead read = new FileRead();
+        long highestId = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                read.lineCount++;
+                if (read.lineCount == 1 && line.startsWith(VERSION_HEADER)) {
+                    read.version = parseVersionHeader(line);
+                    continue;
+                }
+                if (line.trim().isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                long id = highestId + 1;
+                long version = Task.FIRST_VERSION;
+                if (Character.isDigit(line.charAt(0))) {
+                    int identityEnd = line.indexOf(FIELD_SEPARATOR_TEXT);
+                    int separator = line.indexOf(IDENTITY_SEPARATOR);
+                    id = parseIdentityNumber(line, 0, separator, identityEnd);
+                    version = parseIdentityNumber(line, separator + 1, identityEnd, identityEnd);
+                }
+                highestId = Math.max(highestId, id);
+                read.taskVersions.put(id, version);
+
+                Long baseTaskVersion = baseTaskVersions.get(id);
+                if (baseTaskVersion == null || baseTaskVersion != version) {
+                    Task task = parseTaskFromLine(line);
+                    task.assignIdentity(id, version);
+                    read.changedTasks.put(id, task);
+                }
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Remembers the version of the file and of each task in the list just saved.
+     */
+    private void rememberBase(long version, TaskList tasks) {
+        Map<Long, Long> taskVersions = new HashMap<>();
+        for (Task task : tasks.getAll()) {
+            taskVersions.put(task.getId(), task.getVersion());
         }
+        rememberBase(version, taskVersions);
+    }
+
+    private void rememberBase(long version, Map<Long, Long> taskVersions) {
+        hasBase = true;
+        baseVersion = version;
+        baseTaskVersions.clear();
+        baseTaskVersions.putAll(taskVersions);
+    }
+
+    /**
+     * Gets the version of the list as this storage last loaded or saved it.
+     *
+     * @return the version, or 0 before the first load or save
+     */
+    public long getListVersion() {
+        return baseVersion;
+    }
+
+    /**
+     * Gets the number of saves that found changes from another writer and merged them.
+     *
+     * @return the number of merges so far
+     */
+    public long getMergeCount() {
+        return mergeCount;
+    }
+
+    /**
+     * Gets the number of tasks changed by both this storage's list and another writer,
+     * or changed on one side and deleted on the other, since this storage was created.
+     * The change was kept in each case.
+     *
+     * @return the number of conflicts so far
+     */
+    public long getConflictCount() {
+        return conflictCount;
+    }
+
+    /**
+     * Formats a task as a line of the storage file, including its id and version.
+     *
+     * @param task the task to format
+     * @return the line, without a line separator
+     */
+    public String formatTaskLine(Task task) {
+        return new StringBuilder()
+                .append(task.getId()).append(IDENTITY_SEPARATOR).append(task.getVersion())
+                .append(FIELD_SEPARATOR_TEXT).append(task.toFileString())
+                .toString();
+    }
+
+    /**
+     * Gets the number of bytes written by every successful save so far.
+     * Each save rewrites the whole file, so this grows by the file size per save.
+     *
+     * @return the total bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
     }
     
     /**
@@ -190,18 +661,80 @@ public class Storage {
      * Parses a line from the storage file and creates the appropriate task object.
      * Validates input and delegates to specific parsing methods.
      *
+     * Lines may start with the task's id and version; tasks from lines without them have id 0.
+     *
      * @param line the line to parse from the file
-     * @return the Task object created from the line, or null if line is invalid
+     * @return the Task object created from the line, or null if the line is blank or a comment
      * @throws ReiExceptions if the line format is invalid or corrupted
      */
-    private Task parseTaskFromLine(String line) throws ReiExceptions {
-        if (line == null || line.trim().isEmpty()) {
+    public Task parseTaskFromLine(String line) throws ReiExceptions {
+        if (line == null || line.trim().isEmpty() || line.startsWith(COMMENT_PREFIX)) {
             return null; // Skip empty lines
         }
         
-        String[] parts = splitTaskLine(line);
+        boolean hasIdentity = Character.isDigit(line.charAt(0));
+        int identityEnd = hasIdentity ? line.indexOf(FIELD_SEPARATOR_TEXT) : -1;
+        if (hasIdentity && identityEnd < 0) {
+            throw new ReiExceptions("OOPS!!! Corrupted data file - insufficient parts.");
+        }
+        String[] parts = splitTaskLine(hasIdentity ? line.substring(identityEnd + FIELD_SEPARATOR_TEXT.length()) : line);
         validateTaskParts(parts);
         
+        Task task = createTaskFromParts(parts);
+        restoreMarkers(task, parts);
+        if (hasIdentity) {
+            restoreIdentity(task, line, identityEnd);
+        }
+        return task;
+    }
+    
+    /**
+     * Restores the id and version stored in front of a task line, as in "3:2 | T | 0 | read book".
+     * 
+     * @param task the task to update
+     * @param line the whole line
+     * @param identityEnd the index where the identity field ends
+     * @throws ReiExceptions if the identity is malformed
+     */
+    private void restoreIdentity(Task task, String line, int identityEnd) throws ReiExceptions {
+        int separator = line.indexOf(IDENTITY_SEPARATOR);
+        long id = parseIdentityNumber(line, 0, separator, identityEnd);
+        long version = parseIdentityNumber(line, separator + 1, identityEnd, identityEnd);
+        if (id <= 0) {
+            throw new ReiExceptions("OOPS!!! Corrupted data file - invalid task id.");
+        }
+        task.assignIdentity(id, version);
+    }
+    
+    /**
+     * Parses an id or version from the identity field of a task line.
+     * 
+     * @param line the whole line
+     * @param from the index where the number starts
+     * @param to the index where the number ends
+     * @param identityEnd the index where the identity field ends, or -1 if it is missing
+     * @return the number
+     * @throws ReiExceptions if the field is missing or the number is malformed
+     */
+    private long parseIdentityNumber(String line, int from, int to, int identityEnd) throws ReiExceptions {
+        if (from < 0 || to <= from || identityEnd < 0 || to > identityEnd) {
+            throw new ReiExceptions("OOPS!!! Corrupted data file - invalid task id.");
+        }
+        try {
+            return Long.parseLong(line, from, to, DECIMAL_RADIX);
+        } catch (NumberFormatException e) {
+            throw new ReiExceptions("OOPS!!! Corrupted data file - invalid task id.");
+        }
+    }
+    
+    /**
+     * Creates a task of the type named in the first field of the parsed line.
+     * 
+     * @param parts the parsed components from the file line
+     * @return the constructed task
+     * @throws ReiExceptions if the task type is unknown or the parts are invalid
+     */
+    private Task createTaskFromParts(String[] parts) throws ReiExceptions {
         String taskType = parts[TYPE_INDEX];
         
         // Use explicit if-else chain for better readability and explicit default handling
@@ -211,12 +744,42 @@ public class Storage {
             return createDeadlineFromParts(parts);
         } else if (EVENT_TYPE_IDENTIFIER.equals(taskType)) {
             return createEventFromParts(parts);
+        } else if (RECURRING_TYPE_IDENTIFIER.equals(taskType)) {
+            return createRecurringFromParts(parts);
         } else {
             // Explicit default case for unknown task types
             throw new ReiExceptions("OOPS!!! Unknown task type in data file: " + taskType);
         }
     }
     
+    /**
+     * Extracts the plain description from the description field, without its "#tag" and
+     * "!priority" markers. A field made only of marker-like words is kept verbatim so that
+     * no task loses its description.
+     * 
+     * @param parts the parsed components from the file line
+     * @return the description text
+     */
+    private String extractDescription(String[] parts) {
+        String rawDescription = parts[DESCRIPTION_INDEX];
+        String description = Priority.strip(Tags.strip(rawDescription));
+        return description.isEmpty() ? rawDescription : description;
+    }
+    
+    /**
+     * Restores the tags and priority stored as markers in the description field.
+     * 
+     * @param task the task to update
+     * @param parts the parsed components from the file line
+     */
+    private void restoreMarkers(Task task, String[] parts) {
+        String rawDescription = parts[DESCRIPTION_INDEX];
+        if (!Priority.strip(Tags.strip(rawDescription)).isEmpty()) {
+            task.addTags(Tags.extract(rawDescription));
+            task.setPriority(Priority.extract(rawDescription));
+        }
+    }
+    
     /**
      * Splits a task line into its component parts.
      * 
@@ -250,7 +813,7 @@ public class Storage {
     private Task createTodoFromParts(String[] parts) throws ReiExceptions {
         validateTodoParts(parts);
         
-        String description = parts[DESCRIPTION_INDEX];
+        String description = extractDescription(parts);
         String statusFlag = parts[STATUS_INDEX];
         
         Task todoTask = new Todo(description);
@@ -285,13 +848,13 @@ public class Storage {
     private Task createDeadlineFromParts(String[] parts) throws ReiExceptions {
         validateDeadlineParts(parts);
         
-        String description = parts[DESCRIPTION_INDEX];
+        String description = extractDescription(parts);
         String deadlineDateString = parts[DEADLINE_DATE_INDEX];
         String statusFlag = parts[STATUS_INDEX];
         
         try {
-            LocalDateTime deadlineDateTime = LocalDateTime.parse(deadlineDateString);
-            Task deadlineTask = new Deadline(description, deadlineDateTime);
+            long deadlineMinute = EpochMinutes.parseIso(deadlineDateString);
+            Task deadlineTask = new Deadline(description, deadlineMinute);
             setTaskCompletionStatus(deadlineTask, statusFlag);
             return deadlineTask;
         } catch (Exception e) {
@@ -326,18 +889,18 @@ public class Storage {
     private Task createEventFromParts(String[] parts) throws ReiExceptions {
         validateEventParts(parts);
         
-        String description = parts[DESCRIPTION_INDEX];
+        String description = extractDescription(parts);
         String startDateString = parts[EVENT_START_INDEX];
         String endDateString = parts[EVENT_END_INDEX];
         String statusFlag = parts[STATUS_INDEX];
         
         try {
-            LocalDateTime startDateTime = LocalDateTime.parse(startDateString);
-            LocalDateTime endDateTime = LocalDateTime.parse(endDateString);
+            long startMinute = EpochMinutes.parseIso(startDateString);
+            long endMinute = EpochMinutes.parseIso(endDateString);
             
-            validateEventDateLogic(startDateTime, endDateTime);
+            validateEventDateLogic(startMinute, endMinute);
             
-            Task eventTask = new Event(description, startDateTime, endDateTime);
+            Task eventTask = new Event(description, startMinute, endMinute);
             setTaskCompletionStatus(eventTask, statusFlag);
             return eventTask;
         } catch (Exception e) {
@@ -361,16 +924,62 @@ public class Storage {
         }
     }
     
+    /**
+     * Creates a Recurring task from parsed file data.
+     * The whole series, including its completed occurrences, comes from a single line.
+     *
+     * @param parts the parsed components from the file line
+     * @return the constructed Recurring task
+     * @throws ReiExceptions if parts are invalid
+     */
+    private Task createRecurringFromParts(String[] parts) throws ReiExceptions {
+        validateRecurringParts(parts);
+        
+        String description = extractDescription(parts);
+        String statusFlag = parts[STATUS_INDEX];
+        
+        Task recurringTask;
+        try {
+            long anchorMinute = EpochMinutes.parseIso(parts[RECURRING_ANCHOR_INDEX]);
+            long durationMinutes = Long.parseLong(parts[RECURRING_DURATION_INDEX].trim());
+            RecurrenceRule rule = RecurrenceRule.parse(parts[RECURRING_RULE_INDEX]);
+            
+            recurringTask = new Recurring(description, anchorMinute, durationMinutes, rule,
+                    Recurring.parseOrdinals(parts[RECURRING_COMPLETED_INDEX]));
+        } catch (Exception e) {
+            throw new ReiExceptions("OOPS!!! Invalid recurring task format in data file.");
+        }
+        
+        setTaskCompletionStatus(recurringTask, statusFlag);
+        return recurringTask;
+    }
+    
+    /**
+     * Validates parts for Recurring task creation.
+     * 
+     * @param parts the parts to validate
+     * @throws ReiExceptions if validation fails
+     */
+    private void validateRecurringParts(String[] parts) throws ReiExceptions {
+        if (parts.length < MINIMUM_RECURRING_PARTS) {
+            throw new ReiExceptions("OOPS!!! Invalid Recurring format in data file.");
+        }
+        
+        if (!RECURRING_TYPE_IDENTIFIER.equals(parts[TYPE_INDEX])) {
+            throw new ReiExceptions("OOPS!!! Expected Recurring type identifier.");
+        }
+    }
+    
     /**
      * Validates that event start time is not after end time.
      * 
-     * @param startDateTime the start date and time
-     * @param endDateTime the end date and time
+     * @param startMinute the start time in epoch minutes
+     * @param endMinute the end time in epoch minutes
      * @throws ReiExceptions if start is after end
      */
-    private void validateEventDateLogic(LocalDateTime startDateTime, LocalDateTime endDateTime) 
+    private void validateEventDateLogic(long startMinute, long endMinute)
             throws ReiExceptions {
-        if (startDateTime.isAfter(endDateTime)) {
+        if (startMinute > endMinute) {
             throw new ReiExceptions("OOPS!!! Event start time cannot be after end time.");
         }
     }
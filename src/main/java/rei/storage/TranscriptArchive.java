@@ -0,0 +1,219 @@
+package rei.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import rei.exceptions.ReiExceptions;
+import rei.ui.ChatMessage;
+
+/**
+ * An append-only file of chat messages, stored as independently compressed blocks.
+ * Each block is written as its compressed length, its message count and its Deflate data.
+ * Block offsets are indexed when the file is opened, so any block can be read back
+ * without decompressing the rest of the history.
+ */
+public class TranscriptArchive implements AutoCloseable {
+    private static final int INITIAL_BLOCK_CAPACITY = 16;
+    // Compressed length and message count, both ints
+    private static final int BLOCK_HEADER_BYTES = 8;
+
+    private final RandomAccessFile file;
+    private long[] blockOffsets = new long[INITIAL_BLOCK_CAPACITY];
+    private long[] blockFirstSequences = new long[INITIAL_BLOCK_CAPACITY];
+    private int blockCount;
+    private long messageCount;
+    private long endOffset;
+
+    /**
+     * Opens the archive at the given path, creating it if needed, and indexes its blocks.
+     * A block left incomplete by an interrupted write is discarded.
+     *
+     * @param filePath the path of the archive file
+     * @throws ReiExceptions if the file cannot be opened or read
+     */
+    public TranscriptArchive(String filePath) throws ReiExceptions {
+        try {
+            File archiveFile = new File(filePath);
+            File parentDirectory = archiveFile.getParentFile();
+            if (parentDirectory != null) {
+                parentDirectory.mkdirs();
+            }
+            file = new RandomAccessFile(archiveFile, "rw");
+            indexBlocks();
+        } catch (IOException e) {
+            throw new ReiExceptions("OOPS!!! Unable to open the chat history.");
+        }
+    }
+
+    /**
+     * Gets the number of messages stored in the archive.
+     *
+     * @return the message count
+     */
+    public long getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * Appends messages to the archive as one compressed block.
+     *
+     * @param messages the messages to append, oldest first
+     * @throws ReiExceptions if the block cannot be written
+     */
+    public void append(List<ChatMessage> messages) throws ReiExceptions {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            byte[] compressed = compress(messages);
+            file.seek(endOffset);
+            file.writeInt(compressed.length);
+            file.writeInt(messages.size());
+            file.write(compressed);
+
+            recordBlock(endOffset, messageCount);
+            endOffset += BLOCK_HEADER_BYTES + compressed.length;
+            messageCount += messages.size();
+        } catch (IOException e) {
+            throw new ReiExceptions("OOPS!!! Unable to save the chat history.");
+        }
+    }
+
+    /**
+     * Reads the archived messages just before the given position, one block at a time.
+     *
+     * @param endSequence the position, counted from the first archived message, to read up to
+     * @return the messages of the block holding position endSequence - 1 that come before
+     *     endSequence, oldest first, or an empty list if endSequence is 0
+     * @throws ReiExceptions if the block cannot be read
+     */
+    public List<ChatMessage> readPageBefore(long endSequence) throws ReiExceptions {
+        assert endSequence <= messageCount : "Cannot read past the end of the archive";
+        if (endSequence <= 0) {
+            return List.of();
+        }
+
+        int block = findBlock(endSequence - 1);
+        try {
+            List<ChatMessage> messages = readBlock(block);
+            return messages.subList(0, (int) (endSequence - blockFirstSequences[block]));
+        } catch (IOException | DataFormatException e) {
+            throw new ReiExceptions("OOPS!!! Unable to read the chat history.");
+        }
+    }
+
+    /**
+     * Closes the archive file.
+     *
+     * @throws ReiExceptions if the file cannot be closed
+     */
+    @Override
+    public void close() throws ReiExceptions {
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new ReiExceptions("OOPS!!! Unable to close the chat history.");
+        }
+    }
+
+    /**
+     * Scans block headers to build the offset index, truncating a partial trailing block.
+     */
+    private void indexBlocks() throws IOException {
+        long length = file.length();
+        long offset = 0;
+        while (offset + BLOCK_HEADER_BYTES <= length) {
+            file.seek(offset);
+            int compressedLength = file.readInt();
+            int count = file.readInt();
+            long next = offset + BLOCK_HEADER_BYTES + compressedLength;
+            if (compressedLength < 0 || count <= 0 || next > length) {
+                break;
+            }
+            recordBlock(offset, messageCount);
+            messageCount += count;
+            offset = next;
+        }
+        if (offset < length) {
+            file.setLength(offset);
+        }
+        endOffset = offset;
+    }
+
+    /**
+     * Adds a block to the offset index.
+     */
+    private void recordBlock(long offset, long firstSequence) {
+        if (blockCount == blockOffsets.length) {
+            blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+            blockFirstSequences = Arrays.copyOf(blockFirstSequences, blockCount * 2);
+        }
+        blockOffsets[blockCount] = offset;
+        blockFirstSequences[blockCount] = firstSequence;
+        blockCount++;
+    }
+
+    /**
+     * Finds the block holding the message at the given position by binary search.
+     */
+    private int findBlock(long sequence) {
+        int slot = Arrays.binarySearch(blockFirstSequences, 0, blockCount, sequence);
+        return slot >= 0 ? slot : -(slot + 1) - 1;
+    }
+
+    /**
+     * Reads and decompresses one block.
+     */
+    private List<ChatMessage> readBlock(int block) throws IOException, DataFormatException {
+        file.seek(blockOffsets[block]);
+        int compressedLength = file.readInt();
+        int count = file.readInt();
+        byte[] compressed = new byte[compressedLength];
+        file.readFully(compressed);
+
+        List<ChatMessage> messages = new ArrayList<>(count);
+        try (DataInputStream input = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+            for (int i = 0; i < count; i++) {
+                boolean isFromUser = input.readBoolean();
+                byte[] text = new byte[input.readInt()];
+                input.readFully(text);
+                messages.add(new ChatMessage(new String(text, StandardCharsets.UTF_8), isFromUser));
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Serializes and compresses a block of messages.
+     */
+    private static byte[] compress(List<ChatMessage> messages) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            for (ChatMessage message : messages) {
+                byte[] text = message.getText().getBytes(StandardCharsets.UTF_8);
+                output.writeBoolean(message.isFromUser());
+                output.writeInt(text.length);
+                output.write(text);
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+}
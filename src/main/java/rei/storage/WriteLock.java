@@ -0,0 +1,70 @@
+package rei.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An advisory lock letting one writer at a time, across processes, check and replace a task file.
+ * The lock is taken on a separate file next to the task file, since the task file itself is
+ * replaced by every save. File locks are held per process, so writers within one process also
+ * queue on an in-process lock for the same path.
+ */
+final class WriteLock {
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    private static final ConcurrentHashMap<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final ReentrantLock processLock;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+
+    private WriteLock(ReentrantLock processLock, FileChannel channel, FileLock fileLock) {
+        this.processLock = processLock;
+        this.channel = channel;
+        this.fileLock = fileLock;
+    }
+
+    /**
+     * Waits until no other writer holds the lock for a task file, then takes it.
+     *
+     * @param file the task file
+     * @return the held lock, to be released once the file was written
+     * @throws IOException if the lock file cannot be opened or locked
+     */
+    static WriteLock acquire(File file) throws IOException {
+        Path lockPath = new File(file.getPath() + LOCK_FILE_SUFFIX).getAbsoluteFile().toPath().normalize();
+        ReentrantLock processLock = PROCESS_LOCKS.computeIfAbsent(lockPath, path -> new ReentrantLock());
+        processLock.lock();
+        try {
+            FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            try {
+                return new WriteLock(processLock, channel, channel.lock());
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            processLock.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the lock.
+     *
+     * @throws IOException if the lock file cannot be closed
+     */
+    void release() throws IOException {
+        try {
+            fileLock.release();
+            channel.close();
+        } finally {
+            processLock.unlock();
+        }
+    }
+}
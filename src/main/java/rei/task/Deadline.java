@@ -1,14 +1,13 @@
 package rei.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a task with a deadline that must be completed by a specific date and time.
  * Extends the base Task class to include deadline functionality.
  */
 public class Deadline extends Task {
-    private LocalDateTime ddl;
+    private final long ddlMinute;
 
     /**
      * Constructs a new Deadline task with the given description and deadline.
@@ -19,7 +18,46 @@ public class Deadline extends Task {
     public Deadline(String description, LocalDateTime ddl) {
         super(description);
         assert ddl != null : "Deadline date cannot be null";
-        this.ddl = ddl;
+        this.ddlMinute = EpochMinutes.of(ddl);
+    }
+
+    /**
+     * Constructs a new Deadline task with the given description and deadline in epoch minutes.
+     *
+     * @param description the description of the deadline task
+     * @param ddlMinute the deadline as minutes since the epoch
+     */
+    public Deadline(String description, long ddlMinute) {
+        super(description);
+        this.ddlMinute = ddlMinute;
+    }
+
+    /**
+     * Gets the deadline of this task.
+     *
+     * @return the deadline date and time
+     */
+    public LocalDateTime getDeadline() {
+        return EpochMinutes.toLocalDateTime(ddlMinute);
+    }
+
+    /**
+     * Gets the deadline of this task in epoch minutes.
+     *
+     * @return the deadline as minutes since the epoch
+     */
+    public long getDeadlineMinute() {
+        return ddlMinute;
+    }
+
+    @Override
+    public long getSortMinute() {
+        return ddlMinute;
+    }
+
+    @Override
+    public boolean occursBetween(long fromMinute, long toMinute) {
+        return ddlMinute >= fromMinute && ddlMinute < toMinute;
     }
 
     /**
@@ -30,7 +68,7 @@ public class Deadline extends Task {
     @Override
     public String toString() {
         return "[D]" + super.toString()
-                + " (by: " + formatDate(ddl) + ")";
+                + " (by: " + EpochMinutes.format(ddlMinute) + ")";
     }
 
     /**
@@ -41,17 +79,6 @@ public class Deadline extends Task {
     @Override
     public String toFileString() {
         return "D | " + super.toFileString()
-                + " | " + ddl;
-    }
-
-    /**
-     * Formats a LocalDateTime into a user-friendly display format.
-     *
-     * @param dateTime the date and time to format
-     * @return a formatted date string in "MMM dd yyyy HH:mm" format
-     */
-    private String formatDate(LocalDateTime dateTime) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM dd yyyy HH:mm");
-        return dateTime.format(formatter);
+                + " | " + EpochMinutes.toIso(ddlMinute);
     }
 }
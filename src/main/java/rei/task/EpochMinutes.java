@@ -0,0 +1,206 @@
+package rei.task;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Utility methods for the compact temporal representation used by the task model.
+ * Instants are stored as the number of minutes since 1970-01-01T00:00, treating the
+ * local date-time as if it were UTC so that no time zone information is needed.
+ */
+public final class EpochMinutes {
+
+    /** Sentinel used by tasks that have no associated time. */
+    public static final long NONE = Long.MAX_VALUE;
+
+    // Constants for the ISO "yyyy-MM-ddTHH:mm" layout used in the data file
+    private static final int ISO_LENGTH = 16;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final long DAYS_0000_TO_1970 = 719468;
+    private static final long DAYS_PER_ERA = 146097;
+
+    private EpochMinutes() {
+    }
+
+    /**
+     * Holds the display format, so that it is only built the first time a time is shown
+     * rather than while tasks are loaded at startup.
+     */
+    private static final class DisplayFormat {
+        private static final DateTimeFormatter INSTANCE = DateTimeFormatter.ofPattern("MMM dd yyyy HH:mm");
+    }
+
+    /**
+     * Converts a LocalDateTime into epoch minutes, discarding seconds.
+     *
+     * @param dateTime the date and time to convert
+     * @return the number of minutes since the epoch
+     */
+    public static long of(LocalDateTime dateTime) {
+        assert dateTime != null : "Date time cannot be null";
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Converts epoch minutes back into a LocalDateTime.
+     *
+     * @param epochMinute the number of minutes since the epoch
+     * @return the corresponding LocalDateTime
+     */
+    public static LocalDateTime toLocalDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Formats epoch minutes into the user-friendly display format.
+     *
+     * @param epochMinute the number of minutes since the epoch
+     * @return a formatted date string in "MMM dd yyyy HH:mm" format
+     */
+    public static String format(long epochMinute) {
+        return toLocalDateTime(epochMinute).format(DisplayFormat.INSTANCE);
+    }
+
+    /**
+     * Parses an ISO "yyyy-MM-ddTHH:mm" string straight into epoch minutes.
+     * Falls back to LocalDateTime parsing for any other ISO shape, such as one with seconds.
+     *
+     * @param text the ISO date-time string
+     * @return the number of minutes since the epoch
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date-time
+     */
+    public static long parseIso(String text) {
+        if (text.length() == ISO_LENGTH
+                && text.charAt(4) == '-' && text.charAt(7) == '-'
+                && text.charAt(10) == 'T' && text.charAt(13) == ':') {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 7);
+            int day = digits(text, 8, 10);
+            int hour = digits(text, 11, 13);
+            int minute = digits(text, 14, 16);
+
+            if (year >= 0 && isValid(year, month, day, hour, minute)) {
+                return daysFromCivil(year, month, day) * MINUTES_PER_DAY
+                        + hour * MINUTES_PER_HOUR + minute;
+            }
+        }
+        return of(LocalDateTime.parse(text));
+    }
+
+    /**
+     * Formats epoch minutes as an ISO "yyyy-MM-ddTHH:mm" string for file storage.
+     * The output matches LocalDateTime.toString for whole minutes in years 0000 to 9999.
+     *
+     * @param epochMinute the number of minutes since the epoch
+     * @return the ISO date-time string
+     */
+    public static String toIso(long epochMinute) {
+        long days = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        int minuteOfDay = Math.floorMod(epochMinute, MINUTES_PER_DAY);
+
+        long shifted = days + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        long dayOfEra = shifted - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999) {
+            return toLocalDateTime(epochMinute).toString();
+        }
+
+        char[] out = new char[ISO_LENGTH];
+        writeDigits(out, 0, (int) year, 4);
+        out[4] = '-';
+        writeDigits(out, 5, month, 2);
+        out[7] = '-';
+        writeDigits(out, 8, day, 2);
+        out[10] = 'T';
+        writeDigits(out, 11, minuteOfDay / MINUTES_PER_HOUR, 2);
+        out[13] = ':';
+        writeDigits(out, 14, minuteOfDay % MINUTES_PER_HOUR, 2);
+        return new String(out);
+    }
+
+    /**
+     * Computes the number of days since 1970-01-01 for a proleptic Gregorian date.
+     *
+     * @param year the year
+     * @param month the month, from 1 to 12
+     * @param day the day of month
+     * @return the epoch day
+     */
+    static long daysFromCivil(long year, int month, int day) {
+        long adjustedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(adjustedYear, 400);
+        long yearOfEra = adjustedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Reads a run of ASCII digits as a non-negative number.
+     *
+     * @return the parsed number, or -1 if a non-digit is encountered
+     */
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Writes a zero-padded number into the buffer.
+     */
+    private static void writeDigits(char[] out, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Checks that the parsed fields form a real calendar date and time of day.
+     */
+    private static boolean isValid(int year, int month, int day, int hour, int minute) {
+        if (month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return false;
+        }
+        return day <= lengthOfMonth(year, month);
+    }
+
+    /**
+     * Returns the number of days in the given month.
+     *
+     * @param year the year
+     * @param month the month, from 1 to 12
+     * @return the length of the month in days
+     */
+    static int lengthOfMonth(long year, int month) {
+        switch (month) {
+        case 2:
+            boolean isLeap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+            return isLeap ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+}
@@ -1,15 +1,14 @@
 package rei.task;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Represents an event task that occurs during a specific time period.
  * Extends the base Task class to include start and end time functionality.
  */
 public class Event extends Task {
-    private LocalDateTime start;
-    private LocalDateTime end;
+    private final long startMinute;
+    private final long endMinute;
 
     /**
      * Constructs a new Event task with the given description, start time, and end time.
@@ -23,8 +22,68 @@ public class Event extends Task {
         assert start != null : "Event start time cannot be null";
         assert end != null : "Event end time cannot be null";
         assert !start.isAfter(end) : "Event start time should not be after end time";
-        this.start = start;
-        this.end = end;
+        this.startMinute = EpochMinutes.of(start);
+        this.endMinute = EpochMinutes.of(end);
+    }
+
+    /**
+     * Constructs a new Event task with the given description and time period in epoch minutes.
+     *
+     * @param description the description of the event
+     * @param startMinute the start of the event as minutes since the epoch
+     * @param endMinute the end of the event as minutes since the epoch
+     */
+    public Event(String description, long startMinute, long endMinute) {
+        super(description);
+        assert startMinute <= endMinute : "Event start time should not be after end time";
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    /**
+     * Gets the start of this event.
+     *
+     * @return the start date and time
+     */
+    public LocalDateTime getStart() {
+        return EpochMinutes.toLocalDateTime(startMinute);
+    }
+
+    /**
+     * Gets the end of this event.
+     *
+     * @return the end date and time
+     */
+    public LocalDateTime getEnd() {
+        return EpochMinutes.toLocalDateTime(endMinute);
+    }
+
+    /**
+     * Gets the start of this event in epoch minutes.
+     *
+     * @return the start as minutes since the epoch
+     */
+    public long getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Gets the end of this event in epoch minutes.
+     *
+     * @return the end as minutes since the epoch
+     */
+    public long getEndMinute() {
+        return endMinute;
+    }
+
+    @Override
+    public long getSortMinute() {
+        return startMinute;
+    }
+
+    @Override
+    public boolean occursBetween(long fromMinute, long toMinute) {
+        return startMinute < toMinute && endMinute >= fromMinute;
     }
 
     /**
@@ -35,7 +94,8 @@ public class Event extends Task {
     @Override
     public String toString() {
         return "[E]" + super.toString()
-                + " (from: " + format(start) + " to: " + format(end) + ")";
+                + " (from: " + EpochMinutes.format(startMinute)
+                + " to: " + EpochMinutes.format(endMinute) + ")";
     }
 
     /**
@@ -46,18 +106,6 @@ public class Event extends Task {
     @Override
     public String toFileString() {
         return "E | " + super.toFileString()
-                + " | " + start + " | " + end;
-    }
-
-    /**
-     * Formats a LocalDateTime into a user-friendly display format.
-     *
-     * @param dt the date and time to format
-     * @return a formatted date string in "MMM dd yyyy HH:mm" format
-     */
-    private String format(LocalDateTime dt)
-    {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM dd yyyy HH:mm");
-        return dt.format(formatter);
+                + " | " + EpochMinutes.toIso(startMinute) + " | " + EpochMinutes.toIso(endMinute);
     }
 }
@@ -0,0 +1,96 @@
+package rei.task;
+
+import java.util.Locale;
+
+/**
+ * Represents how important a task is relative to its due time.
+ * Each level pulls the effective due time of a task earlier or later by a fixed lead,
+ * so that urgency depends only on the task and never on the current time.
+ * Priorities are written as "!high", "!normal" or "!low" markers in task input.
+ */
+public enum Priority {
+    LOW(-24 * 60),
+    NORMAL(0),
+    HIGH(3 * 24 * 60);
+
+    /** The character that introduces a priority marker. */
+    public static final char MARKER_PREFIX = '!';
+
+    private final long leadMinutes;
+
+    Priority(long leadMinutes) {
+        this.leadMinutes = leadMinutes;
+    }
+
+    /**
+     * Gets how many minutes earlier than its due time a task of this priority is considered due.
+     *
+     * @return the lead in minutes, negative for priorities that defer a task
+     */
+    public long getLeadMinutes() {
+        return leadMinutes;
+    }
+
+    /**
+     * Gets the marker used to write this priority in task input and in the data file.
+     *
+     * @return the marker, such as "!high"
+     */
+    public String getMarker() {
+        return MARKER_PREFIX + name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parses a priority level name such as "high".
+     *
+     * @param name the level name, in any case
+     * @return the priority, or null if the name is not a priority level
+     */
+    public static Priority fromName(String name) {
+        for (Priority priority : values()) {
+            if (priority.name().equalsIgnoreCase(name.trim())) {
+                return priority;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the last priority marker in the given text.
+     *
+     * @param text the text to scan
+     * @return the priority named by the last marker, or NORMAL if there is none
+     */
+    public static Priority extract(String text) {
+        Priority found = NORMAL;
+        for (String token : text.trim().split("\\s+")) {
+            Priority priority = fromMarker(token);
+            if (priority != null) {
+                found = priority;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Removes all priority markers from the given text, leaving the rest of it as it was.
+     *
+     * @param text the text to clean
+     * @return the text without markers, or the text itself if it has none
+     */
+    public static String strip(String text) {
+        return Tags.removeTokens(text, token -> fromMarker(token) != null);
+    }
+
+    /**
+     * Parses a single marker token such as "!high".
+     *
+     * @return the priority, or null if the token is not a marker
+     */
+    private static Priority fromMarker(String token) {
+        if (token.length() < 2 || token.charAt(0) != MARKER_PREFIX) {
+            return null;
+        }
+        return fromName(token.substring(1));
+    }
+}
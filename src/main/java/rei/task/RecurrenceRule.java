@@ -0,0 +1,212 @@
+package rei.task;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Describes how a recurring task repeats, in the spirit of an iCalendar RRULE.
+ * Supports weekly and monthly frequencies with an interval and an optional end.
+ * Occurrences are addressed by ordinal (0 for the first) and computed in O(1),
+ * so no occurrence ever needs to be materialized ahead of time.
+ */
+public class RecurrenceRule {
+
+    /**
+     * The supported repetition frequencies.
+     */
+    public enum Frequency {
+        WEEKLY, MONTHLY
+    }
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final long MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    // Keys used in the textual rule form
+    private static final String FREQ_KEY = "FREQ";
+    private static final String INTERVAL_KEY = "INTERVAL";
+    private static final String UNTIL_KEY = "UNTIL";
+    private static final String PART_SEPARATOR = ";";
+    private static final String VALUE_SEPARATOR = "=";
+
+    private final Frequency frequency;
+    private final int interval;
+    private final long untilMinute;
+
+    /**
+     * Constructs a new RecurrenceRule.
+     *
+     * @param frequency how often the task repeats
+     * @param interval the number of frequency units between occurrences, at least 1
+     * @param untilMinute the last allowed occurrence start in epoch minutes,
+     *                    or {@link EpochMinutes#NONE} if the rule never ends
+     */
+    public RecurrenceRule(Frequency frequency, int interval, long untilMinute) {
+        assert frequency != null : "Frequency cannot be null";
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        this.frequency = frequency;
+        this.interval = interval;
+        this.untilMinute = untilMinute;
+    }
+
+    /**
+     * Parses a rule from its textual form, for example "FREQ=WEEKLY;INTERVAL=2".
+     *
+     * @param text the rule text
+     * @return the parsed rule
+     * @throws IllegalArgumentException if the text is not a valid rule
+     */
+    public static RecurrenceRule parse(String text) {
+        Frequency frequency = null;
+        int interval = 1;
+        long untilMinute = EpochMinutes.NONE;
+
+        for (String part : text.trim().split(PART_SEPARATOR)) {
+            String[] keyValue = part.split(VALUE_SEPARATOR, 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Malformed rule part: " + part);
+            }
+
+            String key = keyValue[0].trim();
+            String value = keyValue[1].trim();
+            if (FREQ_KEY.equals(key)) {
+                frequency = Frequency.valueOf(value);
+            } else if (INTERVAL_KEY.equals(key)) {
+                interval = Integer.parseInt(value);
+            } else if (UNTIL_KEY.equals(key)) {
+                untilMinute = EpochMinutes.parseIso(value);
+            } else {
+                throw new IllegalArgumentException("Unknown rule part: " + key);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("Rule must have a frequency");
+        }
+        return new RecurrenceRule(frequency, interval, untilMinute);
+    }
+
+    /**
+     * Gets the frequency of this rule.
+     *
+     * @return the frequency
+     */
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Gets the interval of this rule.
+     *
+     * @return the number of frequency units between occurrences
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Gets the last allowed occurrence start.
+     *
+     * @return the end of the rule in epoch minutes, or {@link EpochMinutes#NONE} if unbounded
+     */
+    public long getUntilMinute() {
+        return untilMinute;
+    }
+
+    /**
+     * Computes the start of the occurrence with the given ordinal.
+     * Monthly occurrences whose day does not exist in a month fall on the last day of that month.
+     *
+     * @param anchorMinute the start of the first occurrence in epoch minutes
+     * @param ordinal the 0-based occurrence number
+     * @return the start of that occurrence in epoch minutes
+     */
+    public long occurrenceStart(long anchorMinute, long ordinal) {
+        assert ordinal >= 0 : "Occurrence ordinal cannot be negative";
+        if (frequency == Frequency.WEEKLY) {
+            return anchorMinute + ordinal * interval * MINUTES_PER_WEEK;
+        }
+
+        long anchorDay = Math.floorDiv(anchorMinute, MINUTES_PER_DAY);
+        long minuteOfDay = Math.floorMod(anchorMinute, MINUTES_PER_DAY);
+        long day = LocalDate.ofEpochDay(anchorDay).plusMonths(ordinal * interval).toEpochDay();
+        return day * MINUTES_PER_DAY + minuteOfDay;
+    }
+
+    /**
+     * Finds the first occurrence that starts at or after the given minute.
+     * The search is O(1) apart from a constant number of correction steps.
+     *
+     * @param anchorMinute the start of the first occurrence in epoch minutes
+     * @param minute the earliest acceptable start in epoch minutes
+     * @return the ordinal of the first occurrence starting at or after minute
+     */
+    public long firstOrdinalAtOrAfter(long anchorMinute, long minute) {
+        if (minute <= anchorMinute) {
+            return 0;
+        }
+
+        if (frequency == Frequency.WEEKLY) {
+            long period = interval * MINUTES_PER_WEEK;
+            return Math.floorDiv(minute - anchorMinute + period - 1, period);
+        }
+
+        // Estimate from the calendar month difference, then correct for day clamping
+        LocalDate anchorDate = LocalDate.ofEpochDay(Math.floorDiv(anchorMinute, MINUTES_PER_DAY));
+        LocalDate targetDate = LocalDate.ofEpochDay(Math.floorDiv(minute, MINUTES_PER_DAY));
+        long guess = Math.max(0, ChronoUnit.MONTHS.between(anchorDate, targetDate) / interval);
+
+        while (occurrenceStart(anchorMinute, guess) < minute) {
+            guess++;
+        }
+        while (guess > 0 && occurrenceStart(anchorMinute, guess - 1) >= minute) {
+            guess--;
+        }
+        return guess;
+    }
+
+    /**
+     * Finds the ordinal of the last occurrence allowed by this rule.
+     *
+     * @param anchorMinute the start of the first occurrence in epoch minutes
+     * @return the last valid ordinal, or Long.MAX_VALUE if the rule never ends
+     */
+    public long lastOrdinal(long anchorMinute) {
+        if (untilMinute == EpochMinutes.NONE) {
+            return Long.MAX_VALUE;
+        }
+        return firstOrdinalAtOrAfter(anchorMinute, untilMinute + 1) - 1;
+    }
+
+    /**
+     * Returns a short human-readable description of the rule.
+     *
+     * @return a string such as "every 2 weeks" or "every month until Dec 31 2024 23:59"
+     */
+    public String describe() {
+        String unit = frequency == Frequency.WEEKLY ? "week" : "month";
+        String description = interval == 1
+                ? "every " + unit
+                : "every " + interval + " " + unit + "s";
+        if (untilMinute != EpochMinutes.NONE) {
+            description += " until " + EpochMinutes.format(untilMinute);
+        }
+        return description;
+    }
+
+    /**
+     * Returns the textual form of this rule for file storage.
+     *
+     * @return a string such as "FREQ=WEEKLY;INTERVAL=2"
+     */
+    @Override
+    public String toString() {
+        String text = FREQ_KEY + VALUE_SEPARATOR + frequency
+                + PART_SEPARATOR + INTERVAL_KEY + VALUE_SEPARATOR + interval;
+        if (untilMinute != EpochMinutes.NONE) {
+            text += PART_SEPARATOR + UNTIL_KEY + VALUE_SEPARATOR + EpochMinutes.toIso(untilMinute);
+        }
+        return text;
+    }
+}
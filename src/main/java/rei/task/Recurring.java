@@ -0,0 +1,373 @@
+package rei.task;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Represents a deadline or event that repeats according to a {@link RecurrenceRule}.
+ * The series is stored as a single task; individual occurrences are expanded lazily
+ * for the time window being looked at, and completed occurrences are tracked by
+ * ordinal in a compact exception set.
+ */
+public class Recurring extends Task {
+    private static final String NO_COMPLETED_OCCURRENCES = "-";
+    private static final String RANGE_SEPARATOR = ",";
+    private static final String RANGE_DASH = "-";
+
+    private final long anchorMinute;
+    private final long durationMinutes;
+    private final RecurrenceRule rule;
+    private final BitSet completedOccurrences;
+
+    /**
+     * Constructs a new Recurring task with no completed occurrences.
+     *
+     * @param description the description of the recurring task
+     * @param anchorMinute the start of the first occurrence in epoch minutes
+     * @param durationMinutes the length of each occurrence, or 0 for deadline-style occurrences
+     * @param rule the rule describing how the task repeats
+     */
+    public Recurring(String description, long anchorMinute, long durationMinutes, RecurrenceRule rule) {
+        this(description, anchorMinute, durationMinutes, rule, new BitSet());
+    }
+
+    /**
+     * Constructs a new Recurring task with the given completed occurrences.
+     *
+     * @param description the description of the recurring task
+     * @param anchorMinute the start of the first occurrence in epoch minutes
+     * @param durationMinutes the length of each occurrence, or 0 for deadline-style occurrences
+     * @param rule the rule describing how the task repeats
+     * @param completedOccurrences the ordinals of occurrences already completed
+     */
+    public Recurring(String description, long anchorMinute, long durationMinutes,
+            RecurrenceRule rule, BitSet completedOccurrences) {
+        super(description);
+        assert rule != null : "Recurrence rule cannot be null";
+        assert durationMinutes >= 0 : "Occurrence duration cannot be negative";
+        assert completedOccurrences != null : "Completed occurrences cannot be null";
+        this.anchorMinute = anchorMinute;
+        this.durationMinutes = durationMinutes;
+        this.rule = rule;
+        this.completedOccurrences = completedOccurrences;
+    }
+
+    /**
+     * Represents a single expanded occurrence of a recurring task.
+     */
+    public static class Occurrence {
+        private final Recurring series;
+        private final int ordinal;
+        private final long startMinute;
+
+        private Occurrence(Recurring series, int ordinal, long startMinute) {
+            this.series = series;
+            this.ordinal = ordinal;
+            this.startMinute = startMinute;
+        }
+
+        /**
+         * Gets the recurring task this occurrence belongs to.
+         *
+         * @return the recurring series
+         */
+        public Recurring getSeries() {
+            return series;
+        }
+
+        /**
+         * Gets the start of this occurrence in epoch minutes.
+         *
+         * @return the start as minutes since the epoch
+         */
+        public long getStartMinute() {
+            return startMinute;
+        }
+
+        /**
+         * Gets the end of this occurrence in epoch minutes.
+         *
+         * @return the end as minutes since the epoch
+         */
+        public long getEndMinute() {
+            return startMinute + series.durationMinutes;
+        }
+
+        /**
+         * Checks if this occurrence is completed.
+         *
+         * @return true if this occurrence or the whole series is done, false otherwise
+         */
+        public boolean isDone() {
+            return series.isDone() || series.completedOccurrences.get(ordinal);
+        }
+
+        /**
+         * Returns a string representation of this occurrence for display.
+         *
+         * @return a formatted string with [R] prefix, status, description, and time
+         */
+        @Override
+        public String toString() {
+            String status = isDone() ? "[X]" : "[ ]";
+            return "[R]" + status + " " + series.getDescription()
+                    + " (" + series.formatTime(startMinute) + ")";
+        }
+    }
+
+    /**
+     * Gets the rule describing how this task repeats.
+     *
+     * @return the recurrence rule
+     */
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Gets the start of the first occurrence in epoch minutes.
+     *
+     * @return the anchor as minutes since the epoch
+     */
+    public long getAnchorMinute() {
+        return anchorMinute;
+    }
+
+    /**
+     * Gets the length of each occurrence.
+     *
+     * @return the duration in minutes, or 0 for deadline-style occurrences
+     */
+    public long getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    /**
+     * Expands the occurrences that overlap the given half-open time range.
+     * Only occurrences inside the window are computed, so the cost is proportional
+     * to the window rather than to the total span of the series.
+     *
+     * @param fromMinute the inclusive start of the range, in epoch minutes
+     * @param toMinute the exclusive end of the range, in epoch minutes
+     * @return the occurrences overlapping the range, in chronological order
+     */
+    public List<Occurrence> getOccurrencesBetween(long fromMinute, long toMinute) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        long lastOrdinal = Math.min(rule.lastOrdinal(anchorMinute), Integer.MAX_VALUE);
+
+        for (long ordinal = firstOrdinalEndingAtOrAfter(fromMinute); ordinal <= lastOrdinal; ordinal++) {
+            long start = rule.occurrenceStart(anchorMinute, ordinal);
+            if (start >= toMinute) {
+                break;
+            }
+            occurrences.add(new Occurrence(this, (int) ordinal, start));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Marks the occurrence starting at the given minute as completed.
+     *
+     * @param occurrenceMinute the start of the occurrence in epoch minutes
+     * @return true if an occurrence starts at that minute, false otherwise
+     */
+    public boolean markOccurrenceDone(long occurrenceMinute) {
+        int ordinal = ordinalAt(occurrenceMinute);
+        if (ordinal < 0) {
+            return false;
+        }
+        completedOccurrences.set(ordinal);
+        incrementVersion();
+        return true;
+    }
+
+    /**
+     * Marks the occurrence starting at the given minute as not completed.
+     *
+     * @param occurrenceMinute the start of the occurrence in epoch minutes
+     * @return true if an occurrence starts at that minute, false otherwise
+     */
+    public boolean markOccurrenceUndone(long occurrenceMinute) {
+        int ordinal = ordinalAt(occurrenceMinute);
+        if (ordinal < 0) {
+            return false;
+        }
+        completedOccurrences.clear(ordinal);
+        incrementVersion();
+        return true;
+    }
+
+    /**
+     * Gets the occurrence starting at the given minute.
+     *
+     * @param occurrenceMinute the start of the occurrence in epoch minutes
+     * @return the occurrence, or null if no occurrence starts at that minute
+     */
+    public Occurrence getOccurrenceAt(long occurrenceMinute) {
+        int ordinal = ordinalAt(occurrenceMinute);
+        return ordinal < 0 ? null : new Occurrence(this, ordinal, occurrenceMinute);
+    }
+
+    /**
+     * Gets the start of the earliest occurrence that is not yet completed.
+     * This depends only on the exception set, not on the current time.
+     *
+     * @return the start in epoch minutes, or {@link EpochMinutes#NONE} if every occurrence is done
+     */
+    public long getNextPendingMinute() {
+        if (isDone()) {
+            return EpochMinutes.NONE;
+        }
+        int ordinal = completedOccurrences.nextClearBit(0);
+        if (ordinal > rule.lastOrdinal(anchorMinute)) {
+            return EpochMinutes.NONE;
+        }
+        return rule.occurrenceStart(anchorMinute, ordinal);
+    }
+
+    @Override
+    public long getNextDueMinute(long fromMinute) {
+        if (isDone()) {
+            return EpochMinutes.NONE;
+        }
+        long lastOrdinal = Math.min(rule.lastOrdinal(anchorMinute), Integer.MAX_VALUE);
+        long first = rule.firstOrdinalAtOrAfter(anchorMinute, fromMinute);
+        if (first > lastOrdinal) {
+            return EpochMinutes.NONE;
+        }
+        int ordinal = completedOccurrences.nextClearBit((int) first);
+        if (ordinal > lastOrdinal) {
+            return EpochMinutes.NONE;
+        }
+        return rule.occurrenceStart(anchorMinute, ordinal);
+    }
+
+    @Override
+    public long getSortMinute() {
+        return getNextPendingMinute();
+    }
+
+    @Override
+    public boolean isActionable() {
+        return getNextPendingMinute() != EpochMinutes.NONE;
+    }
+
+    @Override
+    public boolean occursBetween(long fromMinute, long toMinute) {
+        long ordinal = firstOrdinalEndingAtOrAfter(fromMinute);
+        return ordinal <= rule.lastOrdinal(anchorMinute)
+                && rule.occurrenceStart(anchorMinute, ordinal) < toMinute;
+    }
+
+    /**
+     * Returns a string representation of this recurring task for display.
+     *
+     * @return a formatted string with [R] prefix, status, description, rule, and next pending occurrence
+     */
+    @Override
+    public String toString() {
+        String text = "[R]" + super.toString()
+                + " (" + formatTime(anchorMinute) + ", " + rule.describe();
+        long next = getNextPendingMinute();
+        if (next != EpochMinutes.NONE && next != anchorMinute) {
+            text += ", next: " + EpochMinutes.format(next);
+        }
+        return text + ")";
+    }
+
+    /**
+     * Returns a string representation of this recurring task for file storage.
+     * The whole series, including its completed occurrences, is stored as one row.
+     *
+     * @return a formatted string with R prefix, anchor, duration, rule, and completed ordinals
+     */
+    @Override
+    public String toFileString() {
+        return "R | " + super.toFileString()
+                + " | " + EpochMinutes.toIso(anchorMinute)
+                + " | " + durationMinutes
+                + " | " + rule
+                + " | " + formatOrdinals(completedOccurrences);
+    }
+
+    /**
+     * Parses a set of completed ordinals written by {@link #toFileString()}, such as "0-3,7".
+     *
+     * @param text the encoded ordinals
+     * @return the decoded set of ordinals
+     * @throws IllegalArgumentException if the text is malformed
+     */
+    public static BitSet parseOrdinals(String text) {
+        BitSet ordinals = new BitSet();
+        String trimmed = text.trim();
+        if (trimmed.equals(NO_COMPLETED_OCCURRENCES)) {
+            return ordinals;
+        }
+
+        for (String range : trimmed.split(RANGE_SEPARATOR)) {
+            String[] bounds = range.split(RANGE_DASH, 2);
+            int from = Integer.parseInt(bounds[0].trim());
+            int to = bounds.length == 2 ? Integer.parseInt(bounds[1].trim()) : from;
+            if (from < 0 || to < from) {
+                throw new IllegalArgumentException("Invalid occurrence range: " + range);
+            }
+            ordinals.set(from, to + 1);
+        }
+        return ordinals;
+    }
+
+    /**
+     * Encodes a set of ordinals as comma-separated runs, such as "0-3,7".
+     */
+    private static String formatOrdinals(BitSet ordinals) {
+        if (ordinals.isEmpty()) {
+            return NO_COMPLETED_OCCURRENCES;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        int from = ordinals.nextSetBit(0);
+        while (from >= 0) {
+            int to = ordinals.nextClearBit(from) - 1;
+            if (builder.length() > 0) {
+                builder.append(RANGE_SEPARATOR);
+            }
+            builder.append(from);
+            if (to > from) {
+                builder.append(RANGE_DASH).append(to);
+            }
+            from = ordinals.nextSetBit(to + 1);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Finds the first occurrence that has not ended before the given minute.
+     */
+    private long firstOrdinalEndingAtOrAfter(long minute) {
+        return rule.firstOrdinalAtOrAfter(anchorMinute, minute - durationMinutes);
+    }
+
+    /**
+     * Finds the ordinal of the occurrence starting exactly at the given minute.
+     *
+     * @return the ordinal, or -1 if no occurrence starts at that minute
+     */
+    private int ordinalAt(long occurrenceMinute) {
+        long ordinal = rule.firstOrdinalAtOrAfter(anchorMinute, occurrenceMinute);
+        boolean isOccurrence = ordinal <= Math.min(rule.lastOrdinal(anchorMinute), Integer.MAX_VALUE)
+                && rule.occurrenceStart(anchorMinute, ordinal) == occurrenceMinute;
+        return isOccurrence ? (int) ordinal : -1;
+    }
+
+    /**
+     * Formats the time of an occurrence starting at the given minute.
+     */
+    private String formatTime(long startMinute) {
+        if (durationMinutes == 0) {
+            return "by: " + EpochMinutes.format(startMinute);
+        }
+        return "from: " + EpochMinutes.format(startMinute)
+                + " to: " + EpochMinutes.format(startMinute + durationMinutes);
+    }
+}
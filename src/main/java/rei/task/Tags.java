@@ -0,0 +1,122 @@
+package rei.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility methods for extracting "#tag" tokens from free text.
+ * A tag is a whitespace-separated token made of '#' followed by letters, digits, '_' or '-'.
+ * Tag names are case-insensitive and are normalized to lower case without the '#'.
+ */
+public final class Tags {
+
+    /** The character that introduces a tag. */
+    public static final char TAG_PREFIX = '#';
+
+    // A run of non-whitespace characters, the unit that markers are made of
+    private static final Pattern TOKEN = Pattern.compile("\\S+");
+
+    private Tags() {
+    }
+
+    /**
+     * Extracts the distinct tag names from the given text, in order of first appearance.
+     *
+     * @param text the text to scan
+     * @return the normalized tag names, without the leading '#'
+     */
+    public static List<String> extract(String text) {
+        List<String> tags = new ArrayList<>();
+        for (String token : text.trim().split("\\s+")) {
+            if (isTag(token)) {
+                String name = normalize(token.substring(1));
+                if (!tags.contains(name)) {
+                    tags.add(name);
+                }
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Removes all tag tokens from the given text, leaving the rest of it as it was.
+     *
+     * @param text the text to clean
+     * @return the text without tags, or the text itself if it has none
+     */
+    public static String strip(String text) {
+        return removeTokens(text, Tags::isTag);
+    }
+
+    /**
+     * Removes the matching tokens from the given text, each together with the whitespace after it.
+     * The spacing between the remaining words is kept, so text without such tokens comes back unchanged.
+     *
+     * @param text the text to clean
+     * @param isRemoved selects the whitespace-free tokens to remove
+     * @return the text without the selected tokens
+     */
+    static String removeTokens(String text, Predicate<String> isRemoved) {
+        StringBuilder builder = null;
+        int copiedUpTo = 0;
+        Matcher token = TOKEN.matcher(text);
+        while (token.find()) {
+            if (!isRemoved.test(token.group())) {
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(text.length());
+            }
+            builder.append(text, copiedUpTo, token.start());
+            copiedUpTo = token.end();
+            while (copiedUpTo < text.length() && Character.isWhitespace(text.charAt(copiedUpTo))) {
+                copiedUpTo++;
+            }
+        }
+        if (builder == null) {
+            return text;
+        }
+
+        builder.append(text, copiedUpTo, text.length());
+        // A token removed from the end leaves the whitespace that separated it behind
+        int end = builder.length();
+        while (end > 0 && Character.isWhitespace(builder.charAt(end - 1))) {
+            end--;
+        }
+        builder.setLength(end);
+        return builder.toString();
+    }
+
+    /**
+     * Normalizes a tag name for storage and lookup.
+     *
+     * @param name the tag name, without the leading '#'
+     * @return the lower-case tag name
+     */
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Checks if a token is a well-formed tag.
+     *
+     * @param token the whitespace-free token to check
+     * @return true if the token is a tag, false otherwise
+     */
+    public static boolean isTag(String token) {
+        if (token.length() < 2 || token.charAt(0) != TAG_PREFIX) {
+            return false;
+        }
+        for (int i = 1; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,12 +1,30 @@
 package rei.task;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Abstract base class representing a task in the Rei application.
  * All specific task types (Todo, Deadline, Event) extend this class.
  */
 public abstract class Task {
+    /** The version a task has when it is first added to a list or read from an old file. */
+    public static final long FIRST_VERSION = 1;
+
+    // Due time assumed for tasks without one, far enough out to rank after every timed task
+    private static final long UNTIMED_DUE_MINUTE = Long.MAX_VALUE / 2;
+
     private String description;
+    // Lower-case copy of the description, kept so keyword searches do not re-case every task
+    private final String searchableDescription;
     private boolean isDone;
+    private final ArrayList<String> tags = new ArrayList<>();
+    private Priority priority = Priority.NORMAL;
+    // Identity within its task file, 0 until the task is added to a list, and a count of its changes
+    private long id;
+    private long version;
 
     /**
      * Constructs a new task with the given description.
@@ -18,6 +36,7 @@ public abstract class Task {
         assert description != null : "Task description cannot be null";
         assert !description.trim().isEmpty() : "Task description cannot be empty";
         this.description = description;
+        this.searchableDescription = description.toLowerCase(Locale.ROOT);
         this.isDone = false;
     }
 
@@ -26,6 +45,7 @@ public abstract class Task {
      */
     public void markDone() {
         isDone = true;
+        incrementVersion();
     }
 
     /**
@@ -33,6 +53,7 @@ public abstract class Task {
      */
     public void markUndone() {
         isDone = false;
+        incrementVersion();
     }
 
     /**
@@ -72,6 +93,158 @@ public abstract class Task {
         return description;
     }
 
+    /**
+     * Checks if the description of this task contains a keyword, ignoring case.
+     *
+     * @param lowerCaseKeyword the keyword, already in lower case
+     * @return true if the description contains the keyword, false otherwise
+     */
+    public boolean descriptionContains(String lowerCaseKeyword) {
+        return searchableDescription.contains(lowerCaseKeyword);
+    }
+
+    /**
+     * Adds tags to this task, ignoring any it already has.
+     *
+     * @param tagNames the normalized tag names to add, without the leading '#'
+     */
+    public void addTags(List<String> tagNames) {
+        assert tagNames != null : "Tag names cannot be null";
+        for (String tagName : tagNames) {
+            if (!tags.contains(tagName)) {
+                tags.add(tagName);
+            }
+        }
+        incrementVersion();
+    }
+
+    /**
+     * Gets the tags of this task.
+     *
+     * @return an unmodifiable list of normalized tag names, without the leading '#'
+     */
+    public List<String> getTags() {
+        return Collections.unmodifiableList(tags);
+    }
+
+    /**
+     * Gets the priority of this task.
+     *
+     * @return the priority
+     */
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority of this task.
+     * Callers holding the task in a TaskList should go through the list so its urgency order stays valid.
+     *
+     * @param priority the new priority
+     */
+    public void setPriority(Priority priority) {
+        assert priority != null : "Priority cannot be null";
+        this.priority = priority;
+        incrementVersion();
+    }
+
+    /**
+     * Gets the id of this task, which stays the same while its position in the list changes.
+     *
+     * @return the id, unique within the task file, or 0 if the task was never added to a list
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the version of this task, which grows every time the task changes.
+     * Storage compares versions to tell which side of a concurrent edit changed the task.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the id and version of this task, as read from the task file or given by a task list.
+     *
+     * @param id the id, which must be positive
+     * @param version the version
+     */
+    public void assignIdentity(long id, long version) {
+        assert id > 0 : "Task ids must be positive";
+        this.id = id;
+        this.version = version;
+    }
+
+    /**
+     * Records that this task changed. Every method that changes the task calls this.
+     */
+    protected void incrementVersion() {
+        version++;
+    }
+
+    /**
+     * Checks if this task still needs doing.
+     *
+     * @return true if the task is not done, false otherwise
+     */
+    public boolean isActionable() {
+        return !isDone;
+    }
+
+    /**
+     * Computes the urgency key of this task; a smaller key means more urgent.
+     * The key is the effective due time, the task's due time pulled earlier by its priority lead,
+     * so it does not drift as time passes and only changes when the task itself changes.
+     *
+     * @return the effective due time in epoch minutes
+     */
+    public long getUrgencyKey() {
+        long dueMinute = getSortMinute();
+        if (dueMinute == EpochMinutes.NONE) {
+            dueMinute = UNTIMED_DUE_MINUTE;
+        }
+        return dueMinute - priority.getLeadMinutes();
+    }
+
+    /**
+     * Gets the instant used to order this task chronologically.
+     * Tasks without a time sort after all timed tasks.
+     *
+     * @return the epoch minute of this task, or {@link EpochMinutes#NONE} if it has no time
+     */
+    public long getSortMinute() {
+        return EpochMinutes.NONE;
+    }
+
+    /**
+     * Gets the earliest pending time at or after the given minute at which this task is due,
+     * used to schedule reminders. Events are due when they start.
+     *
+     * @param fromMinute the earliest minute to consider, in epoch minutes
+     * @return the due minute, or {@link EpochMinutes#NONE} if nothing is due from then on
+     */
+    public long getNextDueMinute(long fromMinute) {
+        long dueMinute = getSortMinute();
+        return !isDone && dueMinute != EpochMinutes.NONE && dueMinute >= fromMinute
+                ? dueMinute
+                : EpochMinutes.NONE;
+    }
+
+    /**
+     * Checks if this task falls within the given half-open time range.
+     *
+     * @param fromMinute the inclusive start of the range, in epoch minutes
+     * @param toMinute the exclusive end of the range, in epoch minutes
+     * @return true if the task occurs within the range, false otherwise
+     */
+    public boolean occursBetween(long fromMinute, long toMinute) {
+        return false;
+    }
+
     /**
      * Returns a string representation of this task for display purposes.
      *
@@ -79,7 +252,7 @@ public abstract class Task {
      */
     @Override
     public String toString() {
-        return getStatusIcon() + " " + description;
+        return getStatusIcon() + " " + description + formatMarkers();
     }
 
     /**
@@ -88,6 +261,25 @@ public abstract class Task {
      * @return a formatted string suitable for saving to file
      */
     public String toFileString() {
-        return getDoneFlag() + " | " + description;
+        return getDoneFlag() + " | " + description + formatMarkers();
+    }
+
+    /**
+     * Formats the tags and any non-default priority of this task as a suffix to its description.
+     *
+     * @return the markers as " #a #b !high", or an empty string if there are none
+     */
+    private String formatMarkers() {
+        if (tags.isEmpty() && priority == Priority.NORMAL) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (String tag : tags) {
+            builder.append(' ').append(Tags.TAG_PREFIX).append(tag);
+        }
+        if (priority != Priority.NORMAL) {
+            builder.append(' ').append(priority.getMarker());
+        }
+        return builder.toString();
     }
 }
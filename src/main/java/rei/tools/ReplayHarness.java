@@ -0,0 +1,302 @@
+package rei.tools;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import rei.Rei;
+import rei.exceptions.ReiExceptions;
+import rei.metrics.LatencyHistogram;
+import rei.ui.ScriptedUi;
+
+/**
+ * Replays a command script against Rei in-process and reports how fast it ran.
+ * Commands are fed through a {@link ScriptedUi}, so the whole application runs exactly as
+ * on the console, minus terminal I/O. The report covers throughput, latency percentiles and
+ * the bytes written by storage, and the output can be checked against a golden file.
+ *
+ * <p>Usage: {@code ReplayHarness [--data FILE] [--script FILE] [--golden FILE] [--update-golden]
+ * [--output FILE] [--work FILE] [WorkloadGenerator options]}. Without {@code --data} the
+ * starting task file is generated, and without {@code --script} so is the script, using the
+ * {@link WorkloadGenerator} options such as {@code --tasks}, {@code --commands} and {@code --reads}.
+ * For example, {@code --tasks 0 --script text-ui-test/input.txt --golden text-ui-test/EXPECTED.TXT}
+ * replays the text UI test.
+ */
+public class ReplayHarness {
+    // Defaults
+    private static final String DEFAULT_WORK_PATH = "build/replay/Rei.txt";
+    private static final String DEFAULT_OUTPUT_PATH = "build/replay/ACTUAL.TXT";
+    private static final String DEFAULT_SCRIPT_PATH = "build/replay/commands.txt";
+    private static final long DEFAULT_COMMAND_COUNT = 1_000;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * The measurements of one replay.
+     */
+    public static class Report {
+        private final long loadNanos;
+        private final long commandCount;
+        private final long elapsedNanos;
+        private final LatencyHistogram latency;
+        private final long bytesWritten;
+        private final long reminderCount;
+
+        private Report(long loadNanos, long commandCount, long elapsedNanos, LatencyHistogram latency,
+                long bytesWritten, long reminderCount) {
+            this.loadNanos = loadNanos;
+            this.commandCount = commandCount;
+            this.elapsedNanos = elapsedNanos;
+            this.latency = latency;
+            this.bytesWritten = bytesWritten;
+            this.reminderCount = reminderCount;
+        }
+
+        /**
+         * Gets the number of commands replayed, including the final exit.
+         *
+         * @return the command count
+         */
+        public long getCommandCount() {
+            return commandCount;
+        }
+
+        /**
+         * Gets the number of commands replayed per second, not counting the initial load.
+         *
+         * @return the throughput
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : commandCount * NANOS_PER_SECOND / elapsedNanos;
+        }
+
+        /**
+         * Gets the latency of each command.
+         *
+         * @return the latency histogram
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * Gets the number of bytes storage wrote during the replay.
+         *
+         * @return the bytes written
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        /**
+         * Formats the report for display.
+         *
+         * @return one line per measurement
+         */
+        public List<String> format() {
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format("Loaded tasks in %.1f ms", loadNanos / NANOS_PER_MILLI));
+            lines.add(String.format("Replayed %d commands in %.3f s (%.0f commands/sec)",
+                    commandCount, elapsedNanos / NANOS_PER_SECOND, getThroughput()));
+            lines.add(String.format("Latency p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+                    latency.getPercentileNanos(0.5) / NANOS_PER_MILLI,
+                    latency.getPercentileNanos(0.99) / NANOS_PER_MILLI,
+                    latency.getMaxNanos() / NANOS_PER_MILLI));
+            lines.add("Storage wrote " + bytesWritten + " bytes");
+            if (reminderCount > 0) {
+                lines.add("Left " + reminderCount + " reminders out of the output");
+            }
+            return lines;
+        }
+    }
+
+    private ReplayHarness() {
+    }
+
+    /**
+     * Runs Rei on a task file, feeding it the given commands.
+     *
+     * @param dataPath the task file, which the replay modifies
+     * @param script the commands to replay; the session ends at "bye" or when they run out
+     * @param output receives everything Rei displays
+     * @return the measurements of the replay
+     * @throws ReiExceptions if Rei cannot start
+     */
+    public static Report replay(String dataPath, Iterator<String> script, Writer output) throws ReiExceptions {
+        LatencyHistogram latency = new LatencyHistogram("replay");
+        ScriptedUi ui = new ScriptedUi(script, output, latency);
+
+        long loadStart = System.nanoTime();
+        Rei rei = new Rei(dataPath, ui);
+        long runStart = System.nanoTime();
+        rei.run();
+        long runEnd = System.nanoTime();
+        ui.flush();
+
+        return new Report(runStart - loadStart, ui.getCommandCount(), runEnd - runStart, latency,
+                rei.getStorage().getBytesWritten(), ui.getReminderCount());
+    }
+
+    /**
+     * Compares an output file with a golden file line by line, ignoring line separator differences.
+     *
+     * @param actual the output of a replay
+     * @param golden the expected output
+     * @return the number of the first differing line, or 0 if the files match
+     * @throws IOException if either file cannot be read
+     */
+    public static long findFirstDifference(Path actual, Path golden) throws IOException {
+        try (BufferedReader actualReader = Files.newBufferedReader(actual, StandardCharsets.UTF_8);
+                BufferedReader goldenReader = Files.newBufferedReader(golden, StandardCharsets.UTF_8)) {
+            long lineNumber = 1;
+            while (true) {
+                String actualLine = actualReader.readLine();
+                String goldenLine = goldenReader.readLine();
+                if (actualLine == null && goldenLine == null) {
+                    return 0;
+                }
+                if (!Objects.equals(actualLine, goldenLine)) {
+                    return lineNumber;
+                }
+                lineNumber++;
+            }
+        }
+    }
+
+    /**
+     * Prepares the task file and script, replays the script and prints the report.
+     * Exits with status 1 if the output does not match the golden file.
+     *
+     * @param args the options, see the class description
+     */
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args) ? 0 : 1);
+        } catch (IllegalArgumentException | IOException | ReiExceptions e) {
+            System.err.println("Replay failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the harness.
+     *
+     * @return true if the output matched the golden file or there was none to check
+     */
+    private static boolean run(String[] args) throws IOException, ReiExceptions {
+        String dataPath = null;
+        String scriptPath = null;
+        String goldenPath = null;
+        boolean isGoldenUpdate = false;
+        String outputPath = DEFAULT_OUTPUT_PATH;
+        String workPath = DEFAULT_WORK_PATH;
+        List<String> generatorArgs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case "--update-golden":
+                isGoldenUpdate = true;
+                break;
+            case "--data":
+                dataPath = valueAfter(args, i++);
+                break;
+            case "--script":
+                scriptPath = valueAfter(args, i++);
+                break;
+            case "--golden":
+                goldenPath = valueAfter(args, i++);
+                break;
+            case "--output":
+                outputPath = valueAfter(args, i++);
+                break;
+            case "--work":
+                workPath = valueAfter(args, i++);
+                break;
+            default:
+                generatorArgs.add(args[i]);
+                break;
+            }
+        }
+
+        WorkloadGenerator.Options options = new WorkloadGenerator.Options()
+                .setCommandCount(DEFAULT_COMMAND_COUNT)
+                .setOutputPath(workPath)
+                .setScriptPath(DEFAULT_SCRIPT_PATH)
+                .applyArguments(generatorArgs.toArray(new String[0]));
+        WorkloadGenerator generator = new WorkloadGenerator(options);
+
+        Path work = Paths.get(workPath);
+        createParentDirectories(work);
+        if (dataPath != null) {
+            Files.copy(Paths.get(dataPath), work, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            try (Writer out = Files.newBufferedWriter(work, StandardCharsets.UTF_8)) {
+                generator.writeTasks(out);
+            }
+        }
+        if (scriptPath == null) {
+            scriptPath = options.getScriptPath();
+            createParentDirectories(Paths.get(scriptPath));
+            try (Writer out = Files.newBufferedWriter(Paths.get(scriptPath), StandardCharsets.UTF_8)) {
+                generator.writeScript(out);
+            }
+        }
+
+        Path output = Paths.get(outputPath);
+        createParentDirectories(output);
+        Report report;
+        try (Stream<String> script = Files.lines(Paths.get(scriptPath), StandardCharsets.UTF_8);
+                Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            report = replay(workPath, script.iterator(), out);
+        }
+        report.format().forEach(System.out::println);
+
+        return checkGolden(output, goldenPath, isGoldenUpdate);
+    }
+
+    /**
+     * Compares the output with the golden file, or replaces the golden file when updating.
+     */
+    private static boolean checkGolden(Path output, String goldenPath, boolean isGoldenUpdate) throws IOException {
+        if (goldenPath == null) {
+            return true;
+        }
+        Path golden = Paths.get(goldenPath);
+        if (isGoldenUpdate) {
+            Files.copy(output, golden, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Updated golden file " + golden);
+            return true;
+        }
+
+        long difference = findFirstDifference(output, golden);
+        if (difference == 0) {
+            System.out.println("Output matches " + golden);
+            return true;
+        }
+        System.out.println("Output differs from " + golden + " at line " + difference);
+        return false;
+    }
+
+    private static String valueAfter(String[] args, int index) {
+        if (index + 1 >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index]);
+        }
+        return args[index + 1];
+    }
+
+    private static void createParentDirectories(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+    }
+}
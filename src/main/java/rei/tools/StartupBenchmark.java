@@ -0,0 +1,233 @@
+package rei.tools;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import rei.metrics.StartupTimer;
+
+/**
+ * Measures Rei's time to first prompt in fresh JVMs, with and without an AppCDS archive.
+ * Each run launches {@code java -Drei.startup.report -Drei.startup.exit=true} on the jar and
+ * reads the time printed by {@link StartupTimer}; the report gives the median, minimum and
+ * maximum over all runs, so the effect of the archive can be read off directly.
+ *
+ * <p>Usage: {@code StartupBenchmark [--jar FILE] [--gui] [--archive FILE] [--runs N] [--work DIR]}.
+ * {@code --gui} measures the JavaFX window instead of the console, and {@code --archive} adds a
+ * second series of runs that use the given archive, such as one built by {@code ./gradlew cdsArchive}.
+ */
+public class StartupBenchmark {
+    // Defaults
+    private static final String DEFAULT_JAR_PATH = "build/libs/Rei.jar";
+    private static final String DEFAULT_WORK_PATH = "build/startup";
+    private static final int DEFAULT_RUN_COUNT = 10;
+
+    // Launch configuration
+    private static final String CLI_MAIN_CLASS = "rei.Rei";
+    private static final String GUI_MAIN_CLASS = "rei.Launcher";
+    private static final String CLI_MODE = "cli";
+    private static final String GUI_MODE = "gui";
+
+    private final String jarPath;
+    private final boolean isGui;
+    private final int runCount;
+    private final File workDirectory;
+
+    /**
+     * Constructs a StartupBenchmark.
+     *
+     * @param jarPath the jar containing Rei and its dependencies
+     * @param isGui true to measure the JavaFX window, false to measure the console
+     * @param runCount the number of JVMs to launch per series
+     * @param workDirectory the working directory of the launched JVMs, holding their data file
+     */
+    public StartupBenchmark(String jarPath, boolean isGui, int runCount, File workDirectory) {
+        assert runCount > 0 : "Run count must be positive";
+        this.jarPath = jarPath;
+        this.isGui = isGui;
+        this.runCount = runCount;
+        this.workDirectory = workDirectory;
+    }
+
+    /**
+     * Launches the configured number of JVMs and collects their startup times.
+     *
+     * @param archivePath the AppCDS archive to use, or null to run without one
+     * @return the time to first prompt of each run in milliseconds, sorted ascending
+     * @throws IOException if a JVM cannot be launched or does not report its startup time
+     */
+    public long[] measure(String archivePath) throws IOException {
+        long[] millis = new long[runCount];
+        for (int i = 0; i < runCount; i++) {
+            millis[i] = launchOnce(archivePath);
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    /**
+     * Formats one series of runs as a report line.
+     *
+     * @param label the name of the series
+     * @param sortedMillis the startup times of the series, sorted ascending
+     * @return a line with the median, minimum and maximum
+     */
+    public static String formatSeries(String label, long[] sortedMillis) {
+        return String.format("%-16s median %4d ms   min %4d ms   max %4d ms", label,
+                sortedMillis[sortedMillis.length / 2], sortedMillis[0], sortedMillis[sortedMillis.length - 1]);
+    }
+
+    /**
+     * Parses the time from a line printed by {@link StartupTimer}.
+     *
+     * @param line a line of standard error from a launched JVM
+     * @return the startup time in milliseconds, or -1 if the line is not a startup report
+     */
+    public static long parseReport(String line) {
+        if (!line.startsWith(StartupTimer.REPORT_PREFIX) || !line.endsWith(StartupTimer.REPORT_SUFFIX)) {
+            return -1;
+        }
+        String body = line.substring(0, line.length() - StartupTimer.REPORT_SUFFIX.length());
+        try {
+            return Long.parseLong(body.substring(body.lastIndexOf(' ') + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Launches one JVM and waits for its startup report.
+     */
+    private long launchOnce(String archivePath) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-D" + StartupTimer.REPORT_PROPERTY);
+        command.add("-D" + StartupTimer.EXIT_PROPERTY + "=true");
+        if (archivePath != null) {
+            command.add("-XX:SharedArchiveFile=" + archivePath);
+            command.add("-Xshare:auto");
+        }
+        command.add("-cp");
+        command.add(new File(jarPath).getAbsolutePath());
+        command.add(isGui ? GUI_MAIN_CLASS : CLI_MAIN_CLASS);
+
+        Process process = new ProcessBuilder(command)
+                .directory(workDirectory)
+                .redirectInput(ProcessBuilder.Redirect.PIPE)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        process.getOutputStream().close();
+
+        long millis = -1;
+        try (BufferedReader errors = new BufferedReader(
+                new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = errors.readLine()) != null) {
+                long parsed = parseReport(line);
+                if (parsed >= 0) {
+                    millis = parsed;
+                }
+            }
+        }
+        waitFor(process);
+        if (millis < 0) {
+            throw new IOException("No startup time reported by " + String.join(" ", command));
+        }
+        return millis;
+    }
+
+    private static void waitFor(Process process) throws IOException {
+        try {
+            process.waitFor();
+        } catch (InterruptedException e) {
+            process.destroy();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for Rei to exit");
+        }
+    }
+
+    /**
+     * Measures startup without and, if an archive is given, with the archive, and prints both series.
+     *
+     * @param args the command line options described in the class documentation
+     */
+    public static void main(String[] args) {
+        try {
+            run(args);
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Startup benchmark failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    private static void run(String[] args) throws IOException {
+        String jarPath = DEFAULT_JAR_PATH;
+        String archivePath = null;
+        String workPath = DEFAULT_WORK_PATH;
+        boolean isGui = false;
+        int runCount = DEFAULT_RUN_COUNT;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case "--gui":
+                isGui = true;
+                break;
+            case "--jar":
+                jarPath = valueAfter(args, i++);
+                break;
+            case "--archive":
+                archivePath = valueAfter(args, i++);
+                break;
+            case "--runs":
+                runCount = Integer.parseInt(valueAfter(args, i++));
+                break;
+            case "--work":
+                workPath = valueAfter(args, i++);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (runCount <= 0) {
+            throw new IllegalArgumentException("--runs must be positive");
+        }
+        if (!Files.isRegularFile(Paths.get(jarPath))) {
+            throw new IllegalArgumentException("No jar at " + jarPath + ", run ./gradlew jar first");
+        }
+
+        Path work = Paths.get(workPath);
+        Files.createDirectories(work);
+        StartupBenchmark benchmark = new StartupBenchmark(jarPath, isGui, runCount, work.toFile());
+        System.out.println("Time to first prompt (" + (isGui ? GUI_MODE : CLI_MODE) + ", "
+                + runCount + " runs each)");
+        long[] without = benchmark.measure(null);
+        System.out.println(formatSeries("without archive", without));
+
+        if (archivePath == null) {
+            return;
+        }
+        if (!Files.isRegularFile(Paths.get(archivePath))) {
+            throw new IllegalArgumentException("No archive at " + archivePath + ", run ./gradlew cdsArchive first");
+        }
+        long[] with = benchmark.measure(archivePath);
+        System.out.println(formatSeries("with archive", with));
+    }
+
+    private static String valueAfter(String[] args, int index) {
+        if (index + 1 >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index]);
+        }
+        return args[index + 1];
+    }
+}
@@ -0,0 +1,607 @@
+package rei.tools;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import rei.task.Deadline;
+import rei.task.EpochMinutes;
+import rei.task.Event;
+import rei.task.Priority;
+import rei.task.RecurrenceRule;
+import rei.task.Recurring;
+import rei.task.Task;
+import rei.task.Todo;
+
+/**
+ * Generates large, realistic task files and matching command scripts for performance testing.
+ * Output is fully determined by the options, including the seed, so a fixture can be
+ * regenerated instead of checked in. Tasks are written one line at a time through
+ * {@link Task#toFileString()}, so files of any size are produced in constant memory and
+ * always match the current data file format.
+ *
+ * <p>Usage: {@code WorkloadGenerator [--tasks N] [--seed N] [--mix TODO:DEADLINE:EVENT:RECURRING]
+ * [--done RATIO] [--words MIN-MAX] [--vocabulary N] [--tags RATIO] [--start yyyy-MM-dd]
+ * [--spread-days N] [--out FILE] [--commands N] [--reads RATIO] [--script FILE]}
+ */
+public class WorkloadGenerator {
+    // Defaults
+    private static final String DEFAULT_OUTPUT_PATH = "build/workload/Rei.txt";
+    private static final String DEFAULT_SCRIPT_PATH = "build/workload/commands.txt";
+    private static final String[] TAG_NAMES = {"home", "work", "school", "errand", "health", "family"};
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ren", "su", "ta", "vo", "zen",
+        "ba", "de", "fi", "gu", "ho", "ji", "ku", "ly", "mo", "na", "pe", "ri"};
+
+    // Command script
+    private static final DateTimeFormatter INPUT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final String EXIT_COMMAND = "bye";
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MAX_EVENT_MINUTES = 4 * 60;
+
+    private final Options options;
+    private final Random random;
+    private final String[] vocabulary;
+    // Cumulative Zipf weights, so common words appear far more often than rare ones
+    private final double[] wordWeights;
+    private final long startMinute;
+
+    /**
+     * The settings that shape a generated workload.
+     */
+    public static class Options {
+        private long taskCount = 10_000;
+        private long seed = 42;
+        private int[] typeWeights = {50, 25, 20, 5};
+        private double doneRatio = 0.3;
+        private int minWords = 2;
+        private int maxWords = 8;
+        private int vocabularySize = 2_000;
+        private double tagRatio = 0.2;
+        private LocalDate startDate = LocalDate.of(2024, 1, 1);
+        private int spreadDays = 365;
+        private String outputPath = DEFAULT_OUTPUT_PATH;
+        private long commandCount = 0;
+        private double readRatio = 0.3;
+        private String scriptPath = DEFAULT_SCRIPT_PATH;
+
+        /**
+         * Sets the number of tasks to generate.
+         *
+         * @param taskCount the number of tasks
+         * @return these options
+         */
+        public Options setTaskCount(long taskCount) {
+            require(taskCount >= 0, "Task count cannot be negative");
+            this.taskCount = taskCount;
+            return this;
+        }
+
+        /**
+         * Sets the random seed.
+         *
+         * @param seed the seed
+         * @return these options
+         */
+        public Options setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the relative weights of todos, deadlines, events and recurring tasks.
+         *
+         * @param typeWeights four non-negative weights with a positive sum
+         * @return these options
+         */
+        public Options setTypeWeights(int... typeWeights) {
+            require(typeWeights.length == 4, "The mix needs four weights");
+            int total = 0;
+            for (int weight : typeWeights) {
+                require(weight >= 0, "Weights cannot be negative");
+                total += weight;
+            }
+            require(total > 0, "At least one weight must be positive");
+            this.typeWeights = typeWeights.clone();
+            return this;
+        }
+
+        /**
+         * Sets the fraction of tasks that are already done.
+         *
+         * @param doneRatio a fraction between 0 and 1
+         * @return these options
+         */
+        public Options setDoneRatio(double doneRatio) {
+            require(doneRatio >= 0 && doneRatio <= 1, "The done ratio must be between 0 and 1");
+            this.doneRatio = doneRatio;
+            return this;
+        }
+
+        /**
+         * Sets the range of description lengths, in words, drawn uniformly.
+         *
+         * @param minWords the fewest words in a description
+         * @param maxWords the most words in a description
+         * @return these options
+         */
+        public Options setWordRange(int minWords, int maxWords) {
+            require(minWords >= 1 && maxWords >= minWords, "The word range must be positive and ordered");
+            this.minWords = minWords;
+            this.maxWords = maxWords;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct words descriptions are drawn from.
+         *
+         * @param vocabularySize the number of words
+         * @return these options
+         */
+        public Options setVocabularySize(int vocabularySize) {
+            require(vocabularySize >= 1, "The vocabulary cannot be empty");
+            this.vocabularySize = vocabularySize;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of tasks that carry a tag.
+         *
+         * @param tagRatio a fraction between 0 and 1
+         * @return these options
+         */
+        public Options setTagRatio(double tagRatio) {
+            require(tagRatio >= 0 && tagRatio <= 1, "The tag ratio must be between 0 and 1");
+            this.tagRatio = tagRatio;
+            return this;
+        }
+
+        /**
+         * Sets the window that due dates and event times fall into.
+         *
+         * @param startDate the first day of the window
+         * @param spreadDays the length of the window in days
+         * @return these options
+         */
+        public Options setDateSpread(LocalDate startDate, int spreadDays) {
+            require(spreadDays >= 1, "The date spread must be at least one day");
+            this.startDate = startDate;
+            this.spreadDays = spreadDays;
+            return this;
+        }
+
+        /**
+         * Sets where the task file is written.
+         *
+         * @param outputPath the path of the task file
+         * @return these options
+         */
+        public Options setOutputPath(String outputPath) {
+            this.outputPath = outputPath;
+            return this;
+        }
+
+        /**
+         * Sets how many commands the script contains, not counting the final exit.
+         *
+         * @param commandCount the number of commands, or 0 to write no script
+         * @return these options
+         */
+        public Options setCommandCount(long commandCount) {
+            require(commandCount >= 0, "Command count cannot be negative");
+            this.commandCount = commandCount;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of script commands that only read tasks, such as find and list.
+         * The rest add, mark, unmark, re-prioritize or delete tasks.
+         *
+         * @param readRatio a fraction between 0 and 1
+         * @return these options
+         */
+        public Options setReadRatio(double readRatio) {
+            require(readRatio >= 0 && readRatio <= 1, "The read ratio must be between 0 and 1");
+            this.readRatio = readRatio;
+            return this;
+        }
+
+        /**
+         * Gets where the task file is written.
+         *
+         * @return the path of the task file
+         */
+        public String getOutputPath() {
+            return outputPath;
+        }
+
+        /**
+         * Gets where the command script is written.
+         *
+         * @return the path of the script
+         */
+        public String getScriptPath() {
+            return scriptPath;
+        }
+
+        /**
+         * Sets where the command script is written.
+         *
+         * @param scriptPath the path of the script
+         * @return these options
+         */
+        public Options setScriptPath(String scriptPath) {
+            this.scriptPath = scriptPath;
+            return this;
+        }
+
+        /**
+         * Parses options from command-line arguments.
+         *
+         * @param args pairs of flags and values
+         * @return the parsed options
+         * @throws IllegalArgumentException if a flag is unknown or a value is invalid
+         */
+        public static Options parse(String[] args) {
+            return new Options().applyArguments(args);
+        }
+
+        /**
+         * Overrides these options with command-line arguments.
+         *
+         * @param args pairs of flags and values
+         * @return these options
+         * @throws IllegalArgumentException if a flag is unknown or a value is invalid
+         */
+        public Options applyArguments(String[] args) {
+            for (int i = 0; i < args.length; i += 2) {
+                require(i + 1 < args.length, "Missing value for " + args[i]);
+                apply(args[i], args[i + 1]);
+            }
+            return this;
+        }
+
+        /**
+         * Applies one flag and its value.
+         */
+        private void apply(String flag, String value) {
+            try {
+                switch (flag) {
+                case "--tasks":
+                    setTaskCount(Long.parseLong(value));
+                    break;
+                case "--seed":
+                    setSeed(Long.parseLong(value));
+                    break;
+                case "--mix":
+                    String[] weights = value.split(":");
+                    int[] parsed = new int[weights.length];
+                    for (int i = 0; i < weights.length; i++) {
+                        parsed[i] = Integer.parseInt(weights[i]);
+                    }
+                    setTypeWeights(parsed);
+                    break;
+                case "--done":
+                    setDoneRatio(Double.parseDouble(value));
+                    break;
+                case "--words":
+                    String[] range = value.split("-", 2);
+                    int min = Integer.parseInt(range[0]);
+                    setWordRange(min, range.length == 2 ? Integer.parseInt(range[1]) : min);
+                    break;
+                case "--vocabulary":
+                    setVocabularySize(Integer.parseInt(value));
+                    break;
+                case "--tags":
+                    setTagRatio(Double.parseDouble(value));
+                    break;
+                case "--start":
+                    setDateSpread(LocalDate.parse(value), spreadDays);
+                    break;
+                case "--spread-days":
+                    setDateSpread(startDate, Integer.parseInt(value));
+                    break;
+                case "--out":
+                    setOutputPath(value);
+                    break;
+                case "--commands":
+                    setCommandCount(Long.parseLong(value));
+                    break;
+                case "--reads":
+                    setReadRatio(Double.parseDouble(value));
+                    break;
+                case "--script":
+                    setScriptPath(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + flag);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value for " + flag + ": " + value);
+            }
+        }
+
+        private static void require(boolean condition, String message) {
+            if (!condition) {
+                throw new IllegalArgumentException(message);
+            }
+        }
+    }
+
+    /**
+     * Constructs a new WorkloadGenerator.
+     *
+     * @param options the settings of the workload
+     */
+    public WorkloadGenerator(Options options) {
+        this.options = options;
+        this.random = new Random(options.seed);
+        this.vocabulary = createVocabulary(options.vocabularySize);
+        this.wordWeights = createZipfWeights(options.vocabularySize);
+        this.startMinute = EpochMinutes.of(options.startDate.atStartOfDay());
+    }
+
+    /**
+     * Generates the next task.
+     *
+     * @return a new task drawn according to the options
+     */
+    public Task nextTask() {
+        String description = nextDescription();
+        long minute = nextMinute();
+        Task task;
+        switch (pickType()) {
+        case 0:
+            task = new Todo(description);
+            break;
+        case 1:
+            task = new Deadline(description, minute);
+            break;
+        case 2:
+            task = new Event(description, minute, minute + 30 + random.nextInt(MAX_EVENT_MINUTES));
+            break;
+        default:
+            RecurrenceRule rule = RecurrenceRule.parse(random.nextBoolean()
+                    ? "FREQ=WEEKLY;INTERVAL=" + (1 + random.nextInt(2))
+                    : "FREQ=MONTHLY;INTERVAL=1");
+            task = new Recurring(description, minute, random.nextBoolean() ? 0 : 60, rule);
+            break;
+        }
+
+        if (random.nextDouble() < options.tagRatio) {
+            task.addTags(List.of(TAG_NAMES[random.nextInt(TAG_NAMES.length)]));
+        }
+        if (random.nextInt(10) == 0) {
+            task.setPriority(random.nextBoolean() ? Priority.HIGH : Priority.LOW);
+        }
+        if (random.nextDouble() < options.doneRatio) {
+            task.markDone();
+        }
+        return task;
+    }
+
+    /**
+     * Writes the configured number of tasks in data file format.
+     *
+     * @param out the destination, written one line at a time
+     * @throws IOException if writing fails
+     */
+    public void writeTasks(Writer out) throws IOException {
+        for (long i = 0; i < options.taskCount; i++) {
+            out.write(nextTask().toFileString());
+            out.write(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Writes a command script meant to run against the generated task file.
+     * Task numbers in the script always refer to tasks that exist at that point,
+     * and the script ends with the exit command.
+     *
+     * @param out the destination, written one line at a time
+     * @throws IOException if writing fails
+     */
+    public void writeScript(Writer out) throws IOException {
+        long taskCount = options.taskCount;
+        for (long i = 0; i < options.commandCount; i++) {
+            String command = nextCommand(taskCount);
+            if (command.startsWith("delete ")) {
+                taskCount--;
+            } else if (isAddCommand(command)) {
+                taskCount++;
+            }
+            out.write(command);
+            out.write(System.lineSeparator());
+        }
+        out.write(EXIT_COMMAND);
+        out.write(System.lineSeparator());
+    }
+
+    /**
+     * Generates the task file and, if commands were requested, the command script.
+     *
+     * @param args the options, see the class description
+     */
+    public static void main(String[] args) {
+        try {
+            Options options = Options.parse(args);
+            WorkloadGenerator generator = new WorkloadGenerator(options);
+            try (Writer out = open(options.outputPath)) {
+                generator.writeTasks(out);
+            }
+            System.out.println("Wrote " + options.taskCount + " tasks to " + options.outputPath);
+
+            if (options.commandCount > 0) {
+                try (Writer out = open(options.scriptPath)) {
+                    generator.writeScript(out);
+                }
+                System.out.println("Wrote " + options.commandCount + " commands to " + options.scriptPath);
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Unable to generate the workload: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Draws a read or write command according to the read ratio.
+     * Writes to an empty list are always additions.
+     */
+    private String nextCommand(long taskCount) {
+        if (random.nextDouble() < options.readRatio) {
+            return nextReadCommand();
+        }
+        int roll = random.nextInt(100);
+        if (taskCount == 0 || roll < 40) {
+            return nextAddCommand();
+        }
+        String taskNumber = Long.toString(1 + (long) (random.nextDouble() * taskCount));
+        if (roll < 65) {
+            return "mark " + taskNumber;
+        }
+        if (roll < 80) {
+            return "unmark " + taskNumber;
+        }
+        if (roll < 88) {
+            return "priority " + taskNumber + " " + (random.nextBoolean() ? "high" : "normal");
+        }
+        return "delete " + taskNumber;
+    }
+
+    /**
+     * Draws a command that only reads tasks, mostly searches.
+     */
+    private String nextReadCommand() {
+        int roll = random.nextInt(100);
+        if (roll < 50) {
+            return "find " + nextWord();
+        }
+        if (roll < 70) {
+            return "next 5";
+        }
+        if (roll < 85) {
+            return "filter #" + TAG_NAMES[random.nextInt(TAG_NAMES.length)];
+        }
+        return "list";
+    }
+
+    /**
+     * Draws a command that adds a task of a type picked by the configured mix.
+     */
+    private String nextAddCommand() {
+        String description = nextDescription();
+        LocalDateTime time = EpochMinutes.toLocalDateTime(nextMinute());
+        switch (pickType()) {
+        case 0:
+            return "todo " + description;
+        case 1:
+            return "deadline " + description + " /by " + INPUT_FORMAT.format(time);
+        case 2:
+            return "event " + description + " /from " + INPUT_FORMAT.format(time)
+                    + " /to " + INPUT_FORMAT.format(time.plusHours(1));
+        default:
+            return "recur " + description + " /by " + INPUT_FORMAT.format(time) + " /every week";
+        }
+    }
+
+    private static boolean isAddCommand(String command) {
+        return command.startsWith("todo ") || command.startsWith("deadline ")
+                || command.startsWith("event ") || command.startsWith("recur ");
+    }
+
+    /**
+     * Picks a task type index according to the configured weights.
+     */
+    private int pickType() {
+        int total = 0;
+        for (int weight : options.typeWeights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int type = 0; type < options.typeWeights.length; type++) {
+            roll -= options.typeWeights[type];
+            if (roll < 0) {
+                return type;
+            }
+        }
+        throw new AssertionError("Weights must cover the roll");
+    }
+
+    /**
+     * Draws a description with a uniformly chosen number of Zipf-distributed words.
+     */
+    private String nextDescription() {
+        int wordCount = options.minWords + random.nextInt(options.maxWords - options.minWords + 1);
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+            description.append(nextWord());
+        }
+        return description.toString();
+    }
+
+    /**
+     * Draws one word, with the k-th most common word about k times rarer than the first.
+     */
+    private String nextWord() {
+        double roll = random.nextDouble() * wordWeights[wordWeights.length - 1];
+        int slot = Arrays.binarySearch(wordWeights, roll);
+        return vocabulary[slot >= 0 ? slot : -(slot + 1)];
+    }
+
+    /**
+     * Draws a minute inside the configured date window.
+     */
+    private long nextMinute() {
+        return startMinute + (long) (random.nextDouble() * options.spreadDays * MINUTES_PER_DAY);
+    }
+
+    /**
+     * Builds distinct pronounceable words from syllables, in a fixed order.
+     */
+    private static String[] createVocabulary(int size) {
+        String[] words = new String[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder word = new StringBuilder();
+            int value = i;
+            do {
+                word.append(SYLLABLES[value % SYLLABLES.length]);
+                value /= SYLLABLES.length;
+            } while (value > 0);
+            words[i] = word.toString();
+        }
+        return words;
+    }
+
+    private static double[] createZipfWeights(int size) {
+        double[] weights = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1.0 / rank;
+            weights[rank - 1] = total;
+        }
+        return weights;
+    }
+
+    /**
+     * Opens a buffered UTF-8 writer, creating parent directories as needed.
+     */
+    private static Writer open(String path) throws IOException {
+        Path file = Paths.get(path);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+}
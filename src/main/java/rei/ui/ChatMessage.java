@@ -0,0 +1,40 @@
+package rei.ui;
+
+/**
+ * Represents one message in the chat transcript.
+ * Messages are plain data; the GUI renders only the visible ones, reusing a few cells.
+ */
+public class ChatMessage {
+    private final String text;
+    private final boolean isFromUser;
+
+    /**
+     * Constructs a new ChatMessage.
+     *
+     * @param text the message content
+     * @param isFromUser true if the message is from the user, false if from the bot
+     */
+    public ChatMessage(String text, boolean isFromUser) {
+        assert text != null : "Message text cannot be null";
+        this.text = text;
+        this.isFromUser = isFromUser;
+    }
+
+    /**
+     * Gets the message content.
+     *
+     * @return the message text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Checks if this message was sent by the user.
+     *
+     * @return true if from the user, false if from the bot
+     */
+    public boolean isFromUser() {
+        return isFromUser;
+    }
+}
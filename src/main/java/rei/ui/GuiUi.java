@@ -1,14 +1,31 @@
 package rei.ui;
 
+import java.util.function.Consumer;
+
 /**
  * A GUI-compatible UI class that collects output instead of printing to console.
  * Used by the JavaFX GUI to capture command responses.
  */
 public class GuiUi implements UiInterface {
     private final StringBuilder responseBuilder;
+    private final Consumer<String> reminderHandler;
 
+    /**
+     * Constructs a GuiUi that collects reminders into the response buffer like any other message.
+     */
     public GuiUi() {
+        this(null);
+    }
+
+    /**
+     * Constructs a GuiUi that hands reminders to the given handler, which is responsible
+     * for moving them onto the JavaFX application thread.
+     *
+     * @param reminderHandler the handler receiving reminder messages, or null to buffer them
+     */
+    public GuiUi(Consumer<String> reminderHandler) {
         this.responseBuilder = new StringBuilder();
+        this.reminderHandler = reminderHandler;
     }
 
     /**
@@ -43,6 +60,20 @@ public class GuiUi implements UiInterface {
         show("Error: " + message);
     }
 
+    /**
+     * Passes a reminder to the reminder handler, or buffers it if there is none.
+     *
+     * @param message the reminder to display
+     */
+    @Override
+    public void showReminder(String message) {
+        if (reminderHandler == null) {
+            show(message);
+            return;
+        }
+        reminderHandler.accept(message);
+    }
+
     /**
      * Gets the collected response and clears the buffer.
      *
@@ -0,0 +1,119 @@
+package rei.ui;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import rei.metrics.LatencyHistogram;
+
+/**
+ * A user interface that reads commands from a script and writes output in the same format as {@link Ui}.
+ * Used to replay recorded sessions in-process. The time from handing out one command to
+ * being asked for the next is recorded as that command's latency.
+ * Reminders depend on the wall clock, so they are counted but kept out of the output,
+ * which keeps replays comparable with golden files.
+ */
+public class ScriptedUi implements UiInterface {
+    private static final String EXIT_COMMAND = "bye";
+
+    private final Iterator<String> commands;
+    private final PrintWriter out;
+    private final LatencyHistogram latency;
+    private long commandStartNanos;
+    private long commandCount;
+    // Reminders arrive on the scheduler thread
+    private final AtomicLong reminderCount = new AtomicLong();
+
+    /**
+     * Constructs a new ScriptedUi.
+     *
+     * @param commands the commands to replay, in order
+     * @param out the destination of all output
+     * @param latency receives the latency of each command
+     */
+    public ScriptedUi(Iterator<String> commands, Writer out, LatencyHistogram latency) {
+        assert commands != null && out != null && latency != null : "Script, output and latency are required";
+        this.commands = commands;
+        this.out = new PrintWriter(out);
+        this.latency = latency;
+    }
+
+    @Override
+    public void showWelcome() {
+        showLine();
+        show("Hello! I'm Rei.");
+        show("What can I do for you?");
+        showLine();
+    }
+
+    /**
+     * Hands out the next command of the script, finishing the timing of the previous one.
+     * Once the script runs out, the exit command is returned so that the session ends.
+     *
+     * @return the next command
+     */
+    @Override
+    public String readCommand() {
+        long now = System.nanoTime();
+        if (commandCount > 0) {
+            latency.record(now - commandStartNanos);
+        }
+        commandCount++;
+        commandStartNanos = now;
+        return commands.hasNext() ? commands.next() : EXIT_COMMAND;
+    }
+
+    @Override
+    public void show(String message) {
+        assert message != null : "Message to display cannot be null";
+        out.println(message);
+    }
+
+    @Override
+    public void showLine() {
+        out.println(Ui.LINE);
+    }
+
+    @Override
+    public void showError(String message) {
+        showLine();
+        show(message);
+        showLine();
+    }
+
+    /**
+     * Counts a reminder without showing it.
+     *
+     * @param message the reminder text
+     */
+    @Override
+    public void showReminder(String message) {
+        reminderCount.incrementAndGet();
+    }
+
+    /**
+     * Flushes buffered output to the underlying writer.
+     */
+    public void flush() {
+        out.flush();
+    }
+
+    /**
+     * Gets the number of commands handed out so far.
+     *
+     * @return the command count
+     */
+    public long getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Gets the number of reminders raised during the replay.
+     *
+     * @return the reminder count
+     */
+    public long getReminderCount() {
+        return reminderCount.get();
+    }
+}
@@ -0,0 +1,127 @@
+package rei.ui;
+
+import java.util.List;
+import java.util.Locale;
+
+import rei.task.EpochMinutes;
+import rei.task.Priority;
+import rei.task.Tags;
+import rei.task.Task;
+
+/**
+ * An immutable snapshot of a task, shown as one row of the GUI task panel.
+ * Snapshots are taken on the thread that changed the task and handed to the GUI thread,
+ * so the panel never reads a task while a command is modifying it.
+ */
+public class TaskRow {
+    private final String type;
+    private final boolean isDone;
+    private final String description;
+    private final Priority priority;
+    private final List<String> tags;
+    private final long dueMinute;
+
+    private TaskRow(String type, boolean isDone, String description, Priority priority,
+            List<String> tags, long dueMinute) {
+        this.type = type;
+        this.isDone = isDone;
+        this.description = description;
+        this.priority = priority;
+        this.tags = tags;
+        this.dueMinute = dueMinute;
+    }
+
+    /**
+     * Takes a snapshot of the current state of a task.
+     *
+     * @param task the task to capture
+     * @return the snapshot
+     */
+    public static TaskRow of(Task task) {
+        assert task != null : "Task cannot be null";
+        return new TaskRow(task.getClass().getSimpleName(), task.isDone(), task.getDescription(),
+                task.getPriority(), List.copyOf(task.getTags()), task.getSortMinute());
+    }
+
+    /**
+     * Gets the kind of task, such as "Deadline".
+     *
+     * @return the task type name
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Checks if the task was done when the snapshot was taken.
+     *
+     * @return true if the task is done, false otherwise
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * Gets the description of the task.
+     *
+     * @return the task description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the priority of the task.
+     *
+     * @return the task priority
+     */
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Gets the tags of the task.
+     *
+     * @return an unmodifiable list of tag names
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Gets the time the task is due, starts, or next occurs.
+     *
+     * @return the due time in epoch minutes, or {@link EpochMinutes#NONE} for untimed tasks
+     */
+    public long getDueMinute() {
+        return dueMinute;
+    }
+
+    /**
+     * Formats the due time for display.
+     *
+     * @return the formatted time, or an empty string for untimed tasks
+     */
+    public String formatDue() {
+        return dueMinute == EpochMinutes.NONE ? "" : EpochMinutes.format(dueMinute);
+    }
+
+    /**
+     * Checks if the task matches a panel search query.
+     * A query such as "#work" matches a tag exactly; any other query matches
+     * the description case-insensitively.
+     *
+     * @param query the search text, possibly blank
+     * @return true if the query is blank or matches the task, false otherwise
+     */
+    public boolean matches(String query) {
+        String trimmed = query.trim();
+        if (trimmed.isEmpty()) {
+            return true;
+        }
+        if (Tags.isTag(trimmed)) {
+            return tags.contains(Tags.normalize(trimmed.substring(1)));
+        }
+        return description.toLowerCase(Locale.ROOT).contains(trimmed.toLowerCase(Locale.ROOT));
+    }
+}
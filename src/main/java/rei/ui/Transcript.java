@@ -0,0 +1,170 @@
+package rei.ui;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import rei.exceptions.ReiExceptions;
+import rei.storage.TranscriptArchive;
+
+/**
+ * Keeps the most recent chat messages in memory and the rest in a {@link TranscriptArchive}.
+ * The in-memory window is a ring buffer over a contiguous run of the conversation.
+ * New messages are archived in blocks as they arrive, so older ones can be dropped
+ * from the window without losing them. Scrolling back pages them in from the archive.
+ * This class is not thread-safe; the GUI uses it only on the JavaFX application thread.
+ */
+public class Transcript {
+    // Transcript sizing
+    public static final int DEFAULT_CAPACITY = 500;
+    public static final int BLOCK_SIZE = 100;
+
+    private final int capacity;
+    private final ArrayDeque<ChatMessage> window;
+    private final List<ChatMessage> unarchived = new ArrayList<>(BLOCK_SIZE);
+    private TranscriptArchive archive;
+    // Position of the oldest message in the window, counted from the first archived message
+    private long windowStart;
+
+    /**
+     * Constructs a new Transcript that continues the history in the given archive.
+     * The window starts empty; earlier sessions are paged in by {@link #loadOlder()}.
+     *
+     * @param archive the archive holding older messages, or null to keep no history
+     * @param capacity the number of messages to keep in memory
+     */
+    public Transcript(TranscriptArchive archive, int capacity) {
+        assert capacity >= BLOCK_SIZE : "Capacity must hold at least one unarchived block";
+        this.archive = archive;
+        this.capacity = capacity;
+        this.window = new ArrayDeque<>(capacity);
+        this.windowStart = archive == null ? 0 : archive.getMessageCount();
+    }
+
+    /**
+     * Appends a message and drops the oldest archived messages beyond the capacity.
+     * If the archive fails, the transcript keeps working without it.
+     *
+     * @param message the message to append
+     * @return how many messages were dropped from the start of the window
+     * @throws ReiExceptions if the message block could not be archived
+     */
+    public int append(ChatMessage message) throws ReiExceptions {
+        window.addLast(message);
+        if (archive == null) {
+            return dropOldest(window.size() - capacity);
+        }
+
+        unarchived.add(message);
+        if (unarchived.size() == BLOCK_SIZE) {
+            archiveUnarchived();
+        }
+        // Only messages already in the archive may leave memory
+        return dropOldest(Math.min(window.size() - capacity, window.size() - unarchived.size()));
+    }
+
+    /**
+     * Pages in the archived messages just before the window.
+     * The window may grow past its capacity while scrolled back; the next append trims it.
+     *
+     * @return the loaded messages, oldest first, or an empty list if there is no older history
+     * @throws ReiExceptions if the archive cannot be read
+     */
+    public List<ChatMessage> loadOlder() throws ReiExceptions {
+        if (!hasOlder()) {
+            return List.of();
+        }
+
+        List<ChatMessage> page = archive.readPageBefore(windowStart);
+        for (int i = page.size() - 1; i >= 0; i--) {
+            window.addFirst(page.get(i));
+        }
+        windowStart -= page.size();
+        return page;
+    }
+
+    /**
+     * Checks if there are archived messages before the window.
+     *
+     * @return true if {@link #loadOlder()} would return messages
+     */
+    public boolean hasOlder() {
+        return archive != null && windowStart > 0;
+    }
+
+    /**
+     * Gets the messages in the window.
+     *
+     * @return a copy of the window, oldest first
+     */
+    public List<ChatMessage> getMessages() {
+        return new ArrayList<>(window);
+    }
+
+    /**
+     * Gets the number of messages in the window.
+     *
+     * @return the window size
+     */
+    public int size() {
+        return window.size();
+    }
+
+    /**
+     * Archives the messages not yet archived and closes the archive.
+     *
+     * @throws ReiExceptions if the archive cannot be written or closed
+     */
+    public void close() throws ReiExceptions {
+        if (archive == null) {
+            return;
+        }
+        try {
+            archive.append(unarchived);
+            unarchived.clear();
+        } finally {
+            archive.close();
+            archive = null;
+        }
+    }
+
+    /**
+     * Writes the pending block, falling back to an in-memory transcript if the archive fails.
+     */
+    private void archiveUnarchived() throws ReiExceptions {
+        try {
+            archive.append(unarchived);
+            unarchived.clear();
+        } catch (ReiExceptions e) {
+            detachArchive();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops using the archive after a failure, forgetting history that was never loaded.
+     */
+    private void detachArchive() {
+        try {
+            archive.close();
+        } catch (ReiExceptions e) {
+            // The archive is already unusable; nothing more to report
+        }
+        archive = null;
+        unarchived.clear();
+        windowStart = 0;
+    }
+
+    /**
+     * Removes up to count messages from the start of the window.
+     */
+    private int dropOldest(int count) {
+        int dropped = 0;
+        while (dropped < count) {
+            window.removeFirst();
+            windowStart++;
+            dropped++;
+        }
+        return dropped;
+    }
+}
@@ -7,7 +7,7 @@ import java.util.Scanner;
  * Manages input reading and output display to the console.
  */
 public class Ui implements UiInterface {
-    private static final String LINE = "____________________________________________________________";
+    static final String LINE = "____________________________________________________________";
     private final Scanner scanner = new Scanner(System.in);
 
     /**
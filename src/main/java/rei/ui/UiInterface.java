@@ -36,4 +36,16 @@ public interface UiInterface {
      * @param message the error message to display
      */
     void showError(String message);
-}
\ No newline at end of file
+
+    /**
+     * Displays a reminder raised outside of any command, such as an approaching deadline.
+     * May be called from a background thread.
+     *
+     * @param message the reminder to display
+     */
+    default void showReminder(String message) {
+        showLine();
+        show(message);
+        showLine();
+    }
+}
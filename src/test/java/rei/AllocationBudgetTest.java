@@ -0,0 +1,159 @@
+package rei;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Properties;
+
+import rei.command.FindCommand;
+import rei.list.TaskList;
+import rei.parser.Parser;
+import rei.storage.Storage;
+import rei.task.Task;
+import rei.tools.WorkloadGenerator;
+import rei.ui.UiInterface;
+
+/**
+ * Fails when a hot path allocates more bytes per operation than its budget.
+ * Budgets live in allocation-budgets.properties; when an operation legitimately needs more,
+ * raise its budget to the measured value shown in the failure, plus some headroom.
+ */
+public class AllocationBudgetTest {
+    private static final String BUDGETS_RESOURCE = "/allocation-budgets.properties";
+    // Enough warm-up for the JIT to compile and apply escape analysis before measuring
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+    private static final int FIND_TASK_COUNT = 1_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private Properties budgets;
+
+    /**
+     * An operation whose allocations are measured.
+     */
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    /**
+     * A user interface that drops all output.
+     */
+    private static class DiscardingUi implements UiInterface {
+        @Override
+        public void showWelcome() {
+        }
+
+        @Override
+        public String readCommand() {
+            return "bye";
+        }
+
+        @Override
+        public void show(String message) {
+        }
+
+        @Override
+        public void showLine() {
+        }
+
+        @Override
+        public void showError(String message) {
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation measurement unsupported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream(BUDGETS_RESOURCE)) {
+            assertNotNull(in, "Missing " + BUDGETS_RESOURCE);
+            budgets.load(in);
+        }
+    }
+
+    @Test
+    public void parse_commandShapes_withinBudget() throws Exception {
+        assertWithinBudget("parser.todo", () -> Parser.parse("todo read book #home !high"));
+        assertWithinBudget("parser.deadline", () -> Parser.parse("deadline return book /by 2024-06-01 18:00"));
+        assertWithinBudget("parser.mark", () -> Parser.parse("mark 3"));
+        assertWithinBudget("parser.find", () -> Parser.parse("find book"));
+    }
+
+    @Test
+    public void taskList_getAndMark_withinBudget() throws Exception {
+        TaskList tasks = new TaskList(createTasks(100));
+        assertWithinBudget("taskList.get", () -> tasks.get(42));
+        assertWithinBudget("taskList.markDoneAndUndone", () -> {
+            tasks.markDone(42);
+            tasks.markUndone(42);
+        });
+    }
+
+    @Test
+    public void findCommand_execute_withinBudget() throws Exception {
+        TaskList tasks = new TaskList(createTasks(FIND_TASK_COUNT));
+        FindCommand command = new FindCommand("zen");
+        UiInterface ui = new DiscardingUi();
+        assertWithinBudget("findCommand.execute1000", () -> command.execute(tasks, ui, null));
+    }
+
+    @Test
+    public void storage_decodeLine_withinBudget() throws Exception {
+        Storage storage = new Storage("unused.txt");
+        assertWithinBudget("storage.decodeTodo", () -> storage.parseTaskFromLine("T | 1 | read book #home !high"));
+        assertWithinBudget("storage.decodeDeadline",
+                () -> storage.parseTaskFromLine("D | 0 | return book | 2024-06-01T18:00"));
+        assertWithinBudget("storage.decodeEvent",
+                () -> storage.parseTaskFromLine("E | 0 | project meeting | 2024-06-01T14:00 | 2024-06-01T16:00"));
+    }
+
+    /**
+     * Measures an operation and compares its allocation with the named budget.
+     */
+    private void assertWithinBudget(String name, Operation operation) throws Exception {
+        String budget = budgets.getProperty(name);
+        assertNotNull(budget, "No allocation budget for " + name);
+        long measured = measureBytesPerOperation(operation);
+        assertTrue(measured <= Long.parseLong(budget.trim()),
+                name + " allocates " + measured + " bytes per operation, over its budget of " + budget);
+    }
+
+    /**
+     * Runs the operation until it is compiled, then measures the average bytes it allocates,
+     * net of the cost of the measurement loop itself.
+     */
+    private long measureBytesPerOperation(Operation operation) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long baseline = measureTotalBytes(() -> { });
+        long total = measureTotalBytes(operation);
+        return Math.max(0, total - baseline) / MEASURED_ITERATIONS;
+    }
+
+    private long measureTotalBytes(Operation operation) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static ArrayList<Task> createTasks(int count) {
+        WorkloadGenerator generator = new WorkloadGenerator(new WorkloadGenerator.Options().setSeed(1));
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(generator.nextTask());
+        }
+        return tasks;
+    }
+}
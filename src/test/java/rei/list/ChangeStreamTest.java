@@ -0,0 +1,188 @@
+package rei.list;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import rei.command.Command;
+import rei.exceptions.ReiExceptions;
+import rei.storage.Storage;
+import rei.task.Priority;
+import rei.task.Todo;
+import rei.ui.UiInterface;
+
+public class ChangeStreamTest {
+
+    /**
+     * Collects every batch it receives.
+     */
+    private static class CollectingSubscriber implements Flow.Subscriber<List<TaskChange>> {
+        private final BlockingQueue<List<TaskChange>> batches = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<TaskChange> batch) {
+            batches.add(batch);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        private String nextBatch() throws InterruptedException {
+            List<TaskChange> batch = batches.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch, "No batch was delivered");
+            return batch.stream()
+                    .map(change -> change.getKind() + " " + change.getIndex())
+                    .collect(Collectors.joining(", "));
+        }
+    }
+
+    private static TaskList subscribedList(CollectingSubscriber subscriber) {
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.getChanges().subscribe(subscriber);
+        return tasks;
+    }
+
+    @Test
+    public void changesOutsideABatch_arePublishedOneByOne() throws Exception {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        TaskList tasks = subscribedList(subscriber);
+
+        tasks.add(new Todo("read book"));
+        tasks.markDone(0);
+
+        assertEquals("ADDED 0", subscriber.nextBatch());
+        assertEquals("MARKED 0", subscriber.nextBatch());
+    }
+
+    @Test
+    public void changesInNestedBatches_arePublishedTogetherWhenTheOuterOneEnds() throws Exception {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        TaskList tasks = subscribedList(subscriber);
+
+        tasks.beginBatch();
+        tasks.add(new Todo("read book"));
+        tasks.beginBatch();
+        tasks.addAll(List.of(new Todo("write essay"), new Todo("sleep")));
+        tasks.markDone(1);
+        tasks.endBatch();
+        tasks.markUndone(1);
+        tasks.setPriority(2, Priority.HIGH);
+        tasks.remove(0);
+        assertTrue(subscriber.batches.isEmpty());
+        tasks.endBatch();
+
+        assertEquals("ADDED 0, ADDED 1, ADDED 2, MARKED 1, UNMARKED 1, UPDATED 2, REMOVED 0",
+                subscriber.nextBatch());
+    }
+
+    @Test
+    public void commandRun_publishesItsChangesAsOneBatch() throws Exception {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        TaskList tasks = subscribedList(subscriber);
+        Command addTwo = new Command() {
+            @Override
+            public void execute(TaskList tasks, UiInterface ui, Storage storage) {
+                tasks.add(new Todo("read book"));
+                tasks.add(new Todo("write essay"));
+            }
+        };
+
+        addTwo.run(tasks, null, null);
+
+        assertEquals("ADDED 0, ADDED 1", subscriber.nextBatch());
+    }
+
+    @Test
+    public void commandRun_failingCommand_stillEndsItsBatch() throws Exception {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        TaskList tasks = subscribedList(subscriber);
+        Command failing = new Command() {
+            @Override
+            public void execute(TaskList tasks, UiInterface ui, Storage storage) throws ReiExceptions {
+                tasks.add(new Todo("read book"));
+                throw new ReiExceptions("OOPS!!! failed");
+            }
+        };
+
+        assertThrows(ReiExceptions.class, () -> failing.run(tasks, null, null));
+        tasks.add(new Todo("write essay"));
+
+        assertEquals("ADDED 0", subscriber.nextBatch());
+        assertEquals("ADDED 1", subscriber.nextBatch());
+    }
+
+    @Test
+    public void closeChanges_publishesPendingChangesAndCompletes() throws Exception {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        TaskList tasks = subscribedList(subscriber);
+
+        tasks.beginBatch();
+        tasks.add(new Todo("read book"));
+        tasks.closeChanges();
+
+        assertEquals("ADDED 0", subscriber.nextBatch());
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void slowSubscriber_receivesEveryBatchInOrder() throws Exception {
+        CountDownLatch received = new CountDownLatch(ChangeStream.BUFFER_CAPACITY * 3);
+        List<Integer> indices = new ArrayList<>();
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.getChanges().subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(List<TaskChange> batch) {
+                indices.add(batch.get(0).getIndex());
+                received.countDown();
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        // More batches than the buffer holds, so adding waits for the subscriber
+        for (int i = 0; i < ChangeStream.BUFFER_CAPACITY * 3; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < indices.size(); i++) {
+            assertEquals(i, (int) indices.get(i));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package rei.list;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+
+import rei.task.Task;
+import rei.task.Todo;
+
+public class LiveSearchTest {
+
+    private static TaskList listOf(String... descriptions) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (String description : descriptions) {
+            tasks.add(new Todo(description));
+        }
+        return new TaskList(tasks);
+    }
+
+    @Test
+    public void search_extendedKeyword_refinesPreviousMatches() {
+        TaskList tasks = listOf("Read Book", "return books", "buy bread", "Rent");
+        LiveSearch search = new LiveSearch(tasks);
+
+        assertArrayEquals(new int[] {0, 1, 2, 3}, search.search("r"));
+        assertArrayEquals(new int[] {0, 1, 2, 3}, search.search("re"));
+        assertArrayEquals(new int[] {0, 2}, search.search("rea"));
+        assertArrayEquals(new int[] {1}, search.search("ret"));
+    }
+
+    @Test
+    public void search_afterListChanges_rescansList() throws Exception {
+        TaskList tasks = listOf("read book", "write essay");
+        LiveSearch search = new LiveSearch(tasks);
+        assertArrayEquals(new int[] {0}, search.search("book"));
+
+        tasks.remove(0);
+        tasks.add(new Todo("book flights"));
+
+        assertArrayEquals(new int[] {1}, search.search("book"));
+        assertArrayEquals(new int[] {1}, search.search("book f"));
+    }
+
+    @Test
+    public void search_interrupted_throwsAndKeepsPreviousResult() {
+        TaskList tasks = listOf("alpha", "alps", "beta");
+        LiveSearch search = new LiveSearch(tasks);
+        search.search("al");
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> search.search("alp"));
+        } finally {
+            Thread.interrupted();
+        }
+        assertArrayEquals(new int[] {0, 1}, search.search("alp"));
+    }
+}
@@ -0,0 +1,71 @@
+package rei.list;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import rei.task.Task;
+import rei.task.Todo;
+
+public class PrefixIndexTest {
+
+    @Test
+    public void complete_afterAddAndRemove_returnsSortedRun() {
+        PrefixIndex index = new PrefixIndex(List.of("report", "read", "report", "zebra"));
+        index.add("repair");
+        index.remove("report");
+
+        assertEquals(List.of("repair", "report"), index.complete("rep", 10));
+        assertEquals(List.of("read"), index.complete("rea", 10));
+        assertEquals(List.of("read"), index.complete("r", 1));
+        assertEquals(List.of(), index.complete("x", 10));
+
+        index.remove("report");
+        index.remove("missing");
+        assertEquals(List.of("repair"), index.complete("rep", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void commonPrefix_moreMatchesThanSuggestions_coversEveryMatch() {
+        List<String> words = new ArrayList<>();
+        for (char last = 'a'; last <= 'j'; last++) {
+            words.add("read" + last);
+        }
+        words.add("report");
+        PrefixIndex index = new PrefixIndex(words);
+
+        assertEquals("re", index.commonPrefix("re"));
+        assertEquals("read", index.commonPrefix("rea"));
+        assertEquals("report", index.commonPrefix("rep"));
+        assertEquals("", index.commonPrefix("x"));
+
+        ArrayList<Task> loaded = new ArrayList<>();
+        loaded.add(new Todo(String.join(" ", words)));
+        Autocomplete autocomplete = new Autocomplete(new TaskList(loaded), List.of("find"));
+        Autocomplete.Completion completion = autocomplete.complete("find re");
+        assertEquals(Autocomplete.MAX_SUGGESTIONS, completion.getCandidates().size());
+        assertEquals("re", completion.getCommonPrefix());
+    }
+
+    @Test
+    public void autocomplete_commandsAndDescriptionWords_followTaskList() throws Exception {
+        ArrayList<Task> loaded = new ArrayList<>();
+        loaded.add(new Todo("write quarterly report"));
+        TaskList tasks = new TaskList(loaded);
+        Autocomplete autocomplete = new Autocomplete(tasks, List.of("deadline", "delete", "find"));
+
+        assertEquals(List.of("deadline", "delete"), autocomplete.complete("de").getCandidates());
+        assertEquals("de", autocomplete.complete("de").getCommonPrefix());
+        Autocomplete.Completion completion = autocomplete.complete("find Rep");
+        assertEquals(5, completion.getWordStart());
+        assertEquals(List.of("report"), completion.getCandidates());
+
+        tasks.add(new Todo("repair bike"));
+        tasks.remove(0);
+        assertEquals(List.of("repair"), autocomplete.complete("find rep").getCandidates());
+        assertTrue(autocomplete.complete("find ").getCandidates().isEmpty());
+    }
+}
@@ -1,12 +1,20 @@
 package rei.list;
 
+import rei.task.Deadline;
+import rei.task.Priority;
 import rei.task.Task;
 import rei.task.Todo;
 import rei.exceptions.ReiExceptions;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 public class TaskListTest {
@@ -29,4 +37,156 @@ public class TaskListTest {
 
         assertThrows(ReiExceptions.class, () -> taskList.remove(0));
     }
+
+    @Test
+    public void selectByTags_andNotDone_excludesCompletedTasks() throws ReiExceptions {
+        TaskList taskList = new TaskList(new ArrayList<>());
+        taskList.add(tagged("write report", "work"));
+        taskList.add(tagged("submit form", "work"));
+        taskList.add(tagged("buy milk", "home"));
+        taskList.markDone(0);
+
+        BitSet matches = taskList.selectByTags("#work & !#done | #home");
+
+        assertEquals(bits(1, 2), matches);
+    }
+
+    @Test
+    public void selectByTags_afterRemove_shiftsLaterTasksAcrossWords() throws ReiExceptions {
+        TaskList taskList = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 200; i++) {
+            taskList.add(tagged("task " + i, i % 3 == 0 ? "three" : "other"));
+        }
+
+        taskList.remove(10);
+
+        BitSet matches = taskList.selectByTags("#three");
+        for (int i = 0; i < taskList.size(); i++) {
+            assertEquals(taskList.get(i).getTags().contains("three"), matches.get(i));
+        }
+    }
+
+    @Test
+    public void constructor_largeList_indexesTagsInParallel() throws ReiExceptions {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            tasks.add(tagged("task " + i, i % 2 == 0 ? "even" : "odd"));
+        }
+
+        TaskList taskList = new TaskList(tasks);
+
+        assertEquals(25_000, taskList.selectByTags("#even").cardinality());
+        assertTrue(taskList.selectByTags("#even & #odd").isEmpty());
+    }
+
+    @Test
+    public void selectByTags_notATag_throwsException() {
+        TaskList taskList = new TaskList(new ArrayList<>());
+
+        assertThrows(ReiExceptions.class, () -> taskList.selectByTags("work"));
+    }
+
+    @Test
+    public void getMostUrgent_afterMutations_matchesFullSort() throws ReiExceptions {
+        Random random = new Random(42);
+        TaskList taskList = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 300; i++) {
+            taskList.add(i % 4 == 0 ? new Todo("todo " + i) : new Deadline("deadline " + i, random.nextInt(100_000)));
+        }
+
+        for (int step = 0; step < 500; step++) {
+            int index = random.nextInt(taskList.size());
+            switch (random.nextInt(4)) {
+            case 0:
+                taskList.markDone(index);
+                break;
+            case 1:
+                taskList.markUndone(index);
+                break;
+            case 2:
+                taskList.setPriority(index, Priority.values()[random.nextInt(Priority.values().length)]);
+                break;
+            default:
+                taskList.remove(index);
+                taskList.add(new Deadline("replacement " + step, random.nextInt(100_000)));
+                break;
+            }
+
+            List<Long> expected = taskList.getAll().stream()
+                    .filter(Task::isActionable)
+                    .map(Task::getUrgencyKey)
+                    .sorted(Comparator.naturalOrder())
+                    .limit(10)
+                    .collect(Collectors.toList());
+            List<Long> actual = taskList.getMostUrgent(10).stream()
+                    .map(Task::getUrgencyKey)
+                    .collect(Collectors.toList());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void selectByTags_afterInsert_shiftsLaterTasksAcrossWords() throws ReiExceptions {
+        TaskList taskList = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 200; i++) {
+            taskList.add(tagged("task " + i, i % 3 == 0 ? "three" : "other"));
+        }
+
+        taskList.add(10, tagged("inserted early", "three"));
+        taskList.add(127, tagged("inserted at a word edge", "other"));
+        taskList.add(taskList.size(), tagged("inserted last", "three"));
+
+        BitSet matches = taskList.selectByTags("#three");
+        for (int i = 0; i < taskList.size(); i++) {
+            assertEquals(taskList.get(i).getTags().contains("three"), matches.get(i));
+        }
+        assertEquals("inserted early", taskList.get(10).getDescription());
+    }
+
+    private static Task tagged(String description, String tag) {
+        Task task = new Todo(description);
+        task.addTags(List.of(tag));
+        return task;
+    }
+
+    private static BitSet bits(int... indices) {
+        BitSet bits = new BitSet();
+        for (int index : indices) {
+            bits.set(index);
+        }
+        return bits;
+    }
+
+    @Test
+    public void add_assignsIncreasingIds_andChangesIncreaseVersions() throws ReiExceptions {
+        TaskList taskList = new TaskList(new ArrayList<>());
+        taskList.add(new Todo("read book"));
+        taskList.add(new Todo("write essay"));
+        taskList.remove(0);
+        taskList.add(new Todo("sleep"));
+
+        assertEquals(2, taskList.get(0).getId());
+        assertEquals(3, taskList.get(1).getId());
+        assertEquals(Task.FIRST_VERSION, taskList.get(0).getVersion());
+
+        taskList.markDone(0);
+        taskList.setPriority(0, Priority.HIGH);
+        assertEquals(Task.FIRST_VERSION + 2, taskList.get(0).getVersion());
+    }
+
+    @Test
+    public void replace_differentTags_reindexesPosition() throws ReiExceptions {
+        TaskList taskList = new TaskList(new ArrayList<>());
+        taskList.add(tagged("write report", "work"));
+        taskList.add(tagged("buy milk", "home"));
+        Task replacement = tagged("buy bread", "errands");
+        replacement.markDone();
+
+        taskList.replace(1, replacement);
+
+        assertEquals(bits(), taskList.selectByTags("#home"));
+        assertEquals(bits(1), taskList.selectByTags("#errands"));
+        assertEquals(bits(1), taskList.selectByTags("#done"));
+        assertEquals(bits(0), taskList.selectByTags("#work"));
+    }
 }
@@ -0,0 +1,44 @@
+package rei.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import rei.command.ListCommand;
+import rei.list.TaskList;
+import rei.storage.Storage;
+import rei.ui.GuiUi;
+
+public class CommandEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void run_duringRecording_emitsCommandEventWithClassAndTaskCount() throws Exception {
+        Path output = tempDir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class);
+            recording.start();
+            new ListCommand().run(new TaskList(new ArrayList<>()), new GuiUi(),
+                    new Storage(tempDir.resolve("tasks.txt").toString()));
+            recording.stop();
+            recording.dump(output);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(output);
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("rei.Command", event.getEventType().getName());
+        assertEquals(ListCommand.class.getName(), event.getClass("commandClass").getName());
+        assertEquals(0, event.getInt("taskCount"));
+    }
+}
@@ -0,0 +1,45 @@
+package rei.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketOf_everyValue_fallsWithinItsBucketBounds() {
+        long[] values = {0, 1, 3, 4, 5, 7, 8, 9, 1_000, 1_000_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(bucket), "upper bound of " + value);
+            assertTrue(bucket == 0 || value > LatencyHistogram.upperBoundOf(bucket - 1), "lower bound of " + value);
+        }
+    }
+
+    @Test
+    public void getPercentileNanos_uniformDurations_withinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        long median = histogram.getPercentileNanos(0.5);
+        assertTrue(median >= 500_000 && median <= 625_000, "median " + median);
+        long p99 = histogram.getPercentileNanos(0.99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 " + p99);
+        assertEquals(0, new LatencyHistogram("empty").getPercentileNanos(0.5));
+    }
+
+    @Test
+    public void report_afterTimedCommand_listsCommandClass() {
+        Metrics.getCommandLatency(String.class).record(2_000_000);
+
+        boolean isListed = false;
+        for (String row : Metrics.report()) {
+            isListed |= row.startsWith("command.String ");
+        }
+        assertTrue(isListed);
+        assertSame(Metrics.getCommandLatency(String.class), Metrics.getCommandLatency(String.class));
+    }
+}
@@ -0,0 +1,124 @@
+package rei.reminder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import rei.list.TaskList;
+import rei.task.Deadline;
+import rei.task.EpochMinutes;
+import rei.task.Task;
+import rei.task.Todo;
+import rei.ui.GuiUi;
+
+public class TimingWheelTest {
+
+    @Test
+    public void advanceTo_randomDueTicks_firesEachOnceInOrder() {
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        Random random = new Random(7);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long due = 1 + random.nextInt(400_000);
+            wheel.schedule(due, due);
+            expected.add(due);
+        }
+        expected.sort(null);
+
+        List<Long> fired = new ArrayList<>();
+        List<Long> firedAt = new ArrayList<>();
+        for (long tick = 0; tick < 400_000; tick += 997) {
+            wheel.advanceTo(tick + 997, due -> {
+                fired.add(due);
+                firedAt.add(wheel.getCurrentTick());
+            });
+        }
+
+        assertEquals(expected.size(), fired.size());
+        for (int i = 0; i < fired.size(); i++) {
+            assertEquals(fired.get(i), firedAt.get(i));
+        }
+        List<Long> sorted = new ArrayList<>(fired);
+        sorted.sort(null);
+        assertEquals(expected, sorted);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void cancel_pendingEntry_neverFires() {
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        TimingWheel.Entry<String> kept = wheel.schedule(5_000, "kept");
+        TimingWheel.Entry<String> cancelled = wheel.schedule(5_000, "cancelled");
+
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(10_000, fired::add);
+
+        assertEquals(List.of("kept"), fired);
+        assertFalse(kept.isPending());
+    }
+
+    @Test
+    public void schedule_pastTick_firesOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000);
+        wheel.schedule(10, "overdue");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(1_001, fired::add);
+
+        assertEquals(List.of("overdue"), fired);
+    }
+
+    @Test
+    public void reminderScheduler_deleteAndMark_cancelReminders() throws Exception {
+        long now = EpochMinutes.parseIso("2024-05-01T09:00");
+        List<Task> loaded = new ArrayList<>();
+        loaded.add(new Deadline("report", now + 90));
+        loaded.add(new Deadline("taxes", now + 120));
+        loaded.add(new Todo("read"));
+        TaskList tasks = new TaskList(new ArrayList<>(loaded));
+        List<String> reminders = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(new GuiUi(reminders::add), 60, now);
+        scheduler.track(tasks);
+        assertEquals(2, scheduler.getPendingCount());
+
+        tasks.remove(1);
+        tasks.add(new Deadline("slides", now + 100));
+        tasks.markDone(0);
+        scheduler.advanceTo(now + 60);
+
+        assertEquals(1, reminders.size());
+        assertTrue(reminders.get(0).contains("slides"));
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void reminderScheduler_replacedTasks_oldRemindersNeverFire() throws Exception {
+        long now = EpochMinutes.parseIso("2024-05-01T09:00");
+        TaskList tasks = new TaskList(new ArrayList<>(List.of(
+                new Deadline("report", now + 90), new Deadline("taxes", now + 100))));
+        List<String> reminders = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(new GuiUi(reminders::add), 60, now);
+        scheduler.track(tasks);
+
+        // As when another process marks one deadline done and moves the other later
+        Deadline doneCopy = new Deadline("report", now + 90);
+        doneCopy.markDone();
+        tasks.replace(0, doneCopy);
+        tasks.replace(1, new Deadline("taxes", now + 200));
+        scheduler.advanceTo(now + 60);
+
+        assertEquals(List.of(), reminders);
+        assertEquals(1, scheduler.getPendingCount());
+
+        scheduler.advanceTo(now + 140);
+
+        assertEquals(1, reminders.size());
+        assertTrue(reminders.get(0).contains("taxes"));
+        assertEquals(0, scheduler.getPendingCount());
+    }
+}
@@ -0,0 +1,98 @@
+package rei.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ApiServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new ApiServer(new WorkspaceRegistry(tempDir, 4, 1024 * 1024), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    private String request(String method, String path, String body, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + server.getPort() + path)
+                .openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(expectedStatus, connection.getResponseCode());
+        try (InputStream in = expectedStatus < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            in.transferTo(bytes);
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void addMarkFindAndDelete_roundTripThroughTheFile() throws Exception {
+        request("POST", "/tasks", "{\"input\": \"todo read book #home\"}", 200);
+        request("POST", "/tasks", "{\"input\": \"todo write essay\"}", 200);
+        request("POST", "/tasks/1/mark", null, 200);
+
+        assertEquals("{\"ok\":true,\"lines\":[\"Here are the matching tasks in your list:\","
+                + "\"1. [T][X] read book #home\"]}", request("GET", "/tasks?find=BOOK", null, 200));
+
+        request("DELETE", "/tasks/2", null, 200);
+        assertEquals(List.of("# version 4", "1:2 | T | 1 | read book #home"), Files.readAllLines(tempDir.resolve("Rei.txt")));
+    }
+
+    @Test
+    public void list_escapesQuotesInDescriptions() throws Exception {
+        request("POST", "/tasks", "{\"input\": \"todo read \\\"Dune\\\"\"}", 200);
+
+        assertEquals("{\"ok\":true,\"lines\":[\"Here are the tasks in your list:\","
+                + "\"1. [T][ ] read \\\"Dune\\\"\"]}", request("GET", "/tasks", null, 200));
+    }
+
+    @Test
+    public void invalidRequests_answerWithJsonErrors() throws Exception {
+        assertTrue(request("POST", "/tasks", "{\"input\": \"list\"}", 400).contains("\"ok\":false"));
+        assertTrue(request("POST", "/tasks", "not json", 400).contains("\"ok\":false"));
+        assertTrue(request("DELETE", "/tasks/7", null, 400).contains("OOPS!!!"));
+        assertTrue(request("PUT", "/tasks", null, 405).contains("not supported"));
+        request("GET", "/tasks/1/archive", null, 404);
+        request("GET", "/alice/notes", null, 404);
+        request("GET", "/al.ice/tasks", null, 404);
+    }
+
+    @Test
+    public void workspaces_keepSeparateTaskFiles() throws Exception {
+        request("POST", "/alice/tasks", "{\"input\": \"todo read book\"}", 200);
+        request("POST", "/bob/tasks", "{\"input\": \"todo write essay\"}", 200);
+
+        assertEquals("{\"ok\":true,\"lines\":[\"Here are the tasks in your list:\","
+                + "\"1. [T][ ] read book\"]}", request("GET", "/alice/tasks", null, 200));
+        assertEquals(List.of("# version 1", "1:1 | T | 0 | write essay"), Files.readAllLines(tempDir.resolve("bob.txt")));
+        assertFalse(Files.exists(tempDir.resolve("Rei.txt")));
+    }
+}
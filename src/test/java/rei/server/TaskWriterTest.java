@@ -0,0 +1,133 @@
+package rei.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import rei.command.Command;
+import rei.command.ListCommand;
+import rei.command.MarkCommand;
+import rei.command.TodoCommand;
+import rei.exceptions.ReiExceptions;
+import rei.list.TaskList;
+import rei.storage.DeferredStorage;
+import rei.storage.Storage;
+import rei.ui.UiInterface;
+
+public class TaskWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * A command that changes nothing until released, holding up the writer thread.
+     */
+    private static class BlockingCommand extends Command {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void execute(TaskList tasks, UiInterface ui, Storage storage) throws ReiExceptions {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new ReiExceptions("interrupted");
+            }
+            storage.save(tasks);
+        }
+    }
+
+    private TaskWriter newWriter() throws ReiExceptions {
+        DeferredStorage storage = new DeferredStorage(tempDir.resolve("tasks.txt").toString());
+        return new TaskWriter(new TaskList(storage.load()), storage);
+    }
+
+    @Test
+    public void submit_writesQueuedBehindABusyWriter_areSavedOnce() throws Exception {
+        try (TaskWriter writer = newWriter()) {
+            BlockingCommand blocker = new BlockingCommand();
+            CompletableFuture<ApiResponse> first = writer.submit(blocker);
+            assertTrue(blocker.started.await(5, TimeUnit.SECONDS));
+
+            List<CompletableFuture<ApiResponse>> queued = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                queued.add(writer.submit(new TodoCommand("task " + i)));
+            }
+            blocker.release.countDown();
+
+            assertEquals(ApiResponse.OK, first.get(5, TimeUnit.SECONDS).getStatus());
+            for (CompletableFuture<ApiResponse> response : queued) {
+                assertEquals(ApiResponse.OK, response.get(5, TimeUnit.SECONDS).getStatus());
+            }
+            assertEquals(2, writer.getStorage().getFlushCount());
+            // The version line and the 20 tasks
+            assertEquals(21, Files.readAllLines(tempDir.resolve("tasks.txt")).size());
+        }
+    }
+
+    @Test
+    public void read_afterAcknowledgedWrite_seesTheWrite() throws Exception {
+        try (TaskWriter writer = newWriter()) {
+            writer.submit(new TodoCommand("read book")).get(5, TimeUnit.SECONDS);
+            writer.submit(new MarkCommand(0)).get(5, TimeUnit.SECONDS);
+
+            ApiResponse response = writer.read(new ListCommand());
+
+            assertEquals(ApiResponse.OK, response.getStatus());
+            assertEquals("{\"ok\":true,\"lines\":[\"Here are the tasks in your list:\",\"1. [T][X] read book\"]}",
+                    response.getBody());
+        }
+    }
+
+    @Test
+    public void getSnapshot_isNotChangedByLaterWrites() throws Exception {
+        try (TaskWriter writer = newWriter()) {
+            writer.submit(new TodoCommand("read book")).get(5, TimeUnit.SECONDS);
+            TaskList snapshot = writer.getSnapshot();
+
+            writer.submit(new MarkCommand(0)).get(5, TimeUnit.SECONDS);
+            writer.submit(new TodoCommand("write essay")).get(5, TimeUnit.SECONDS);
+
+            assertEquals(1, snapshot.size());
+            assertFalse(snapshot.get(0).isDone());
+            assertEquals(2, writer.getSnapshot().size());
+        }
+    }
+
+    @Test
+    public void getSnapshot_afterWrite_copiesOnlyTheChangedTask() throws Exception {
+        try (TaskWriter writer = newWriter()) {
+            writer.submit(new TodoCommand("read book")).get(5, TimeUnit.SECONDS);
+            writer.submit(new TodoCommand("write essay")).get(5, TimeUnit.SECONDS);
+            TaskList before = writer.getSnapshot();
+
+            writer.submit(new MarkCommand(1)).get(5, TimeUnit.SECONDS);
+            TaskList after = writer.getSnapshot();
+
+            assertNotSame(before, after);
+            assertSame(before.get(0), after.get(0));
+            assertNotSame(before.get(1), after.get(1));
+            assertFalse(before.get(1).isDone());
+            assertTrue(after.get(1).isDone());
+        }
+    }
+
+    @Test
+    public void submit_invalidIndex_answersBadRequest() throws Exception {
+        try (TaskWriter writer = newWriter()) {
+            ApiResponse response = writer.submit(new MarkCommand(3)).get(5, TimeUnit.SECONDS);
+
+            assertEquals(ApiResponse.BAD_REQUEST, response.getStatus());
+            assertTrue(response.getBody().startsWith("{\"ok\":false,\"error\":\"OOPS!!!"));
+        }
+    }
+}
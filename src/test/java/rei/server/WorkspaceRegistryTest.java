@@ -0,0 +1,107 @@
+package rei.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import rei.exceptions.ReiExceptions;
+import rei.parser.Parser;
+
+public class WorkspaceRegistryTest {
+
+    private static final long LARGE_MEMORY = 64 * 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private static void add(WorkspaceRegistry registry, String workspace, String input) throws Exception {
+        try (WorkspaceRegistry.Lease lease = registry.acquire(workspace)) {
+            assertEquals(200, lease.getWriter().submit(Parser.parse(input)).get().getStatus());
+        }
+    }
+
+    @Test
+    public void acquire_loadsEachWorkspaceOnceFromItsOwnFile() throws Exception {
+        Files.write(tempDir.resolve("alice.txt"), List.of("T | 0 | read book"));
+        try (WorkspaceRegistry registry = new WorkspaceRegistry(tempDir, 4, LARGE_MEMORY)) {
+            assertEquals(0, registry.size());
+            for (int i = 0; i < 3; i++) {
+                try (WorkspaceRegistry.Lease lease = registry.acquire("alice")) {
+                    assertEquals(1, lease.getWriter().getSnapshot().size());
+                }
+            }
+            assertEquals(1, registry.getLoadCount());
+            assertEquals(1, registry.size());
+        }
+    }
+
+    @Test
+    public void release_overTheLimit_savesAndEvictsLeastRecentlyUsed() throws Exception {
+        try (WorkspaceRegistry registry = new WorkspaceRegistry(tempDir, 2, LARGE_MEMORY)) {
+            add(registry, "a", "todo first");
+            add(registry, "b", "todo second");
+            registry.acquire("a").close();
+            add(registry, "c", "todo third");
+
+            assertEquals(2, registry.size());
+            assertEquals(1, registry.getEvictionCount());
+            assertEquals(List.of("# version 1", "1:1 | T | 0 | second"), Files.readAllLines(tempDir.resolve("b.txt")));
+
+            // Loading b again reads back what was saved on eviction
+            try (WorkspaceRegistry.Lease lease = registry.acquire("b")) {
+                assertEquals("second", lease.getWriter().getSnapshot().get(0).getDescription());
+            }
+            assertEquals(4, registry.getLoadCount());
+        }
+    }
+
+    @Test
+    public void release_workspaceInUse_isNotEvicted() throws Exception {
+        try (WorkspaceRegistry registry = new WorkspaceRegistry(tempDir, 1, LARGE_MEMORY)) {
+            try (WorkspaceRegistry.Lease held = registry.acquire("a")) {
+                add(registry, "b", "todo second");
+                assertEquals(1, registry.size());
+                assertEquals(200, held.getWriter().submit(Parser.parse("todo first")).get().getStatus());
+            }
+            assertEquals(1, registry.size());
+            assertEquals(List.of("# version 1", "1:1 | T | 0 | first"), Files.readAllLines(tempDir.resolve("a.txt")));
+        }
+    }
+
+    @Test
+    public void release_overTheMemoryBound_evictsIdleWorkspaces() throws Exception {
+        // Each loaded workspace alone exceeds the bound, so only the one in use stays loaded
+        try (WorkspaceRegistry registry = new WorkspaceRegistry(tempDir, 100, 1)) {
+            add(registry, "a", "todo first");
+            add(registry, "b", "todo second");
+            assertEquals(0, registry.size());
+            assertEquals(0, registry.getEstimatedMemoryBytes());
+            assertEquals(2, registry.getEvictionCount());
+        }
+    }
+
+    @Test
+    public void acquire_invalidName_throws() {
+        try (WorkspaceRegistry registry = new WorkspaceRegistry(tempDir, 4, LARGE_MEMORY)) {
+            assertThrows(ReiExceptions.class, () -> registry.acquire("../etc"));
+            assertThrows(ReiExceptions.class, () -> registry.acquire(""));
+            assertEquals(0, registry.size());
+        }
+    }
+
+    @Test
+    public void close_savesEveryWorkspace() throws Exception {
+        WorkspaceRegistry registry = new WorkspaceRegistry(tempDir, 4, LARGE_MEMORY);
+        add(registry, "a", "todo first");
+        add(registry, "b", "todo second");
+        registry.close();
+
+        assertEquals(0, registry.size());
+        assertEquals(List.of("# version 1", "1:1 | T | 0 | first"), Files.readAllLines(tempDir.resolve("a.txt")));
+        assertEquals(List.of("# version 1", "1:1 | T | 0 | second"), Files.readAllLines(tempDir.resolve("b.txt")));
+    }
+}
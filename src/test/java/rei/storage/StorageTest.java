@@ -0,0 +1,352 @@
+package rei.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import rei.exceptions.ReiExceptions;
+import rei.list.TaskList;
+import rei.task.Priority;
+import rei.task.Task;
+import rei.task.Todo;
+
+public class StorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void load_chunked_deliversAllTasksInOrderWithProgress() throws Exception {
+        Path file = tempDir.resolve("tasks.txt");
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            lines.add("T | " + (i % 2) + " | task " + i);
+        }
+        Files.write(file, lines);
+
+        TaskList tasks = new TaskList(new ArrayList<>());
+        List<Integer> chunkSizes = new ArrayList<>();
+        long[] lastProgress = new long[2];
+        new Storage(file.toString()).load(10, (chunk, charactersRead, totalCharacters) -> {
+            tasks.addAll(chunk);
+            chunkSizes.add(chunk.size());
+            lastProgress[0] = charactersRead;
+            lastProgress[1] = totalCharacters;
+        });
+
+        assertEquals(List.of(10, 10, 5), chunkSizes);
+        assertEquals(25, tasks.size());
+        assertEquals("task 24", tasks.get(24).getDescription());
+        assertTrue(tasks.get(1).isDone());
+        assertTrue(lastProgress[0] > 0 && lastProgress[0] <= lastProgress[1]);
+    }
+
+    @Test
+    public void load_spacedDescriptionWithMarkers_keepsTheSpacingThroughASave() throws Exception {
+        Path file = tempDir.resolve("tasks.txt");
+        Files.write(file, List.of("T | 0 | call  mum   at 5 #family !high"));
+        Storage storage = new Storage(file.toString());
+
+        TaskList tasks = new TaskList(storage.load());
+        storage.save(tasks);
+
+        Task task = tasks.get(0);
+        assertEquals("call  mum   at 5", task.getDescription());
+        assertTrue(task.getTags().contains("family"));
+        assertEquals(Priority.HIGH, task.getPriority());
+        assertTrue(Files.readString(file).contains("| call  mum   at 5 #family !high"));
+    }
+
+    @Test
+    public void load_missingFile_createsEmptyFile() throws Exception {
+        Path file = tempDir.resolve("data").resolve("new.txt");
+
+        List<Task> loaded = new Storage(file.toString()).load();
+
+        assertTrue(loaded.isEmpty());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void save_thenLoad_roundTrips() throws Exception {
+        Path file = tempDir.resolve("round.txt");
+        ArrayList<Task> original = new ArrayList<>();
+        original.add(new Todo("read book"));
+        Storage storage = new Storage(file.toString());
+
+        storage.save(new TaskList(original));
+
+        assertEquals("[T][ ] read book", storage.load().get(0).toString());
+    }
+
+    @Test
+    public void save_failedSave_countsNoBytesWritten() throws Exception {
+        Path directory = Files.createDirectory(tempDir.resolve("taken.txt"));
+        Storage failing = new Storage(directory.toString());
+        Path file = tempDir.resolve("counted.txt");
+        Storage storage = new Storage(file.toString());
+        TaskList tasks = new TaskList(new ArrayList<>(List.of(new Todo("read book"))));
+
+        assertThrows(ReiExceptions.class, () -> failing.save(tasks));
+        storage.save(tasks);
+
+        assertEquals(0, failing.getBytesWritten());
+        assertEquals(Files.size(file), storage.getBytesWritten());
+    }
+
+    /**
+     * Loads a storage and its task list, as one writer of a shared file would.
+     */
+    private static TaskList loadList(Storage storage) throws Exception {
+        return new TaskList(storage.load());
+    }
+
+    private static Path sharedFile(Path directory, String... descriptions) throws Exception {
+        Path file = directory.resolve("shared.txt");
+        List<String> lines = new ArrayList<>();
+        for (String description : descriptions) {
+            lines.add("T | 0 | " + description);
+        }
+        Files.write(file, lines);
+        return file;
+    }
+
+    @Test
+    public void load_linesWithoutIds_getIdsInFileOrderAndSaveWithThem() throws Exception {
+        Path file = sharedFile(tempDir, "read book", "write essay");
+        Storage storage = new Storage(file.toString());
+        TaskList tasks = loadList(storage);
+
+        assertEquals(1, tasks.get(0).getId());
+        assertEquals(2, tasks.get(1).getId());
+        tasks.markDone(1);
+        storage.save(tasks);
+
+        assertEquals(List.of("# version 1", "1:1 | T | 0 | read book", "2:2 | T | 1 | write essay"),
+                Files.readAllLines(file));
+        Task reloaded = new Storage(file.toString()).load().get(1);
+        assertEquals(2, reloaded.getId());
+        assertEquals(2, reloaded.getVersion());
+    }
+
+    @Test
+    public void save_otherWriterChangedAnotherTask_keepsBothChanges() throws Exception {
+        Path file = sharedFile(tempDir, "read book", "write essay");
+        Storage first = new Storage(file.toString());
+        Storage second = new Storage(file.toString());
+        TaskList firstTasks = loadList(first);
+        TaskList secondTasks = loadList(second);
+
+        firstTasks.markDone(0);
+        first.save(firstTasks);
+        secondTasks.setPriority(1, Priority.HIGH);
+        second.save(secondTasks);
+
+        assertEquals(List.of("# version 2", "1:2 | T | 1 | read book", "2:2 | T | 0 | write essay !high"),
+                Files.readAllLines(file));
+        assertTrue(secondTasks.get(0).isDone());
+        assertEquals(1, second.getMergeCount());
+        assertEquals(0, second.getConflictCount());
+    }
+
+    @Test
+    public void save_bothWritersAddAndDelete_keepsAdditionsWithDistinctIds() throws Exception {
+        Path file = sharedFile(tempDir, "read book", "write essay");
+        Storage first = new Storage(file.toString());
+        Storage second = new Storage(file.toString());
+        TaskList firstTasks = loadList(first);
+        TaskList secondTasks = loadList(second);
+
+        firstTasks.remove(0);
+        firstTasks.add(new Todo("buy milk"));
+        first.save(firstTasks);
+        secondTasks.add(new Todo("call mom"));
+        second.save(secondTasks);
+
+        List<Task> saved = new Storage(file.toString()).load();
+        assertEquals(List.of("write essay", "buy milk", "call mom"),
+                saved.stream().map(Task::getDescription).collect(java.util.stream.Collectors.toList()));
+        assertEquals(3, saved.stream().mapToLong(Task::getId).distinct().count());
+        assertEquals(0, second.getConflictCount());
+    }
+
+    @Test
+    public void reloadChanges_bothWritersAdded_keepTheSameOrderAsTheFile() throws Exception {
+        Path file = sharedFile(tempDir, "read book", "write essay");
+        Storage first = new Storage(file.toString());
+        Storage second = new Storage(file.toString());
+        TaskList firstTasks = loadList(first);
+        TaskList secondTasks = loadList(second);
+
+        firstTasks.add(new Todo("added by first"));
+        secondTasks.add(new Todo("added by second"));
+        first.save(firstTasks);
+        second.save(secondTasks);
+        first.reloadChanges(firstTasks);
+
+        List<String> expected = List.of("read book", "write essay", "added by first", "added by second");
+        assertEquals(expected, descriptions(firstTasks.getAll()));
+        assertEquals(expected, descriptions(secondTasks.getAll()));
+        assertEquals(expected, descriptions(new Storage(file.toString()).load()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(firstTasks.get(i).getId(), secondTasks.get(i).getId());
+        }
+
+        // Unsaved additions stay behind the tasks merged in from the file
+        secondTasks.add(new Todo("unsaved"));
+        firstTasks.add(new Todo("saved later"));
+        first.save(firstTasks);
+        second.reloadChanges(secondTasks);
+        assertEquals("saved later", secondTasks.get(4).getDescription());
+        assertEquals("unsaved", secondTasks.get(5).getDescription());
+    }
+
+    private static List<String> descriptions(List<Task> tasks) {
+        return tasks.stream().map(Task::getDescription).collect(java.util.stream.Collectors.toList());
+    }
+
+    @Test
+    public void save_bothWritersChangedTheSameTask_keepsThisWritersChangeAsAConflict() throws Exception {
+        Path file = sharedFile(tempDir, "read book");
+        Storage first = new Storage(file.toString());
+        Storage second = new Storage(file.toString());
+        TaskList firstTasks = loadList(first);
+        TaskList secondTasks = loadList(second);
+
+        firstTasks.setPriority(0, Priority.LOW);
+        first.save(firstTasks);
+        secondTasks.setPriority(0, Priority.HIGH);
+        second.save(secondTasks);
+
+        assertEquals(1, second.getConflictCount());
+        assertEquals(Priority.HIGH, new Storage(file.toString()).load().get(0).getPriority());
+
+        // The first writer then sees the second writer's change as the newer one
+        firstTasks.add(new Todo("write essay"));
+        first.save(firstTasks);
+        assertEquals(Priority.HIGH, firstTasks.get(0).getPriority());
+        assertEquals(0, first.getConflictCount());
+    }
+
+    @Test
+    public void save_deletedByOtherWriterButChangedHere_keepsTheChange() throws Exception {
+        Path file = sharedFile(tempDir, "read book", "write essay");
+        Storage first = new Storage(file.toString());
+        Storage second = new Storage(file.toString());
+        TaskList firstTasks = loadList(first);
+        TaskList secondTasks = loadList(second);
+
+        firstTasks.remove(0);
+        firstTasks.remove(0);
+        first.save(firstTasks);
+        secondTasks.markDone(1);
+        second.save(secondTasks);
+
+        List<Task> saved = new Storage(file.toString()).load();
+        assertEquals(1, saved.size());
+        assertEquals("[T][X] write essay", saved.get(0).toString());
+        assertEquals(1, second.getConflictCount());
+    }
+
+    @Test
+    public void save_fileDeletedSinceLoad_writesTheListAgain() throws Exception {
+        Path file = sharedFile(tempDir, "read book", "write essay");
+        Storage storage = new Storage(file.toString());
+        TaskList tasks = loadList(storage);
+        storage.save(tasks);
+
+        Files.delete(file);
+        assertFalse(storage.reloadChanges(tasks));
+        tasks.markDone(0);
+        storage.save(tasks);
+        tasks.markDone(1);
+        storage.save(tasks);
+
+        assertEquals(List.of("# version 3", "1:2 | T | 1 | read book", "2:2 | T | 1 | write essay"),
+                Files.readAllLines(file));
+        assertEquals(0, storage.getMergeCount());
+    }
+
+    @Test
+    public void reloadChanges_appliesOnlyWhatTheOtherWriterChanged() throws Exception {
+        Path file = sharedFile(tempDir, "read book", "write essay", "sleep");
+        Storage first = new Storage(file.toString());
+        Storage second = new Storage(file.toString());
+        TaskList firstTasks = loadList(first);
+        TaskList secondTasks = loadList(second);
+        Task untouched = secondTasks.get(0);
+
+        assertFalse(second.reloadChanges(secondTasks));
+        firstTasks.markDone(1);
+        firstTasks.remove(2);
+        firstTasks.add(new Todo("buy milk"));
+        first.save(firstTasks);
+
+        assertTrue(second.reloadChanges(secondTasks));
+        assertSame(untouched, secondTasks.get(0));
+        assertEquals("[T][X] write essay", secondTasks.get(1).toString());
+        assertEquals("buy milk", secondTasks.get(2).getDescription());
+        assertEquals(3, secondTasks.size());
+        assertEquals(first.getListVersion(), second.getListVersion());
+
+        // Nothing new to merge, so the next save writes straight over the file
+        secondTasks.markDone(0);
+        second.save(secondTasks);
+        assertEquals(1, second.getMergeCount());
+    }
+
+    @Test
+    public void save_concurrentWritersOfOneFile_loseNoTasks() throws Exception {
+        Path file = sharedFile(tempDir);
+        int addsPerWriter = 25;
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+        List<Future<?>> results = new ArrayList<>();
+        for (int writer = 0; writer < 2; writer++) {
+            String name = "writer " + writer;
+            results.add(writers.submit(() -> {
+                Storage storage = new Storage(file.toString());
+                TaskList tasks = loadList(storage);
+                for (int i = 0; i < addsPerWriter; i++) {
+                    tasks.add(new Todo(name + " task " + i));
+                    storage.save(tasks);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        writers.shutdown();
+
+        assertEquals(2 * addsPerWriter, new Storage(file.toString()).load().size());
+    }
+
+    @Test
+    public void watch_saveByAnotherWriter_isAppliedToTheLiveList() throws Exception {
+        Path file = sharedFile(tempDir, "read book");
+        Storage first = new Storage(file.toString());
+        Storage second = new Storage(file.toString());
+        TaskList firstTasks = loadList(first);
+        TaskList secondTasks = loadList(second);
+
+        try (FileWatcher watcher = second.watch(secondTasks, Runnable::run)) {
+            firstTasks.markDone(0);
+            first.save(firstTasks);
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (watcher.getReloadCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, watcher.getReloadCount());
+        }
+        assertTrue(secondTasks.get(0).isDone());
+    }
+}
@@ -0,0 +1,51 @@
+package rei.task;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+public class EpochMinutesTest {
+
+    @Test
+    public void parseIso_matchesLocalDateTime() {
+        String[] samples = {"2019-12-02T18:00", "1970-01-01T00:00", "1969-12-31T23:59",
+            "2000-02-29T12:30", "2100-03-01T00:01", "0001-01-01T00:00"};
+
+        for (String sample : samples) {
+            LocalDateTime expected = LocalDateTime.parse(sample);
+            assertEquals(EpochMinutes.of(expected), EpochMinutes.parseIso(sample), sample);
+        }
+    }
+
+    @Test
+    public void toIso_roundTripsThroughParse() {
+        for (long minute = -3_000_000L; minute < 60_000_000L; minute += 7_919L) {
+            String iso = EpochMinutes.toIso(minute);
+
+            assertEquals(EpochMinutes.toLocalDateTime(minute).toString(), iso);
+            assertEquals(minute, EpochMinutes.parseIso(iso));
+        }
+    }
+
+    @Test
+    public void parseIso_withSeconds_fallsBackToFullParser() {
+        assertEquals(EpochMinutes.parseIso("2019-12-02T18:00"),
+                EpochMinutes.parseIso("2019-12-02T18:00:30"));
+    }
+
+    @Test
+    public void parseIso_invalidDate_throwsException() {
+        assertThrows(Exception.class, () -> EpochMinutes.parseIso("2019-02-30T18:00"));
+        assertThrows(Exception.class, () -> EpochMinutes.parseIso("not a date"));
+    }
+
+    @Test
+    public void deadline_keepsLocalDateTimeAccessor() {
+        LocalDateTime ddl = LocalDateTime.of(2019, 12, 2, 18, 0);
+        Deadline deadline = new Deadline("return book", ddl);
+
+        assertEquals(ddl, deadline.getDeadline());
+        assertEquals("D | 0 | return book | 2019-12-02T18:00", deadline.toFileString());
+    }
+}
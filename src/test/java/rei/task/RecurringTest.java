@@ -0,0 +1,72 @@
+package rei.task;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class RecurringTest {
+
+    private static long minute(String iso) {
+        return EpochMinutes.parseIso(iso);
+    }
+
+    @Test
+    public void getOccurrencesBetween_weekly_expandsOnlyWindow() {
+        Recurring standup = new Recurring("standup", minute("2024-01-01T10:00"), 15,
+                new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, 1, EpochMinutes.NONE));
+
+        List<Recurring.Occurrence> occurrences =
+                standup.getOccurrencesBetween(minute("2030-01-01T00:00"), minute("2030-01-15T00:00"));
+
+        assertEquals(2, occurrences.size());
+        assertEquals(minute("2030-01-07T10:00"), occurrences.get(0).getStartMinute());
+        assertEquals(minute("2030-01-14T10:00"), occurrences.get(1).getStartMinute());
+    }
+
+    @Test
+    public void getOccurrencesBetween_monthly_clampsToEndOfMonth() {
+        Recurring rent = new Recurring("rent", minute("2024-01-31T09:00"), 0,
+                new RecurrenceRule(RecurrenceRule.Frequency.MONTHLY, 1, EpochMinutes.NONE));
+
+        List<Recurring.Occurrence> occurrences =
+                rent.getOccurrencesBetween(minute("2024-02-01T00:00"), minute("2024-04-01T00:00"));
+
+        assertEquals(2, occurrences.size());
+        assertEquals(minute("2024-02-29T09:00"), occurrences.get(0).getStartMinute());
+        assertEquals(minute("2024-03-31T09:00"), occurrences.get(1).getStartMinute());
+    }
+
+    @Test
+    public void getOccurrencesBetween_untilReached_stopsExpanding() {
+        Recurring rent = new Recurring("rent", minute("2024-01-15T09:00"), 0,
+                new RecurrenceRule(RecurrenceRule.Frequency.MONTHLY, 1, minute("2024-03-15T09:00")));
+
+        assertEquals(3, rent.getOccurrencesBetween(minute("2024-01-01T00:00"),
+                minute("2025-01-01T00:00")).size());
+    }
+
+    @Test
+    public void markOccurrenceDone_tracksOnlyThatOccurrence() {
+        Recurring standup = new Recurring("standup", minute("2024-01-01T10:00"), 15,
+                new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, 2, EpochMinutes.NONE));
+
+        assertFalse(standup.markOccurrenceDone(minute("2024-01-08T10:00")));
+        assertTrue(standup.markOccurrenceDone(minute("2024-01-01T10:00")));
+
+        assertTrue(standup.getOccurrenceAt(minute("2024-01-01T10:00")).isDone());
+        assertFalse(standup.getOccurrenceAt(minute("2024-01-15T10:00")).isDone());
+        assertEquals(minute("2024-01-15T10:00"), standup.getNextPendingMinute());
+    }
+
+    @Test
+    public void toFileString_roundTripsCompletedOccurrences() {
+        Recurring standup = new Recurring("standup", EpochMinutes.of(LocalDateTime.of(2024, 1, 1, 10, 0)), 15,
+                new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, 1, EpochMinutes.NONE),
+                Recurring.parseOrdinals("0-2,5"));
+
+        assertEquals("R | 0 | standup | 2024-01-01T10:00 | 15 | FREQ=WEEKLY;INTERVAL=1 | 0-2,5",
+                standup.toFileString());
+    }
+}
@@ -24,4 +24,18 @@ public class TaskTest {
         assertFalse(task.isDone(), "Task should be marked as not done");
     }
 
+    @Test
+    public void tagsStrip_spacedDescription_keepsTheSpacing() {
+        assertEquals("call  mum   at 5", Tags.strip("call  mum   at 5 #family #phone"));
+        assertEquals("call  mum", Tags.strip("#family call  mum"));
+        assertEquals("call  mum", Tags.strip("call  #family mum"));
+    }
+
+    @Test
+    public void tagsStrip_noTags_returnsTheTextUnchanged() {
+        String text = "call  mum   at 5";
+
+        assertSame(text, Tags.strip(text));
+    }
+
 }
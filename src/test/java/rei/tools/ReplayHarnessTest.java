@@ -0,0 +1,48 @@
+package rei.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ReplayHarnessTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void replay_script_runsEveryCommandAndCountsSavedBytes() throws Exception {
+        Path data = tempDir.resolve("tasks.txt");
+        Files.writeString(data, "T | 0 | existing task\n");
+        List<String> script = List.of("todo read book", "mark 2", "list", "bye");
+
+        StringWriter output = new StringWriter();
+        ReplayHarness.Report report = ReplayHarness.replay(data.toString(), script.iterator(), output);
+
+        assertEquals(4, report.getCommandCount());
+        assertEquals(3, report.getLatency().getCount());
+        assertTrue(report.getThroughput() > 0);
+        // Adding and marking each rewrite the same two lines
+        assertEquals(2 * Files.size(data), report.getBytesWritten());
+        assertTrue(output.toString().contains("2. [T][X] read book"));
+        assertTrue(output.toString().contains("Bye. Have a nice day."));
+    }
+
+    @Test
+    public void findFirstDifference_ignoresLineSeparatorsAndReportsLine() throws Exception {
+        Path actual = tempDir.resolve("actual.txt");
+        Path golden = tempDir.resolve("golden.txt");
+        Files.writeString(actual, "a\nb\nc\n");
+        Files.writeString(golden, "a\r\nb\r\nc\r\n");
+        assertEquals(0, ReplayHarness.findFirstDifference(actual, golden));
+
+        Files.writeString(golden, "a\nx\nc\n");
+        assertEquals(2, ReplayHarness.findFirstDifference(actual, golden));
+        Files.writeString(golden, "a\nb\n");
+        assertEquals(3, ReplayHarness.findFirstDifference(actual, golden));
+    }
+}
@@ -0,0 +1,27 @@
+package rei.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupBenchmarkTest {
+
+    @Test
+    public void parseReport_startupLine_returnsMillis() {
+        assertEquals(182, StartupBenchmark.parseReport("startup cli 182 ms"));
+        assertEquals(1043, StartupBenchmark.parseReport("startup gui 1043 ms"));
+    }
+
+    @Test
+    public void parseReport_otherLines_returnsMinusOne() {
+        assertEquals(-1, StartupBenchmark.parseReport("Unable to start the flight recording: no such file"));
+        assertEquals(-1, StartupBenchmark.parseReport("startup cli soon ms"));
+        assertEquals(-1, StartupBenchmark.parseReport(""));
+    }
+
+    @Test
+    public void formatSeries_sortedRuns_reportsMedianMinAndMax() {
+        String line = StartupBenchmark.formatSeries("with archive", new long[] {90, 95, 120});
+        assertEquals("with archive     median   95 ms   min   90 ms   max  120 ms", line);
+    }
+}
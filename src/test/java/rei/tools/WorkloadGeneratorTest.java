@@ -0,0 +1,69 @@
+package rei.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import rei.storage.Storage;
+import rei.task.Task;
+
+public class WorkloadGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void writeTasks_sameSeed_sameOutputThatStorageLoads() throws Exception {
+        WorkloadGenerator.Options options = WorkloadGenerator.Options.parse(new String[] {
+            "--tasks", "500", "--seed", "7", "--mix", "1:1:1:1", "--done", "0.5", "--words", "3-3"});
+        StringWriter first = new StringWriter();
+        new WorkloadGenerator(options).writeTasks(first);
+        StringWriter second = new StringWriter();
+        new WorkloadGenerator(options).writeTasks(second);
+        assertEquals(first.toString(), second.toString());
+
+        Path file = tempDir.resolve("tasks.txt");
+        Files.writeString(file, first.toString());
+        ArrayList<Task> tasks = new Storage(file.toString()).load();
+        assertEquals(500, tasks.size());
+        long doneCount = tasks.stream().filter(Task::isDone).count();
+        assertTrue(doneCount > 200 && doneCount < 300, "done " + doneCount);
+        assertEquals(3, tasks.get(0).getDescription().split(" ").length);
+    }
+
+    @Test
+    public void writeScript_endsWithByeAndOnlyReferencesExistingTasks() throws Exception {
+        WorkloadGenerator.Options options = new WorkloadGenerator.Options().setTaskCount(3).setCommandCount(200);
+        Writer script = new StringWriter();
+        new WorkloadGenerator(options).writeScript(script);
+
+        String[] lines = script.toString().split(System.lineSeparator());
+        assertEquals(201, lines.length);
+        assertEquals("bye", lines[200]);
+        long taskCount = 3;
+        for (int i = 0; i < 200; i++) {
+            String[] words = lines[i].split(" ");
+            if (words[0].matches("mark|unmark|delete|priority")) {
+                long number = Long.parseLong(words[1]);
+                assertTrue(number >= 1 && number <= taskCount, lines[i]);
+            }
+            if (words[0].equals("delete")) {
+                taskCount--;
+            } else if (words[0].matches("todo|deadline|event|recur")) {
+                taskCount++;
+            }
+        }
+    }
+
+    @Test
+    public void parse_unknownOption_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> WorkloadGenerator.Options.parse(new String[] {"--bogus", "1"}));
+    }
+}
@@ -0,0 +1,41 @@
+package rei.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import rei.task.Deadline;
+import rei.task.EpochMinutes;
+import rei.task.Todo;
+
+public class TaskRowTest {
+
+    @Test
+    public void of_laterChangesToTask_doNotAffectSnapshot() {
+        Deadline report = new Deadline("report", EpochMinutes.parseIso("2024-03-01T17:00"));
+        report.addTags(List.of("work"));
+
+        TaskRow row = TaskRow.of(report);
+        report.markDone();
+
+        assertFalse(row.isDone());
+        assertEquals("Deadline", row.getType());
+        assertEquals(List.of("work"), row.getTags());
+        assertEquals("Mar 01 2024 17:00", row.formatDue());
+    }
+
+    @Test
+    public void matches_tagOrText_filtersRows() {
+        Todo todo = new Todo("Buy Milk");
+        todo.addTags(List.of("home"));
+        TaskRow row = TaskRow.of(todo);
+
+        assertTrue(row.matches("  "));
+        assertTrue(row.matches("milk"));
+        assertTrue(row.matches("#Home"));
+        assertFalse(row.matches("#hom"));
+        assertFalse(row.matches("bread"));
+        assertEquals("", row.formatDue());
+    }
+}
@@ -0,0 +1,79 @@
+package rei.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+
+import rei.storage.TranscriptArchive;
+
+public class TranscriptTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void append_beyondCapacity_keepsWindowBoundedAndPagesHistoryBack() throws Exception {
+        String path = tempDir.resolve("transcript.dat").toString();
+        Transcript transcript = new Transcript(new TranscriptArchive(path), Transcript.BLOCK_SIZE);
+        int dropped = 0;
+        for (int i = 0; i < 350; i++) {
+            dropped += transcript.append(new ChatMessage("message " + i, i % 2 == 0));
+        }
+
+        assertEquals(250, dropped);
+        assertEquals(Transcript.BLOCK_SIZE, transcript.size());
+        assertEquals("message 250", transcript.getMessages().get(0).getText());
+
+        while (transcript.hasOlder()) {
+            transcript.loadOlder();
+        }
+        List<ChatMessage> all = transcript.getMessages();
+        assertEquals(350, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals("message " + i, all.get(i).getText());
+            assertEquals(i % 2 == 0, all.get(i).isFromUser());
+        }
+    }
+
+    @Test
+    public void close_thenReopen_continuesPreviousSession() throws Exception {
+        String path = tempDir.resolve("transcript.dat").toString();
+        Transcript first = new Transcript(new TranscriptArchive(path), Transcript.BLOCK_SIZE);
+        for (int i = 0; i < 130; i++) {
+            first.append(new ChatMessage("old " + i, false));
+        }
+        first.close();
+
+        Transcript second = new Transcript(new TranscriptArchive(path), Transcript.BLOCK_SIZE);
+        assertEquals(0, second.size());
+        second.append(new ChatMessage("new", true));
+
+        List<ChatMessage> page = second.loadOlder();
+        assertEquals(30, page.size());
+        assertEquals("old 100", page.get(0).getText());
+        assertEquals(100, second.loadOlder().size());
+        assertFalse(second.hasOlder());
+        assertEquals("new", second.getMessages().get(130).getText());
+    }
+
+    @Test
+    public void open_truncatedBlock_discardsPartialWrite() throws Exception {
+        String path = tempDir.resolve("transcript.dat").toString();
+        TranscriptArchive archive = new TranscriptArchive(path);
+        archive.append(List.of(new ChatMessage("kept", true)));
+        archive.append(List.of(new ChatMessage("lost", false)));
+        archive.close();
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        TranscriptArchive reopened = new TranscriptArchive(path);
+        assertEquals(1, reopened.getMessageCount());
+        assertEquals("kept", reopened.readPageBefore(1).get(0).getText());
+        reopened.close();
+    }
+}